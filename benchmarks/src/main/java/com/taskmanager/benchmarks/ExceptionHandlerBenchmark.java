@@ -0,0 +1,71 @@
+package com.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.common.exception.ErrorResponse;
+import com.taskmanager.api.common.exception.GlobalExceptionHandler;
+import com.taskmanager.api.common.exception.ResourceNotFoundException;
+import com.taskmanager.api.task.CreateTaskRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error paths end to end: exception construction (including stack capture), the handler, and the JSON body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private MethodParameter createTaskParameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        objectMapper = Fixtures.objectMapper();
+        request = new MockHttpServletRequest("GET", "/api/tasks/550e8400-e29b-41d4-a716-446655440001");
+        createTaskParameter = new MethodParameter(
+                ExceptionHandlerBenchmark.class.getDeclaredMethod("createTask", CreateTaskRequest.class), 0);
+    }
+
+    @Benchmark
+    public byte[] notFound() throws JsonProcessingException {
+        ResponseEntity<ErrorResponse> response =
+                handler.handleResourceNotFound(new ResourceNotFoundException("Task not found"), request);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public byte[] badRequest() throws JsonProcessingException {
+        ResponseEntity<ErrorResponse> response = handler.handleIllegalArgument(
+                new IllegalArgumentException("Cannot create a task with DELETED status"), request);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public byte[] validationFailed() throws JsonProcessingException {
+        CreateTaskRequest target = new CreateTaskRequest();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(target, "createTaskRequest");
+        bindingResult.rejectValue("title", "NotBlank", "Title is required");
+        ResponseEntity<ErrorResponse> response = handler.handleValidationErrors(
+                new MethodArgumentNotValidException(createTaskParameter, bindingResult), request);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    // Signature stand-in for TaskController.createTask, used only to build a MethodParameter
+    @SuppressWarnings("unused")
+    private void createTask(CreateTaskRequest request) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.task.Task;
+import com.taskmanager.api.task.TaskPriority;
+import com.taskmanager.api.task.TaskStatus;
+import com.taskmanager.api.user.User;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class Fixtures {
+
+    static final String JWT_SECRET = "benchmarkSecretKeyForJWTTokenGenerationMustBeAtLeast256BitsLong";
+
+    private Fixtures() {
+    }
+
+    /**
+     * Same defaults Spring Boot applies to the application's ObjectMapper (JSR-310 module, ISO dates).
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static User user() {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+        user.setEmail("bench@example.com");
+        user.setPasswordHash("$2a$10$abcdefghijklmnopqrstuuJ9y1F1Z8nH6R4yLr0P7m0o3a8z6Y5e");
+        return user;
+    }
+
+    /**
+     * Fully populated tasks, as JPA would hand them to the controller.
+     */
+    static List<Task> tasks(User owner, int count) {
+        TaskStatus[] statuses = {TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.DONE};
+        TaskPriority[] priorities = TaskPriority.values();
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            ReflectionTestUtils.setField(task, "id", UUID.randomUUID());
+            ReflectionTestUtils.setField(task, "createdAt", now.minusSeconds(i * 60L));
+            ReflectionTestUtils.setField(task, "updatedAt", now.minusSeconds(i * 30L));
+            task.setOwner(owner);
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Description for benchmark task number " + i + " with a realistic amount of text.");
+            task.setStatus(statuses[i % statuses.length]);
+            task.setPriority(priorities[i % priorities.length]);
+            task.setDueDate(LocalDate.of(2026, 2, 1).plusDays(i % 30));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
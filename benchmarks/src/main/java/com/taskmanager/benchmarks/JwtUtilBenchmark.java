@@ -0,0 +1,60 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.api.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login/refresh and verification on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UUID userId;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(Fixtures.JWT_SECRET, 3_600_000, 604_800_000);
+        userId = UUID.randomUUID();
+        accessToken = jwtUtil.generateAccessToken(userId, "bench@example.com");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(userId, "bench@example.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    /**
+     * The single parse JwtAuthFilter makes per request.
+     */
+    @Benchmark
+    public Optional<UUID> authFilterVerification() {
+        return jwtUtil.parseAccessToken(accessToken);
+    }
+
+    /**
+     * What JwtAuthFilter did before parseAccessToken: three full parses per request.
+     */
+    @Benchmark
+    public void authFilterVerificationThreeParses(Blackhole blackhole) {
+        if (jwtUtil.validateToken(accessToken) && jwtUtil.isAccessToken(accessToken)) {
+            blackhole.consume(jwtUtil.getUserIdFromToken(accessToken));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.config.RateLimitConfig;
+import com.taskmanager.api.observability.TimedJacksonHttpMessageConverter;
+import com.taskmanager.api.security.RateLimitFilter;
+import com.taskmanager.api.task.TaskResponse;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the request-path instrumentation: the same component with a Prometheus registry (percentile
+ * histograms on) and with a registry that denies every meter, so the difference is the metrics overhead.
+ * Budget: at most 250 ns per timed stage and 1 µs per request in total, i.e. well under 1% of a list request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private Timer histogramTimer;
+    private RateLimitFilter plainRateLimitFilter;
+    private RateLimitFilter timedRateLimitFilter;
+    private MappingJackson2HttpMessageConverter plainConverter;
+    private MappingJackson2HttpMessageConverter timedConverter;
+    private MockHttpServletRequest request;
+    private Page<TaskResponse> page;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry prometheus = prometheusRegistry();
+        MeterRegistry disabled = new SimpleMeterRegistry();
+        disabled.config().meterFilter(MeterFilter.deny());
+
+        histogramTimer = Timer.builder("bench.timer").register(prometheus);
+
+        RateLimitConfig rateLimitConfig = new RateLimitConfig();
+        // Keep every request on the allowed path
+        ReflectionTestUtils.setField(rateLimitConfig, "apiRequestsPerMinute", 1_000_000_000L);
+        plainRateLimitFilter = new RateLimitFilter(rateLimitConfig, disabled);
+        timedRateLimitFilter = new RateLimitFilter(rateLimitConfig, prometheus);
+        request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer benchmark-token");
+
+        ObjectMapper objectMapper = Fixtures.objectMapper();
+        plainConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        timedConverter = new TimedJacksonHttpMessageConverter(objectMapper, prometheus);
+        page = new PageImpl<>(Fixtures.tasks(Fixtures.user(), 20).stream().map(TaskResponse::from).toList(),
+                PageRequest.of(0, 20), 1_000);
+    }
+
+    private static MeterRegistry prometheusRegistry() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        return registry;
+    }
+
+    @Benchmark
+    public void timerRecord() {
+        histogramTimer.record(1_234, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rateLimitFilterPlain() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        plainRateLimitFilter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rateLimitFilterTimed() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        timedRateLimitFilter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writePagePlain() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        plainConverter.write(page, MediaType.APPLICATION_JSON, output);
+        return output;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writePageTimed() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        timedConverter.write(page, MediaType.APPLICATION_JSON, output);
+        return output;
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.api.config.RateLimitConfig;
+import io.github.bucket4j.Bucket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bucket resolution plus the tryConsume decision RateLimitFilter makes, under 8 concurrent threads.
+ * Buckets run dry after their quota, so this measures the decision cost rather than the allowed path only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RateLimitBenchmark {
+
+    private static final int DISTINCT_KEYS = 10_000;
+
+    private RateLimitConfig rateLimitConfig;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        rateLimitConfig = new RateLimitConfig();
+        keys = new String[DISTINCT_KEYS];
+        for (int i = 0; i < DISTINCT_KEYS; i++) {
+            keys[i] = String.valueOf(("Bearer token-" + i).hashCode());
+            rateLimitConfig.resolveApiBucket(keys[i]);
+        }
+    }
+
+    /**
+     * Every thread hits the same bucket: worst-case CAS contention on one client.
+     */
+    @Benchmark
+    public boolean sameKey() {
+        Bucket bucket = rateLimitConfig.resolveApiBucket(keys[0]);
+        return bucket.tryConsume(1);
+    }
+
+    /**
+     * Threads spread over many existing buckets: the typical multi-user case.
+     */
+    @Benchmark
+    public boolean distinctKeys() {
+        String key = keys[ThreadLocalRandom.current().nextInt(DISTINCT_KEYS)];
+        return rateLimitConfig.resolveApiBucket(key).tryConsume(1);
+    }
+
+    /**
+     * First request from a new client: bucket creation and map insertion.
+     */
+    @Benchmark
+    public Bucket newKey(NewKeys newKeys) {
+        return newKeys.next();
+    }
+
+    /**
+     * Keys no bucket exists for yet. Each thread inserts into its own RateLimitConfig and starts a fresh one
+     * every NEW_KEYS_PER_MAP keys; a single map taking every new key would grow by tens of millions of
+     * buckets per run, and the score would measure its resizing and the garbage collector.
+     */
+    @State(Scope.Thread)
+    public static class NewKeys {
+
+        private static final int NEW_KEYS_PER_MAP = 100_000;
+
+        private final String[] keys = new String[NEW_KEYS_PER_MAP];
+        private RateLimitConfig rateLimitConfig;
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            long base = ThreadLocalRandom.current().nextLong();
+            for (int i = 0; i < NEW_KEYS_PER_MAP; i++) {
+                keys[i] = Long.toString(base + i);
+            }
+            rateLimitConfig = new RateLimitConfig();
+            next = 0;
+        }
+
+        Bucket next() {
+            if (next == NEW_KEYS_PER_MAP) {
+                rateLimitConfig = new RateLimitConfig();
+                next = 0;
+            }
+            return rateLimitConfig.resolveAuthBucket(keys[next++]);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.api.task.TaskRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hierarchy queries of TaskRepository (one recursive CTE each) on 1,000-task trees, against in-memory
+ * H2 in PostgreSQL mode: a chain 1,000 levels deep and a ternary tree 7 levels deep. Every operation is a
+ * single statement, so the score is the cost of one round trip's worth of work as the tree grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskHierarchyBenchmark {
+
+    private static final int MAX_DEPTH = 1000;
+
+    @Param({"chain", "ternary"})
+    private String shape;
+
+    @Param({"1000"})
+    private int size;
+
+    private NamedParameterJdbcTemplate jdbc;
+    private MapSqlParameterSource rootParams;
+    private MapSqlParameterSource leafParams;
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:hierarchy-" + shape + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS tasks");
+        jdbcTemplate.execute("""
+                CREATE TABLE tasks (
+                    id          UUID PRIMARY KEY,
+                    owner_id    UUID         NOT NULL,
+                    parent_id   UUID,
+                    title       VARCHAR(255) NOT NULL,
+                    description TEXT,
+                    status      VARCHAR(20)  NOT NULL,
+                    priority    VARCHAR(20)  NOT NULL,
+                    due_date    DATE,
+                    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+                    updated_at  TIMESTAMP WITH TIME ZONE NOT NULL
+                )""");
+        jdbcTemplate.execute("CREATE INDEX ix_tasks_parent_id ON tasks (parent_id)");
+
+        UUID ownerId = UUID.randomUUID();
+        List<UUID> ids = new ArrayList<>(size);
+        List<Object[]> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UUID id = UUID.randomUUID();
+            UUID parentId = i == 0 ? null : ids.get("chain".equals(shape) ? i - 1 : (i - 1) / 3);
+            ids.add(id);
+            rows.add(new Object[]{id, ownerId, parentId, "Node " + i, i % 4 == 0 ? "DONE" : "TODO"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks (id, owner_id, parent_id, title, status, priority, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, 'MEDIUM', now(), now())""", rows);
+
+        jdbc = new NamedParameterJdbcTemplate(jdbcTemplate);
+        rootParams = params(ids.get(0), ownerId);
+        leafParams = params(ids.get(size - 1), ownerId);
+    }
+
+    private static MapSqlParameterSource params(UUID taskId, UUID ownerId) {
+        return new MapSqlParameterSource(Map.of("taskId", taskId, "ownerId", ownerId, "maxDepth", MAX_DEPTH));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> subtree() {
+        return jdbc.queryForList(TaskRepository.SUBTREE_SQL, rootParams);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> ancestors() {
+        return jdbc.queryForList(TaskRepository.ANCESTORS_SQL, leafParams);
+    }
+
+    @Benchmark
+    public Map<String, Object> progress() {
+        return jdbc.queryForMap(TaskRepository.SUBTREE_PROGRESS_SQL, rootParams);
+    }
+
+    // The write-path check TaskService runs before creating or moving a subtask
+    @Benchmark
+    public List<String> ancestorIds() {
+        return jdbc.queryForList(TaskRepository.ANCESTOR_IDS_SQL, leafParams, String.class);
+    }
+}
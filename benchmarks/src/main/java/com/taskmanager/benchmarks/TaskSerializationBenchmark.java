@@ -0,0 +1,57 @@
+package com.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.task.Task;
+import com.taskmanager.api.task.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What TaskController.getTasks does after the query returns: map to TaskResponse and write the page as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Task> tasks;
+    private Page<TaskResponse> responses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Fixtures.objectMapper();
+        PageRequest pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        List<Task> content = Fixtures.tasks(Fixtures.user(), pageSize);
+        tasks = new PageImpl<>(content, pageable, 1_000);
+        responses = tasks.map(TaskResponse::from);
+    }
+
+    @Benchmark
+    public Page<TaskResponse> mapToResponse() {
+        return tasks.map(TaskResponse::from);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks.map(TaskResponse::from));
+    }
+}
@@ -0,0 +1,15 @@
+#!/bin/bash
+# Clones the primary with pg_basebackup on first start, then runs as a hot standby.
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    until PGPASSWORD="${REPLICATION_PASSWORD:-replicator}" pg_basebackup \
+            --host=db --username=replicator --pgdata="$PGDATA" \
+            --write-recovery-conf --wal-method=stream; do
+        echo "Waiting for primary..."
+        sleep 2
+    done
+    chmod 0700 "$PGDATA"
+fi
+
+exec postgres
@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Time from `docker run` to the first successful request, for one or more images.
+#
+#   docker build -t task-manager-api:jvm . && docker build -f Dockerfile.cds -t task-manager-api:cds .
+#   docker compose up -d db
+#   docker/startup-benchmark.sh task-manager-api:jvm task-manager-api:cds
+#
+# RUNS (default 5), URL_PATH (default /actuator/health, which includes the database check) and
+# NETWORK (default: the compose project network) can be overridden from the environment.
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+URL_PATH=${URL_PATH:-/actuator/health}
+NETWORK=${NETWORK:-$(docker network ls --format '{{.Name}}' | grep -m1 '_default$' || echo bridge)}
+PORT=${PORT:-18080}
+
+if [ $# -eq 0 ]; then
+  echo "usage: $0 IMAGE [IMAGE...]" >&2
+  exit 1
+fi
+
+now_ms() { date +%s%3N; }
+
+for image in "$@"; do
+  times=()
+  for run in $(seq 1 "$RUNS"); do
+    name="startup-bench-$$-$run"
+    start=$(now_ms)
+    docker run -d --rm --name "$name" --network "$NETWORK" -p "$PORT:8080" \
+      -e SPRING_DATASOURCE_URL=jdbc:postgresql://db:5432/task_manager \
+      -e SPRING_DATASOURCE_USERNAME=postgres \
+      -e SPRING_DATASOURCE_PASSWORD=postgres \
+      -e JWT_SECRET=startup_benchmark_jwt_secret_at_least_32_chars \
+      "$image" >/dev/null
+    until curl -sf -o /dev/null "http://localhost:$PORT$URL_PATH"; do
+      if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+        echo "$image did not answer within 120s" >&2
+        docker logs "$name" | tail -20 >&2
+        docker rm -f "$name" >/dev/null
+        exit 1
+      fi
+      sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(docker stats --no-stream --format '{{.MemUsage}}' "$name" | cut -d/ -f1)
+    docker rm -f "$name" >/dev/null
+    times+=("$elapsed")
+    printf '%-32s run %d: %6d ms  (memory %s)\n' "$image" "$run" "$elapsed" "$rss"
+  done
+  sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+  printf '%-32s median %d ms, min %d ms, max %d ms\n\n' "$image" \
+    "${sorted[$(( RUNS / 2 ))]}" "${sorted[0]}" "${sorted[$(( RUNS - 1 ))]}"
+done
@@ -0,0 +1,116 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin blocking wrapper over the JDK HttpClient. Callers run on virtual threads, so a blocking send
+ * costs no platform thread; the client's own async work also runs on virtual threads.
+ */
+public class ApiClient implements AutoCloseable {
+
+    private final URI baseUrl;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+
+    public ApiClient(URI baseUrl, Duration requestTimeout, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+        // Tomcat serves HTTP/1.1 only; skip the h2c upgrade attempt on every new connection
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    public Response get(String path, String accessToken, String clientIp) throws IOException, InterruptedException {
+        return send("GET", path, accessToken, null, clientIp);
+    }
+
+    public Response post(String path, String accessToken, Object body, String clientIp)
+            throws IOException, InterruptedException {
+        return send("POST", path, accessToken, body, clientIp);
+    }
+
+    public Response put(String path, String accessToken, Object body, String clientIp)
+            throws IOException, InterruptedException {
+        return send("PUT", path, accessToken, body, clientIp);
+    }
+
+    public Response delete(String path, String accessToken, String clientIp) throws IOException, InterruptedException {
+        return send("DELETE", path, accessToken, null, clientIp);
+    }
+
+    /**
+     * clientIp is sent as X-Forwarded-For so that each simulated user gets its own auth rate-limit bucket,
+     * as it would behind a load balancer.
+     */
+    public Response send(String method, String path, String accessToken, Object body, String clientIp)
+            throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body != null
+                ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+                : HttpRequest.BodyPublishers.noBody();
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(requestTimeout)
+                .method(method, publisher)
+                .header("Accept", "application/json");
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (accessToken != null) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        if (clientIp != null) {
+            request.header("X-Forwarded-For", clientIp);
+        }
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        executor.close();
+    }
+
+    public final class Response {
+
+        private final int status;
+        private final byte[] body;
+
+        Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int status() {
+            return status;
+        }
+
+        public int size() {
+            return body.length;
+        }
+
+        public JsonNode json() {
+            try {
+                return objectMapper.readTree(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Response is not JSON (status " + status + ")", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskmanager.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the packaged API in a child JVM on the port of --base-url and waits until /actuator/health is UP.
+ * Database settings come from the inherited environment (SPRING_DATASOURCE_URL etc.) or --app-args.
+ */
+public class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Path LOG_FILE = Path.of("load-test-app.log");
+
+    // Effectively unlimited; simulated users would otherwise spend the run being rate limited
+    private static final List<String> UNLIMITED_RATE_LIMITS = List.of(
+            "--rate-limit.auth.requests-per-minute=100000000",
+            "--rate-limit.api.requests-per-minute=100000000");
+
+    private final Process process;
+
+    private AppProcess(Process process) {
+        this.process = process;
+    }
+
+    public static AppProcess start(LoadTestConfig config) throws IOException, InterruptedException {
+        if (config.baseUrl().getPort() == -1) {
+            throw new IllegalArgumentException("--base-url must include a port when --app-jar is given");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(config.jvmArgs());
+        command.add("-jar");
+        command.add(config.appJar().toString());
+        command.add("--server.port=" + config.baseUrl().getPort());
+        if (!config.keepRateLimits()) {
+            command.addAll(UNLIMITED_RATE_LIMITS);
+        }
+        command.addAll(config.appArgs());
+
+        System.out.println("Starting " + String.join(" ", command));
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(LOG_FILE.toFile())
+                .start();
+        AppProcess app = new AppProcess(process);
+        Runtime.getRuntime().addShutdownHook(new Thread(app::close));
+        app.awaitHealthy(config.baseUrl());
+        return app;
+    }
+
+    private void awaitHealthy(URI baseUrl) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpRequest health = HttpRequest.newBuilder(baseUrl.resolve("/actuator/health"))
+                    .timeout(Duration.ofSeconds(2))
+                    .build();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue()
+                            + " during startup; see " + LOG_FILE.toAbsolutePath());
+                }
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        System.out.println("Application is up (log: " + LOG_FILE.toAbsolutePath() + ")");
+                        return;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(500);
+            }
+        }
+        close();
+        throw new IllegalStateException("Application did not become healthy within " + STARTUP_TIMEOUT.toSeconds()
+                + "s; see " + LOG_FILE.toAbsolutePath());
+    }
+
+    @Override
+    public void close() {
+        if (!process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
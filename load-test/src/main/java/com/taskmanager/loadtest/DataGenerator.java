@@ -0,0 +1,237 @@
+package com.taskmanager.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes users, roles and tasks straight into a Flyway-migrated PostgreSQL schema with COPY, bypassing the
+ * API (and BCrypt, which would make registering millions of users take days). Worker threads claim batches
+ * of users from a shared counter, so the few users with huge task counts do not serialize the run.
+ *
+ * <pre>
+ * java -jar load-test.jar generate --jdbc-url=jdbc:postgresql://localhost:5433/task_manager --users=1000000
+ * </pre>
+ *
+ * All users share one password (--password) so the load-test harness can log in as them with
+ * --email-prefix set to the same prefix.
+ */
+public final class DataGenerator {
+
+    private static final String COPY_USERS =
+            "COPY users (id, email, password_hash, status, created_at, updated_at) FROM STDIN";
+    private static final String COPY_ROLES = "COPY user_roles (user_id, role, created_at) FROM STDIN";
+    private static final String COPY_TASKS = "COPY tasks (id, owner_id, title, description, status, priority, "
+            + "due_date, created_at, updated_at) FROM STDIN";
+    private static final int COPY_BUFFER_BYTES = 1 << 20;
+
+    private static final Map<String, String> DEFAULTS = defaults();
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("jdbc-url", "jdbc:postgresql://localhost:5433/task_manager");
+        defaults.put("db-user", "postgres");
+        defaults.put("db-password", "postgres");
+        defaults.put("users", "100000");
+        defaults.put("median-tasks", "10");
+        defaults.put("max-tasks", "100000");
+        defaults.put("alpha", "1.2");
+        defaults.put("seed", "42");
+        defaults.put("as-of", LocalDate.now(ZoneOffset.UTC).toString());
+        defaults.put("history-days", "730");
+        defaults.put("threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        defaults.put("batch-users", "1000");
+        defaults.put("email-prefix", "perf");
+        defaults.put("password", "LoadTest123!");
+        defaults.put("truncate", "false");
+        defaults.put("dry-run", "false");
+        return defaults;
+    }
+
+    private final Options options;
+    private final Dataset dataset;
+    private final int users;
+
+    private DataGenerator(Options options, Dataset dataset) {
+        this.options = options;
+        this.dataset = dataset;
+        this.users = options.positive("users");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args, DEFAULTS);
+        Instant asOf = LocalDate.parse(options.string("as-of")).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Dataset dataset = new Dataset(
+                options.longValue("seed"),
+                asOf,
+                Duration.ofDays(options.positive("history-days")),
+                options.positive("median-tasks"),
+                options.positive("max-tasks"),
+                options.doubleValue("alpha"),
+                options.string("email-prefix"),
+                passwordHash(options.string("password"), options.longValue("seed")));
+
+        DataGenerator generator = new DataGenerator(options, dataset);
+        generator.printPlan(asOf);
+        if (!options.bool("dry-run")) {
+            generator.generate();
+        }
+    }
+
+    /**
+     * One BCrypt hash shared by every user, salted from the seed so the output is reproducible.
+     */
+    static String passwordHash(String password, long seed) throws NoSuchAlgorithmException {
+        SecureRandom salt = SecureRandom.getInstance("SHA1PRNG");
+        salt.setSeed(seed);
+        return new BCryptPasswordEncoder(10, salt).encode(password);
+    }
+
+    private void printPlan(Instant asOf) {
+        int[] counts = new int[users];
+        long tasks = 0;
+        for (int i = 0; i < users; i++) {
+            counts[i] = dataset.user(i).taskCount();
+            tasks += counts[i];
+        }
+        Arrays.sort(counts);
+        System.out.printf("Plan: %d users, %d tasks as of %s (seed %d)%n",
+                users, tasks, asOf, options.longValue("seed"));
+        System.out.printf("  tasks per user: p50 %d, p90 %d, p99 %d, p99.9 %d, max %d; %d users with >= 10k%n",
+                counts[percentileIndex(0.5)], counts[percentileIndex(0.9)], counts[percentileIndex(0.99)],
+                counts[percentileIndex(0.999)], counts[users - 1],
+                Arrays.stream(counts).filter(count -> count >= 10_000).count());
+    }
+
+    private int percentileIndex(double percentile) {
+        return Math.min(users - 1, (int) Math.floor(percentile * users));
+    }
+
+    private void generate() throws Exception {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            if (options.bool("truncate")) {
+                System.out.println("Truncating users, tasks, projects and everything that references them");
+                // CASCADE empties every table with a foreign key to these (idempotency keys, tags, memberships,
+                // refresh tokens); task history has none, so it is named
+                statement.execute("TRUNCATE users, user_roles, tasks, projects, task_activity, task_activity_outbox CASCADE");
+            }
+        }
+
+        int threads = options.positive("threads");
+        int batchSize = options.positive("batch-users");
+        AtomicInteger nextUser = new AtomicInteger();
+        LongAdder usersWritten = new LongAdder();
+        LongAdder tasksWritten = new LongAdder();
+        long start = System.nanoTime();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(workers.submit(() -> {
+                    try (Connection connection = connect()) {
+                        int from;
+                        while ((from = nextUser.getAndAdd(batchSize)) < users) {
+                            copyBatch(connection, from, Math.min(users, from + batchSize), usersWritten, tasksWritten);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            awaitWithProgress(futures, usersWritten, tasksWritten, start);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        System.out.println("Analyzing tables");
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // Fresh planner statistics; otherwise the first queries are planned as if the tables were empty
+            statement.execute("ANALYZE users, user_roles, tasks");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Done: %d users and %d tasks in %.0fs (%.0f rows/s)%n",
+                usersWritten.sum(), tasksWritten.sum(), seconds, (usersWritten.sum() + tasksWritten.sum()) / seconds);
+    }
+
+    private void copyBatch(Connection connection, int from, int to, LongAdder usersWritten, LongAdder tasksWritten)
+            throws SQLException, IOException {
+        List<Dataset.User> batch = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            batch.add(dataset.user(i));
+        }
+        // Autocommit: users are committed before their tasks reference them
+        try (Writer out = copy(connection, COPY_USERS)) {
+            for (Dataset.User user : batch) {
+                dataset.writeUser(user, out);
+            }
+        }
+        try (Writer out = copy(connection, COPY_ROLES)) {
+            for (Dataset.User user : batch) {
+                dataset.writeRoles(user, out);
+            }
+        }
+        try (Writer out = copy(connection, COPY_TASKS)) {
+            for (Dataset.User user : batch) {
+                dataset.writeTasks(user, out);
+                tasksWritten.add(user.taskCount());
+            }
+        }
+        usersWritten.add(batch.size());
+    }
+
+    private static Writer copy(Connection connection, String sql) throws SQLException {
+        PGCopyOutputStream stream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, COPY_BUFFER_BYTES);
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    private void awaitWithProgress(List<Future<?>> futures, LongAdder usersWritten, LongAdder tasksWritten,
+                                   long start) throws Exception {
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                    break;
+                } catch (TimeoutException e) {
+                    System.out.printf("  %4ds  %d/%d users, %d tasks%n",
+                            TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start),
+                            usersWritten.sum(), users, tasksWritten.sum());
+                }
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                options.string("jdbc-url"), options.string("db-user"), options.string("db-password"));
+        connection.setAutoCommit(true);
+        return connection;
+    }
+}
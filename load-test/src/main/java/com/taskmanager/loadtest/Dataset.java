@@ -0,0 +1,202 @@
+package com.taskmanager.loadtest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic row content for the bulk generator, written in PostgreSQL COPY text format. Every user
+ * draws from its own random stream derived from (seed, index), so any user and its tasks can be produced
+ * independently and in any order, by any worker, with identical results.
+ *
+ * <p>Tasks per user follow a Pareto distribution with the given median, capped at maxTasks: most users
+ * own a handful of tasks and a few own tens of thousands, which is what makes owner-scoped queries skewed.
+ */
+public final class Dataset {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long TASK_STREAM = 0x5DEECE66DL;
+
+    private static final String[] TASK_STATUSES = {"TODO", "IN_PROGRESS", "DONE", "DELETED"};
+    private static final int[] TASK_STATUS_WEIGHTS = {35, 15, 45, 5};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final int[] PRIORITY_WEIGHTS = {30, 50, 20};
+    private static final String[] USER_STATUSES = {"ACTIVE", "LOCKED", "DELETED"};
+    private static final int[] USER_STATUS_WEIGHTS = {970, 20, 10};
+
+    private static final String[] VERBS = {
+            "Review", "Write", "Fix", "Update", "Prepare", "Plan", "Schedule", "Draft", "Refactor", "Test",
+            "Deploy", "Document", "Investigate", "Call", "Email", "Organize", "Clean up", "Follow up on"
+    };
+    private static final String[] OBJECTS = {
+            "quarterly report", "release notes", "login bug", "onboarding guide", "team meeting", "budget",
+            "customer feedback", "database migration", "API docs", "sprint backlog", "invoice", "dashboard",
+            "design mockups", "test plan", "vendor contract", "dentist appointment", "grocery list", "blog post"
+    };
+    private static final String[] WORDS = {
+            "the", "a", "for", "with", "before", "after", "check", "make", "sure", "team", "client", "review",
+            "deadline", "update", "notes", "draft", "final", "version", "details", "confirm", "budget", "scope",
+            "next", "week", "friday", "priority", "blocked", "waiting", "on", "feedback", "from", "product"
+    };
+
+    private final long seed;
+    private final Instant asOf;
+    private final Duration history;
+    private final double paretoScale;
+    private final double paretoAlpha;
+    private final int maxTasks;
+    private final String emailPrefix;
+    private final String passwordHash;
+
+    public Dataset(long seed, Instant asOf, Duration history, int medianTasks, int maxTasks, double alpha,
+                   String emailPrefix, String passwordHash) {
+        this.seed = seed;
+        this.asOf = asOf;
+        this.history = history;
+        // Median of Pareto(scale, alpha) is scale * 2^(1/alpha)
+        this.paretoScale = medianTasks / Math.pow(2, 1 / alpha);
+        this.paretoAlpha = alpha;
+        this.maxTasks = maxTasks;
+        this.emailPrefix = emailPrefix;
+        this.passwordHash = passwordHash;
+    }
+
+    public record User(int index, UUID id, String email, String status, boolean admin, Instant createdAt,
+                       int taskCount) {
+    }
+
+    public User user(int index) {
+        SplittableRandom random = random(index, 0);
+        UUID id = uuid(random);
+        String status = pick(random, USER_STATUSES, USER_STATUS_WEIGHTS);
+        // One admin per thousand users, and always the first so there is a known one
+        boolean admin = index == 0 || random.nextInt(1000) == 0;
+        Instant createdAt = asOf.minusSeconds(random.nextLong(history.toSeconds()));
+        double uniform = 1 - random.nextDouble();
+        int taskCount = (int) Math.min(maxTasks, Math.floor(paretoScale * Math.pow(uniform, -1 / paretoAlpha)));
+        return new User(index, id, emailPrefix + "-" + index + "@loadtest.local", status, admin, createdAt, taskCount);
+    }
+
+    /**
+     * Columns: id, email, password_hash, status, created_at, updated_at
+     */
+    public void writeUser(User user, Writer out) throws IOException {
+        out.write(user.id().toString());
+        out.write('\t');
+        out.write(user.email());
+        out.write('\t');
+        out.write(passwordHash);
+        out.write('\t');
+        out.write(user.status());
+        out.write('\t');
+        out.write(user.createdAt().toString());
+        out.write('\t');
+        out.write(user.createdAt().toString());
+        out.write('\n');
+    }
+
+    /**
+     * Columns: user_id, role, created_at
+     */
+    public void writeRoles(User user, Writer out) throws IOException {
+        writeRole(user, "USER", out);
+        if (user.admin()) {
+            writeRole(user, "ADMIN", out);
+        }
+    }
+
+    private static void writeRole(User user, String role, Writer out) throws IOException {
+        out.write(user.id().toString());
+        out.write('\t');
+        out.write(role);
+        out.write('\t');
+        out.write(user.createdAt().toString());
+        out.write('\n');
+    }
+
+    /**
+     * Columns: id, owner_id, title, description, status, priority, due_date, created_at, updated_at
+     */
+    public void writeTasks(User user, Writer out) throws IOException {
+        SplittableRandom random = random(user.index(), TASK_STREAM);
+        String ownerId = user.id().toString();
+        long ownedSeconds = Math.max(1, Duration.between(user.createdAt(), asOf).toSeconds());
+        StringBuilder row = new StringBuilder(256);
+
+        for (int i = 0; i < user.taskCount(); i++) {
+            String status = pick(random, TASK_STATUSES, TASK_STATUS_WEIGHTS);
+            Instant createdAt = user.createdAt().plusSeconds(random.nextLong(ownedSeconds));
+            long remaining = Math.max(1, Duration.between(createdAt, asOf).toSeconds());
+            // Open tasks are often untouched since creation; finished ones were updated when they were closed
+            Instant updatedAt = status.equals("TODO") && random.nextBoolean()
+                    ? createdAt
+                    : createdAt.plusSeconds(random.nextLong(remaining));
+
+            row.setLength(0);
+            row.append(uuid(random)).append('\t')
+                    .append(ownerId).append('\t')
+                    .append(VERBS[random.nextInt(VERBS.length)]).append(' ')
+                    .append(OBJECTS[random.nextInt(OBJECTS.length)]).append('\t');
+            if (random.nextInt(10) < 4) {
+                row.append("\\N");
+            } else {
+                sentence(random, row);
+            }
+            row.append('\t').append(status)
+                    .append('\t').append(pick(random, PRIORITIES, PRIORITY_WEIGHTS))
+                    .append('\t');
+            if (random.nextInt(4) == 0) {
+                row.append("\\N");
+            } else {
+                LocalDate created = LocalDate.ofInstant(createdAt, ZoneOffset.UTC);
+                row.append(created.plusDays(random.nextInt(-7, 61)));
+            }
+            row.append('\t').append(createdAt)
+                    .append('\t').append(updatedAt)
+                    .append('\n');
+            out.append(row);
+        }
+    }
+
+    private SplittableRandom random(int index, long stream) {
+        return new SplittableRandom((seed ^ stream) + index * GOLDEN_GAMMA);
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        // Version 4 / IETF variant bits, like UUID.randomUUID()
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static void sentence(SplittableRandom random, StringBuilder row) {
+        int words = random.nextInt(5, 41);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                row.append(' ');
+            }
+            row.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        row.append('.');
+    }
+
+    private static String pick(SplittableRandom random, String[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+}
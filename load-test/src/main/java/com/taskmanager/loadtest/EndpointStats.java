@@ -0,0 +1,116 @@
+package com.taskmanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters for one operation. Recording is wait-free so that many virtual
+ * threads can record concurrently; a single reporter thread drains intervals with {@link #interval()}.
+ * Responses with the expected status are also recorded on their own, so that fast rejections (429, 503)
+ * do not hide the latency of the requests that were actually served.
+ */
+public class EndpointStats {
+
+    // One microsecond resolution up to a minute, three significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Operation operation;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Recorder servedRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram served = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private Histogram reusable;
+
+    public EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    public Operation operation() {
+        return operation;
+    }
+
+    public void record(long latencyNanos, int status, int responseBytes) {
+        recordLatency(latencyNanos);
+        bytes.add(responseBytes);
+        count(String.valueOf(status));
+        if (status == operation.expectedStatus()) {
+            servedRecorder.recordValue(micros(latencyNanos));
+        } else {
+            errors.increment();
+        }
+    }
+
+    /**
+     * A request that produced no response: connect failure, timeout, or dropped by the generator itself.
+     */
+    public void recordFailure(long latencyNanos, String outcome) {
+        recordLatency(latencyNanos);
+        count(outcome);
+        errors.increment();
+    }
+
+    private void recordLatency(long latencyNanos) {
+        recorder.recordValue(micros(latencyNanos));
+    }
+
+    private static long micros(long latencyNanos) {
+        return Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private void count(String outcome) {
+        LongAdder counter = outcomes.get(outcome);
+        if (counter == null) {
+            LongAdder created = new LongAdder();
+            counter = outcomes.putIfAbsent(outcome, created);
+            if (counter == null) {
+                counter = created;
+            }
+        }
+        counter.increment();
+    }
+
+    /**
+     * Latencies recorded since the previous call, also folded into the run total.
+     */
+    public synchronized Histogram interval() {
+        reusable = recorder.getIntervalHistogram(reusable);
+        total.add(reusable);
+        return reusable;
+    }
+
+    public synchronized Histogram total() {
+        interval();
+        return total;
+    }
+
+    /**
+     * Latencies of the whole run, for responses with the expected status only.
+     */
+    public synchronized Histogram served() {
+        served.add(servedRecorder.getIntervalHistogram());
+        return served;
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    public Map<String, Long> outcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+}
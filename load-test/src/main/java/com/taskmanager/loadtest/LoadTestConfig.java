@@ -0,0 +1,129 @@
+package com.taskmanager.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load-run options. Every option has a default so a bare run drives a locally started API with a small dataset.
+ */
+public record LoadTestConfig(
+        URI baseUrl,
+        Path appJar,
+        List<String> jvmArgs,
+        List<String> appArgs,
+        boolean keepRateLimits,
+        int users,
+        int tasksPerUser,
+        String emailPrefix,
+        String password,
+        int seedConcurrency,
+        int concurrency,
+        int rate,
+        int maxInFlight,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Duration requestTimeout,
+        WeightedMix mix,
+        long seed,
+        String label,
+        Path report
+) {
+
+    private static final Map<String, String> DEFAULTS = defaults();
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("base-url", "http://localhost:8080");
+        defaults.put("app-jar", "");
+        defaults.put("jvm-args", "");
+        defaults.put("app-args", "");
+        defaults.put("keep-rate-limits", "false");
+        defaults.put("users", "50");
+        defaults.put("tasks-per-user", "20");
+        defaults.put("email-prefix", "loadtest");
+        defaults.put("password", "LoadTest123!");
+        defaults.put("seed-concurrency", "16");
+        defaults.put("concurrency", "50");
+        defaults.put("rate", "0");
+        defaults.put("max-in-flight", "2000");
+        defaults.put("warmup", "30s");
+        defaults.put("duration", "120s");
+        defaults.put("think-time", "0ms");
+        defaults.put("request-timeout", "10s");
+        defaults.put("mix", "login=2,refresh=3,list=45,get=30,create=10,update=7,delete=3");
+        defaults.put("seed", "42");
+        defaults.put("label", "");
+        defaults.put("report", "load-test-report.json");
+        return defaults;
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        Options options = Options.parse(args, DEFAULTS);
+        String appJar = options.string("app-jar");
+        String label = options.string("label");
+        return new LoadTestConfig(
+                URI.create(stripTrailingSlash(options.string("base-url"))),
+                appJar.isBlank() ? null : Path.of(appJar),
+                options.list("jvm-args"),
+                options.list("app-args"),
+                options.bool("keep-rate-limits"),
+                options.positive("users"),
+                options.nonNegative("tasks-per-user"),
+                options.string("email-prefix"),
+                options.string("password"),
+                options.positive("seed-concurrency"),
+                options.positive("concurrency"),
+                options.nonNegative("rate"),
+                options.positive("max-in-flight"),
+                options.duration("warmup"),
+                options.duration("duration"),
+                options.duration("think-time"),
+                options.duration("request-timeout"),
+                WeightedMix.parse(options.string("mix")),
+                options.longValue("seed"),
+                label.isBlank() ? defaultLabel(options) : label,
+                Path.of(options.string("report"))
+        );
+    }
+
+    /**
+     * Open model (fixed arrival rate) when a rate is given, closed model (fixed number of users) otherwise.
+     */
+    public boolean openModel() {
+        return rate > 0;
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("baseUrl", baseUrl.toString());
+        description.put("appJar", appJar != null ? appJar.toString() : null);
+        description.put("jvmArgs", jvmArgs);
+        description.put("appArgs", appArgs);
+        description.put("users", users);
+        description.put("tasksPerUser", tasksPerUser);
+        description.put("model", openModel() ? "open" : "closed");
+        description.put("concurrency", concurrency);
+        description.put("rate", rate);
+        description.put("warmupSeconds", warmup.toSeconds());
+        description.put("durationSeconds", duration.toSeconds());
+        description.put("thinkTimeMs", thinkTime.toMillis());
+        description.put("mix", mix.toString());
+        description.put("seed", seed);
+        return description;
+    }
+
+    private static String defaultLabel(Options options) {
+        return options.nonNegative("rate") > 0
+                ? "rate-" + options.string("rate")
+                : "concurrency-" + options.string("concurrency");
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,194 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Seeds users and tasks, drives the configured operation mix against the API and writes a JSON report.
+ *
+ * <pre>
+ * java -jar load-test.jar --app-jar=../target/task-manager-api-0.0.1-SNAPSHOT-exec.jar --users=200 --rate=500
+ * java -jar load-test.jar compare baseline.json candidate.json
+ * java -jar load-test.jar generate --users=1000000     (see DataGenerator)
+ * </pre>
+ */
+public final class LoadTestMain {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private final LoadTestConfig config;
+    private final Workload workload;
+    private final List<Session> sessions;
+    private volatile boolean running = true;
+
+    private LoadTestMain(LoadTestConfig config, Workload workload, List<Session> sessions) {
+        this.config = config;
+        this.workload = workload;
+        this.sessions = sessions;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        if (args.length > 0 && args[0].equals("compare")) {
+            if (args.length != 3) {
+                throw new IllegalArgumentException("Usage: compare <baseline.json> <candidate.json>");
+            }
+            Report.compare(mapper, Path.of(args[1]), Path.of(args[2]));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("generate")) {
+            DataGenerator.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        try (AppProcess ignored = config.appJar() != null ? AppProcess.start(config) : null;
+             ApiClient client = new ApiClient(config.baseUrl(), config.requestTimeout(), mapper)) {
+
+            System.out.printf("Seeding %d users with %d tasks each%n", config.users(), config.tasksPerUser());
+            List<Session> sessions = new Seeder(client, config).seed();
+
+            Workload workload = new Workload(client, config.password());
+            Instant startedAt = Instant.now();
+            Duration measured = new LoadTestMain(config, workload, sessions).run();
+
+            ObjectNode report = Report.build(mapper, config, startedAt, measured, workload.stats());
+            mapper.writeValue(config.report().toFile(), report);
+            Report.print(report);
+            System.out.println("\nReport written to " + config.report().toAbsolutePath());
+        }
+    }
+
+    private Duration run() throws InterruptedException {
+        System.out.printf("Running %s model (%s) for %ds after %ds warmup; mix %s%n",
+                config.openModel() ? "open" : "closed",
+                config.openModel() ? config.rate() + " req/s" : config.concurrency() + " virtual users",
+                config.duration().toSeconds(), config.warmup().toSeconds(), config.mix());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Thread generator = config.openModel()
+                    ? Thread.ofPlatform().name("arrivals").start(() -> arrivals(executor))
+                    : null;
+            if (!config.openModel()) {
+                for (int i = 0; i < config.concurrency(); i++) {
+                    int user = i;
+                    executor.submit(() -> virtualUser(user));
+                }
+            }
+
+            Thread.sleep(config.warmup().toMillis());
+            workload.startMeasuring();
+            long measureStart = System.nanoTime();
+            long measureEnd = measureStart + config.duration().toNanos();
+            long previous = measureStart;
+            while (previous < measureEnd) {
+                Thread.sleep(Math.min(PROGRESS_INTERVAL.toMillis(),
+                        TimeUnit.NANOSECONDS.toMillis(measureEnd - previous)));
+                long now = System.nanoTime();
+                printProgress(now - measureStart, now - previous);
+                previous = now;
+            }
+            workload.stopMeasuring();
+            Duration measured = Duration.ofNanos(System.nanoTime() - measureStart);
+
+            // In-flight requests finish (bounded by the request timeout) before the executor closes
+            running = false;
+            if (generator != null) {
+                generator.join();
+            }
+            return measured;
+        }
+    }
+
+    /**
+     * Closed model: each virtual user sends its next request when the previous one completes.
+     */
+    private void virtualUser(int index) {
+        Session session = sessions.get(index % sessions.size());
+        SplittableRandom random = new SplittableRandom(config.seed() * 31 + index);
+        try {
+            while (running) {
+                workload.execute(config.mix().next(random), session, random, System.nanoTime());
+                if (!config.thinkTime().isZero()) {
+                    Thread.sleep(config.thinkTime().toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Open model: requests arrive on a fixed schedule regardless of how fast earlier ones complete, so a slow
+     * server shows up as latency rather than as a lower request rate. Arrivals beyond max-in-flight are
+     * counted as dropped errors instead of being delayed.
+     */
+    private void arrivals(ExecutorService executor) {
+        SplittableRandom random = new SplittableRandom(config.seed());
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        long interval = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long next = System.nanoTime();
+
+        while (running) {
+            next += interval;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduled = next;
+            Operation operation = config.mix().next(random);
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            SplittableRandom requestRandom = random.split();
+
+            if (!inFlight.tryAcquire()) {
+                workload.recordDropped(operation, scheduled);
+                continue;
+            }
+            executor.submit(() -> {
+                try {
+                    workload.execute(operation, session, requestRandom, scheduled);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void printProgress(long elapsedNanos, long intervalNanos) {
+        long requests = 0;
+        long errors = 0;
+        Histogram interval = null;
+        for (EndpointStats stats : workload.stats().values()) {
+            Histogram histogram = stats.interval();
+            requests += histogram.getTotalCount();
+            errors += stats.errors();
+            if (interval == null) {
+                interval = histogram.copy();
+            } else {
+                interval.add(histogram);
+            }
+        }
+        System.out.printf("  %4ds  %8.1f req/s  p50 %7.2f ms  p99 %8.2f ms  errors so far %d%n",
+                TimeUnit.NANOSECONDS.toSeconds(elapsedNanos),
+                requests * 1e9 / intervalNanos,
+                interval.getValueAtPercentile(50) / 1000.0,
+                interval.getValueAtPercentile(99) / 1000.0,
+                errors);
+    }
+}
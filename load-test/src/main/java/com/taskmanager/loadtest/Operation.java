@@ -0,0 +1,35 @@
+package com.taskmanager.loadtest;
+
+/**
+ * The request types in a mix. Each is reported as its own endpoint.
+ */
+public enum Operation {
+
+    LOGIN("POST /api/auth/login", 200),
+    REFRESH("POST /api/auth/refresh", 200),
+    LIST("GET /api/tasks", 200),
+    GET("GET /api/tasks/{id}", 200),
+    CREATE("POST /api/tasks", 201),
+    UPDATE("PUT /api/tasks/{id}", 200),
+    DELETE("DELETE /api/tasks/{id}", 204);
+
+    private final String endpoint;
+    private final int expectedStatus;
+
+    Operation(String endpoint, int expectedStatus) {
+        this.endpoint = endpoint;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public int expectedStatus() {
+        return expectedStatus;
+    }
+
+    public String key() {
+        return name().toLowerCase();
+    }
+}
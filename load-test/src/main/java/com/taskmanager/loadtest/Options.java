@@ -0,0 +1,99 @@
+package com.taskmanager.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code --name=value} command-line options over a table of defaults; unknown names are rejected.
+ */
+final class Options {
+
+    private final Map<String, String> values;
+
+    private Options(Map<String, String> values) {
+        this.values = values;
+    }
+
+    static Options parse(String[] args, Map<String, String> defaults) {
+        Map<String, String> values = new LinkedHashMap<>(defaults);
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!values.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+            values.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+        return new Options(values);
+    }
+
+    String string(String name) {
+        return values.get(name);
+    }
+
+    boolean bool(String name) {
+        return Boolean.parseBoolean(values.get(name));
+    }
+
+    long longValue(String name) {
+        return Long.parseLong(values.get(name));
+    }
+
+    double doubleValue(String name) {
+        return Double.parseDouble(values.get(name));
+    }
+
+    int positive(String name) {
+        int value = Integer.parseInt(values.get(name));
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+
+    int nonNegative(String name) {
+        int value = Integer.parseInt(values.get(name));
+        if (value < 0) {
+            throw new IllegalArgumentException("--" + name + " must not be negative");
+        }
+        return value;
+    }
+
+    /**
+     * Accepts 250ms, 30s, 5m or a plain number of seconds.
+     */
+    Duration duration(String name) {
+        String value = values.get(name).trim().toLowerCase();
+        try {
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+            }
+            if (value.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+            if (value.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+            return Duration.ofSeconds(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration for --" + name + ": " + value);
+        }
+    }
+
+    /**
+     * Whitespace-separated list, e.g. --jvm-args="-Xmx1g -XX:+UseZGC".
+     */
+    List<String> list(String name) {
+        String value = values.get(name);
+        if (value.isBlank()) {
+            return List.of();
+        }
+        return new ArrayList<>(Arrays.asList(value.trim().split("\\s+")));
+    }
+}
@@ -0,0 +1,172 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The machine-readable result of a run, plus console rendering and a two-run comparison.
+ * Latencies are in milliseconds, throughput in requests per second. latencyMs covers every response,
+ * servedLatencyMs only those with the expected status: past saturation, a server that sheds load answers
+ * rejections fast, and the second shows whether what it still serves stays fast.
+ */
+public final class Report {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+    private static final String[] PERCENTILE_KEYS = {"p50", "p90", "p95", "p99", "p999"};
+    private static final String ROW = "%-26s %9s %9s %7s %9s %9s %9s %9s %9s %10s%n";
+
+    private Report() {
+    }
+
+    public static ObjectNode build(ObjectMapper mapper, LoadTestConfig config, Instant startedAt,
+                                   Duration measured, Map<Operation, EndpointStats> stats) {
+        ObjectNode report = mapper.createObjectNode();
+        report.put("label", config.label());
+        report.put("startedAt", startedAt.toString());
+        report.put("measuredSeconds", measured.toMillis() / 1000.0);
+        report.set("config", mapper.valueToTree(config.describe()));
+
+        ObjectNode endpoints = report.putObject("endpoints");
+        Histogram all = null;
+        Histogram served = null;
+        long errors = 0;
+        for (EndpointStats endpoint : stats.values()) {
+            Histogram histogram = endpoint.total();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            endpoints.set(endpoint.operation().key(), endpointNode(mapper, endpoint, histogram, measured));
+            if (all == null) {
+                all = histogram.copy();
+                served = endpoint.served().copy();
+            } else {
+                all.add(histogram);
+                served.add(endpoint.served());
+            }
+            errors += endpoint.errors();
+        }
+
+        ObjectNode total = report.putObject("total");
+        long requests = all != null ? all.getTotalCount() : 0;
+        total.put("requests", requests);
+        total.put("errors", errors);
+        total.put("errorRate", requests > 0 ? (double) errors / requests : 0);
+        total.put("throughput", requests / seconds(measured));
+        if (all != null) {
+            total.set("latencyMs", latency(mapper, all));
+            total.set("servedLatencyMs", latency(mapper, served));
+        }
+        return report;
+    }
+
+    private static ObjectNode endpointNode(ObjectMapper mapper, EndpointStats endpoint, Histogram histogram,
+                                           Duration measured) {
+        ObjectNode node = mapper.createObjectNode();
+        long requests = histogram.getTotalCount();
+        node.put("endpoint", endpoint.operation().endpoint());
+        node.put("requests", requests);
+        node.put("errors", endpoint.errors());
+        node.put("errorRate", (double) endpoint.errors() / requests);
+        node.put("throughput", requests / seconds(measured));
+        node.put("bytesPerRequest", endpoint.bytes() / requests);
+        node.set("latencyMs", latency(mapper, histogram));
+        node.set("servedLatencyMs", latency(mapper, endpoint.served()));
+        node.set("outcomes", mapper.valueToTree(endpoint.outcomes()));
+        return node;
+    }
+
+    private static ObjectNode latency(ObjectMapper mapper, Histogram histogram) {
+        ObjectNode node = mapper.createObjectNode();
+        if (histogram.getTotalCount() == 0) {
+            return node;
+        }
+        node.put("mean", millis(histogram.getMean()));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            node.put(PERCENTILE_KEYS[i], millis(histogram.getValueAtPercentile(PERCENTILES[i])));
+        }
+        node.put("max", millis(histogram.getMaxValue()));
+        return node;
+    }
+
+    public static void print(JsonNode report) {
+        System.out.printf("%nResults for '%s' over %.0fs%n", report.path("label").asText(),
+                report.path("measuredSeconds").asDouble());
+        System.out.printf(ROW, "endpoint", "requests", "req/s", "err%", "mean", "p50", "p95", "p99", "max",
+                "served p99");
+        report.path("endpoints").forEach(endpoint -> printRow(endpoint.path("endpoint").asText(), endpoint));
+        printRow("total", report.path("total"));
+    }
+
+    private static void printRow(String name, JsonNode node) {
+        JsonNode latency = node.path("latencyMs");
+        System.out.printf(ROW, name,
+                node.path("requests").asLong(),
+                format(node.path("throughput").asDouble()),
+                format(node.path("errorRate").asDouble() * 100),
+                format(latency.path("mean").asDouble()),
+                format(latency.path("p50").asDouble()),
+                format(latency.path("p95").asDouble()),
+                format(latency.path("p99").asDouble()),
+                format(latency.path("max").asDouble()),
+                format(node.path("servedLatencyMs").path("p99").asDouble()));
+    }
+
+    /**
+     * Prints throughput and tail latency of a candidate run relative to a baseline run.
+     */
+    public static void compare(ObjectMapper mapper, Path baselineFile, Path candidateFile) throws IOException {
+        JsonNode baseline = mapper.readTree(baselineFile.toFile());
+        JsonNode candidate = mapper.readTree(candidateFile.toFile());
+        System.out.printf("%s (baseline) vs %s (candidate)%n",
+                baseline.path("label").asText(), candidate.path("label").asText());
+        String row = "%-26s %22s %22s %22s %22s %15s%n";
+        System.out.printf(row, "endpoint", "req/s", "p50 ms", "p99 ms", "served p99 ms", "err% delta");
+
+        Iterator<Map.Entry<String, JsonNode>> endpoints = candidate.path("endpoints").fields();
+        while (endpoints.hasNext()) {
+            Map.Entry<String, JsonNode> entry = endpoints.next();
+            JsonNode before = baseline.path("endpoints").path(entry.getKey());
+            if (before.isMissingNode()) {
+                continue;
+            }
+            printComparison(row, entry.getValue().path("endpoint").asText(), before, entry.getValue());
+        }
+        printComparison(row, "total", baseline.path("total"), candidate.path("total"));
+    }
+
+    private static void printComparison(String row, String name, JsonNode before, JsonNode after) {
+        System.out.printf(row, name,
+                delta(before.path("throughput").asDouble(), after.path("throughput").asDouble()),
+                delta(before.path("latencyMs").path("p50").asDouble(), after.path("latencyMs").path("p50").asDouble()),
+                delta(before.path("latencyMs").path("p99").asDouble(), after.path("latencyMs").path("p99").asDouble()),
+                delta(before.path("servedLatencyMs").path("p99").asDouble(),
+                        after.path("servedLatencyMs").path("p99").asDouble()),
+                String.format("%+.2f", (after.path("errorRate").asDouble() - before.path("errorRate").asDouble()) * 100));
+    }
+
+    private static String delta(double before, double after) {
+        String change = before == 0 ? "n/a" : String.format("%+.1f%%", (after - before) / before * 100);
+        return format(before) + " -> " + format(after) + " (" + change + ")";
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+
+    private static double seconds(Duration duration) {
+        return Math.max(duration.toMillis(), 1) / 1000.0;
+    }
+
+    private static String format(double value) {
+        return value >= 100 ? String.format("%.0f", value) : String.format("%.2f", value);
+    }
+}
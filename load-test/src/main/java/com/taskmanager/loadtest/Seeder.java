@@ -0,0 +1,117 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the users and tasks a run operates on, through the public API. Users are addressed by a stable
+ * email ({@code <prefix>-<n>@loadtest.local}), so a rerun logs the existing users in and only tops up
+ * their task count instead of growing the dataset.
+ */
+public class Seeder {
+
+    private static final int EXISTING_PAGE_SIZE = 100;
+
+    private final ApiClient client;
+    private final LoadTestConfig config;
+
+    public Seeder(ApiClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+    }
+
+    public List<Session> seed() throws Exception {
+        // BCrypt makes registration and login deliberately slow; bound it so seeding does not saturate the app
+        Semaphore permits = new Semaphore(config.seedConcurrency());
+        AtomicInteger done = new AtomicInteger();
+        Session[] sessions = new Session[config.users()];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < config.users(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        sessions[index] = seedUser(index);
+                    } finally {
+                        permits.release();
+                    }
+                    int completed = done.incrementAndGet();
+                    if (completed % Math.max(1, config.users() / 10) == 0 || completed == config.users()) {
+                        System.out.printf("  seeded %d/%d users%n", completed, config.users());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        List<Session> usable = Arrays.stream(sessions).filter(Objects::nonNull).toList();
+        if (usable.isEmpty()) {
+            throw new IllegalStateException("None of the seeded users could log in");
+        }
+        if (usable.size() < sessions.length) {
+            System.out.printf("  skipped %d existing users that cannot log in (locked or deleted)%n",
+                    sessions.length - usable.size());
+        }
+        return usable;
+    }
+
+    /**
+     * Returns null for an existing user that cannot log in.
+     */
+    private Session seedUser(int index) throws Exception {
+        Session session = new Session(index, config.emailPrefix() + "-" + index + "@loadtest.local");
+        Map<String, String> credentials = Map.of("email", session.email(), "password", config.password());
+
+        ApiClient.Response response = client.post("/api/auth/register", null, credentials, session.clientIp());
+        if (response.status() == 400) {
+            // Already registered by an earlier run or by DataGenerator, which also creates inactive users
+            response = client.post("/api/auth/login", null, credentials, session.clientIp());
+            if (response.status() == 401) {
+                return null;
+            }
+        }
+        expect(response, response.status() == 201 ? 201 : 200, "authenticate " + session.email());
+        JsonNode tokens = response.json();
+        session.tokens(tokens.path("accessToken").asText(), tokens.path("refreshToken").asText());
+
+        ApiClient.Response existing = client.get(
+                "/api/tasks?size=" + EXISTING_PAGE_SIZE, session.accessToken(), session.clientIp());
+        expect(existing, 200, "list tasks of " + session.email());
+        JsonNode page = existing.json();
+        List<String> ids = new ArrayList<>();
+        page.path("content").forEach(task -> ids.add(task.path("id").asText()));
+
+        SplittableRandom random = new SplittableRandom(config.seed() + index);
+        long missing = config.tasksPerUser() - page.path("totalElements").asLong();
+        for (long i = 0; i < missing; i++) {
+            ApiClient.Response created = client.post(
+                    "/api/tasks", session.accessToken(), Workload.newTask(random), session.clientIp());
+            expect(created, 201, "create task for " + session.email());
+            ids.add(created.json().path("id").asText());
+        }
+        session.addSeededTasks(ids);
+        return session;
+    }
+
+    private static void expect(ApiClient.Response response, int status, String action) {
+        if (response.status() != status) {
+            throw new IllegalStateException("Seeding failed to " + action + ": HTTP " + response.status()
+                    + (response.status() == 429 ? " (rate limited; raise rate-limit.* on the target)" : ""));
+        }
+    }
+}
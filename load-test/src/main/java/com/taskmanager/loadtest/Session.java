@@ -0,0 +1,91 @@
+package com.taskmanager.loadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A seeded user: credentials, current token pair and the ids of the tasks it owns. In the open model several
+ * requests for the same user can be in flight at once, so all mutable state is thread-safe. Refreshes are the
+ * exception: each refresh token may be exchanged once, and presenting it twice revokes the whole family, so a
+ * session refreshes one request at a time, as a real client would.
+ */
+public class Session {
+
+    private final int index;
+    private final String email;
+    private final String clientIp;
+    private volatile String accessToken;
+    private volatile String refreshToken;
+    // Held from reading the refresh token until its successor is stored
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final CopyOnWriteArrayList<String> taskIds = new CopyOnWriteArrayList<>();
+    // Only tasks created during the run are deleted, so the seeded dataset keeps its size across runs
+    private final ConcurrentLinkedDeque<String> createdTaskIds = new ConcurrentLinkedDeque<>();
+
+    public Session(int index, String email) {
+        this.index = index;
+        this.email = email;
+        this.clientIp = "10." + ((index >> 16) & 0xff) + "." + ((index >> 8) & 0xff) + "." + (index & 0xff);
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public String email() {
+        return email;
+    }
+
+    public String clientIp() {
+        return clientIp;
+    }
+
+    public String accessToken() {
+        return accessToken;
+    }
+
+    public String refreshToken() {
+        return refreshToken;
+    }
+
+    public ReentrantLock refreshLock() {
+        return refreshLock;
+    }
+
+    public void tokens(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public void addSeededTasks(List<String> ids) {
+        taskIds.addAll(ids);
+    }
+
+    public void taskCreated(String id) {
+        taskIds.add(id);
+        createdTaskIds.addLast(id);
+    }
+
+    /**
+     * Removes and returns the most recently created task, or null if the run has not created any.
+     */
+    public String takeCreatedTask() {
+        String id = createdTaskIds.pollLast();
+        if (id != null) {
+            taskIds.remove(id);
+        }
+        return id;
+    }
+
+    public String randomTask(SplittableRandom random) {
+        Object[] ids = taskIds.toArray();
+        return ids.length == 0 ? null : (String) ids[random.nextInt(ids.length)];
+    }
+
+    public int taskCount() {
+        return taskIds.size();
+    }
+}
@@ -0,0 +1,153 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executes one operation of the mix on behalf of a session and records its outcome. Latency is measured
+ * from the caller-supplied start time, which in the open model is the scheduled send time, so queueing in
+ * the generator or the server counts against the endpoint (no coordinated omission).
+ */
+public class Workload {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    private final ApiClient client;
+    private final String password;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private volatile boolean measuring;
+
+    public Workload(ApiClient client, String password) {
+        this.client = client;
+        this.password = password;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+    }
+
+    public Map<Operation, EndpointStats> stats() {
+        return stats;
+    }
+
+    /**
+     * Warmup requests are executed but not recorded.
+     */
+    public void startMeasuring() {
+        measuring = true;
+    }
+
+    public void stopMeasuring() {
+        measuring = false;
+    }
+
+    public void execute(Operation operation, Session session, SplittableRandom random, long startNanos)
+            throws InterruptedException {
+        // Reads and writes of a specific task need one to exist; a session without one creates instead
+        String taskId = switch (operation) {
+            case GET, UPDATE -> session.randomTask(random);
+            case DELETE -> session.takeCreatedTask();
+            default -> null;
+        };
+        Operation effective = needsTask(operation) && taskId == null ? Operation.CREATE : operation;
+
+        // Two refreshes in flight would present the same token, which the server takes for reuse. Waiting for
+        // the session's previous refresh counts towards latency
+        ReentrantLock refreshLock = effective == Operation.REFRESH ? session.refreshLock() : null;
+        if (refreshLock != null) {
+            refreshLock.lockInterruptibly();
+        }
+        try {
+            ApiClient.Response response = send(effective, session, random, taskId);
+            if (measuring) {
+                stats.get(effective).record(System.nanoTime() - startNanos, response.status(), response.size());
+            }
+            onResponse(effective, session, response);
+        } catch (HttpTimeoutException e) {
+            recordFailure(effective, startNanos, "timeout");
+        } catch (IOException e) {
+            recordFailure(effective, startNanos, "io-error");
+        } finally {
+            if (refreshLock != null) {
+                refreshLock.unlock();
+            }
+        }
+    }
+
+    public void recordDropped(Operation operation, long startNanos) {
+        recordFailure(operation, startNanos, "dropped");
+    }
+
+    private void recordFailure(Operation operation, long startNanos, String outcome) {
+        if (measuring) {
+            stats.get(operation).recordFailure(System.nanoTime() - startNanos, outcome);
+        }
+    }
+
+    private ApiClient.Response send(Operation operation, Session session, SplittableRandom random, String taskId)
+            throws IOException, InterruptedException {
+        String token = session.accessToken();
+        String ip = session.clientIp();
+        return switch (operation) {
+            case LOGIN -> client.post("/api/auth/login",
+                    null, Map.of("email", session.email(), "password", password), ip);
+            case REFRESH -> client.post("/api/auth/refresh",
+                    null, Map.of("refreshToken", session.refreshToken()), ip);
+            case LIST -> client.get(listPath(session, random), token, ip);
+            case GET -> client.get("/api/tasks/" + taskId, token, ip);
+            case CREATE -> client.post("/api/tasks", token, newTask(random), ip);
+            case UPDATE -> client.put("/api/tasks/" + taskId, token, Map.of(
+                    "status", STATUSES[random.nextInt(STATUSES.length)],
+                    "priority", PRIORITIES[random.nextInt(PRIORITIES.length)]), ip);
+            case DELETE -> client.delete("/api/tasks/" + taskId, token, ip);
+        };
+    }
+
+    private void onResponse(Operation operation, Session session, ApiClient.Response response) {
+        if (response.status() != operation.expectedStatus()) {
+            return;
+        }
+        switch (operation) {
+            case LOGIN, REFRESH -> {
+                JsonNode body = response.json();
+                session.tokens(body.path("accessToken").asText(), body.path("refreshToken").asText());
+            }
+            case CREATE -> session.taskCreated(response.json().path("id").asText());
+            default -> {
+            }
+        }
+    }
+
+    private static String listPath(Session session, SplittableRandom random) {
+        int pages = Math.max(1, (session.taskCount() + PAGE_SIZE - 1) / PAGE_SIZE);
+        // Mostly the first page, as a UI would request it
+        int page = random.nextInt(4) == 0 ? random.nextInt(pages) : 0;
+        String path = "/api/tasks?page=" + page + "&size=" + PAGE_SIZE;
+        if (random.nextInt(4) == 0) {
+            path += "&status=" + STATUSES[random.nextInt(STATUSES.length)];
+        }
+        return path;
+    }
+
+    static Map<String, Object> newTask(SplittableRandom random) {
+        return Map.of(
+                "title", "Load test task " + Long.toHexString(random.nextLong()),
+                "description", "Created by the load-test harness",
+                "status", "TODO",
+                "priority", PRIORITIES[random.nextInt(PRIORITIES.length)],
+                "dueDate", LocalDate.now().plusDays(random.nextInt(1, 60)).toString()
+        );
+    }
+
+    private static boolean needsTask(Operation operation) {
+        return operation == Operation.GET || operation == Operation.UPDATE || operation == Operation.DELETE;
+    }
+}
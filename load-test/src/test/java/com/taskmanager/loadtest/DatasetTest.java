@@ -0,0 +1,114 @@
+package com.taskmanager.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Dataset")
+class DatasetTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static Dataset dataset(long seed) {
+        return new Dataset(seed, AS_OF, Duration.ofDays(730), 10, 100_000, 1.2, "perf", "hash");
+    }
+
+    @Nested
+    @DisplayName("determinism")
+    class Determinism {
+
+        @Test
+        @DisplayName("should produce identical rows for the same seed regardless of generation order")
+        void shouldBeReproducible() throws IOException {
+            // Given
+            Dataset first = dataset(42);
+            Dataset second = dataset(42);
+            second.user(99);
+
+            // When/Then
+            assertThat(rows(second, 7)).isEqualTo(rows(first, 7));
+        }
+
+        @Test
+        @DisplayName("should produce different rows for a different seed")
+        void shouldVaryWithSeed() throws IOException {
+            assertThat(rows(dataset(43), 7)).isNotEqualTo(rows(dataset(42), 7));
+        }
+
+        @Test
+        @DisplayName("should derive the same BCrypt hash from the same seed")
+        void shouldHashPasswordReproducibly() throws Exception {
+            // When
+            String hash = DataGenerator.passwordHash("LoadTest123!", 42);
+
+            // Then
+            assertThat(DataGenerator.passwordHash("LoadTest123!", 42)).isEqualTo(hash);
+            assertThat(new BCryptPasswordEncoder().matches("LoadTest123!", hash)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("distribution")
+    class Distribution {
+
+        @Test
+        @DisplayName("should give most users few tasks and a few users up to the cap")
+        void shouldSkewTaskCounts() {
+            // Given
+            Dataset dataset = dataset(42);
+
+            // When
+            int[] counts = IntStream.range(0, 100_000).map(i -> dataset.user(i).taskCount()).sorted().toArray();
+
+            // Then
+            assertThat(counts[counts.length / 2]).isBetween(9, 11);
+            assertThat(counts[counts.length - 1]).isLessThanOrEqualTo(100_000);
+            assertThat(Arrays.stream(counts).filter(count -> count >= 10_000).count()).isPositive();
+        }
+
+        @Test
+        @DisplayName("should write one nine-column task row per task, created within the user's lifetime")
+        void shouldWriteTaskRows() throws IOException {
+            // Given
+            Dataset dataset = dataset(42);
+            Dataset.User user = dataset.user(3);
+            StringWriter out = new StringWriter();
+
+            // When
+            dataset.writeTasks(user, out);
+
+            // Then
+            String[] rows = out.toString().split("\n");
+            assertThat(rows).hasSize(user.taskCount());
+            for (String row : rows) {
+                String[] columns = row.split("\t");
+                assertThat(columns).hasSize(9);
+                assertThat(columns[1]).isEqualTo(user.id().toString());
+                assertThat(columns[4]).isIn("TODO", "IN_PROGRESS", "DONE", "DELETED");
+                assertThat(columns[5]).isIn("LOW", "MEDIUM", "HIGH");
+                Instant createdAt = Instant.parse(columns[7]);
+                assertThat(createdAt).isBetween(user.createdAt(), AS_OF);
+                assertThat(Instant.parse(columns[8])).isBetween(createdAt, AS_OF);
+            }
+        }
+    }
+
+    private static String rows(Dataset dataset, int index) throws IOException {
+        StringWriter out = new StringWriter();
+        Dataset.User user = dataset.user(index);
+        dataset.writeUser(user, out);
+        dataset.writeRoles(user, out);
+        dataset.writeTasks(user, out);
+        return out.toString();
+    }
+}
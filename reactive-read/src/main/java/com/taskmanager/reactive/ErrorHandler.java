@@ -0,0 +1,36 @@
+package com.taskmanager.reactive;
+
+import com.taskmanager.api.common.exception.ErrorResponse;
+import com.taskmanager.api.common.exception.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+@RestControllerAdvice
+public class ErrorHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException ex, ServerHttpRequest request) {
+        return error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex, ServerHttpRequest request) {
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidInput(ServerWebInputException ex, ServerHttpRequest request) {
+        String parameter = ex.getMethodParameter() != null ? ex.getMethodParameter().getParameterName() : null;
+        String message = parameter != null ? "Invalid parameter: " + parameter : "Invalid request";
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", message, request);
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message, ServerHttpRequest request) {
+        ErrorResponse body = new ErrorResponse(status.value(), error, message, request.getPath().value());
+        return ResponseEntity.status(status).body(body);
+    }
+}
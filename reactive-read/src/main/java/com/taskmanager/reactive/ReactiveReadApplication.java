@@ -0,0 +1,16 @@
+package com.taskmanager.reactive;
+
+import com.taskmanager.api.security.JwtUtil;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+@SpringBootApplication
+@Import(JwtUtil.class)
+public class ReactiveReadApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveReadApplication.class, args);
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.taskmanager.reactive.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.common.exception.ErrorResponse;
+import com.taskmanager.api.security.JwtUtil;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of JwtAuthFilter: only active users holding a valid access token reach /api/**.
+ * The authenticated user id is exposed to handlers via {@link #OWNER_ID_ATTRIBUTE}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JwtAuthWebFilter implements WebFilter {
+
+    public static final String OWNER_ID_ATTRIBUTE = JwtAuthWebFilter.class.getName() + ".ownerId";
+
+    private final JwtUtil jwtUtil;
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    public JwtAuthWebFilter(JwtUtil jwtUtil, DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this.jwtUtil = jwtUtil;
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().value().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return unauthorized(exchange);
+        }
+
+        String token = authHeader.substring(7);
+        if (!jwtUtil.validateToken(token) || !jwtUtil.isAccessToken(token)) {
+            return unauthorized(exchange);
+        }
+
+        UUID userId = jwtUtil.getUserIdFromToken(token);
+        return isActive(userId).flatMap(active -> {
+            if (!active) {
+                return unauthorized(exchange);
+            }
+            exchange.getAttributes().put(OWNER_ID_ATTRIBUTE, userId);
+            return chain.filter(exchange);
+        });
+    }
+
+    private Mono<Boolean> isActive(UUID userId) {
+        return databaseClient.sql("SELECT status FROM users WHERE id = :id")
+                .bind("id", userId)
+                .map(row -> row.get("status", String.class))
+                .one()
+                .map("ACTIVE"::equals)
+                .defaultIfEmpty(false);
+    }
+
+    private Mono<Void> unauthorized(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Not authenticated",
+                exchange.getRequest().getPath().value()
+        );
+        try {
+            DataBuffer body = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(error));
+            return response.writeWith(Mono.just(body));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+}
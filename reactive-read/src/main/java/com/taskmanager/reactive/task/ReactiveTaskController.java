@@ -0,0 +1,54 @@
+package com.taskmanager.reactive.task;
+
+import com.taskmanager.api.common.exception.ResourceNotFoundException;
+import com.taskmanager.api.tag.TagFilter;
+import com.taskmanager.api.tag.TagMatch;
+import com.taskmanager.api.task.TaskPriority;
+import com.taskmanager.api.task.TaskResponse;
+import com.taskmanager.api.task.TaskSort;
+import com.taskmanager.api.task.TaskStatus;
+import com.taskmanager.reactive.security.JwtAuthWebFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/tasks")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskRepository taskRepository;
+
+    public ReactiveTaskController(ReactiveTaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @GetMapping
+    public Mono<Page<TaskResponse>> getTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "ALL") TagMatch tagMatch,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            ServerWebExchange exchange
+    ) {
+        return taskRepository.findAllByOwnerId(ownerId(exchange), status, priority, TagFilter.of(tags, tagMatch),
+                TaskSort.pageRequest(pageable));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TaskResponse> getTask(@PathVariable UUID id, ServerWebExchange exchange) {
+        return taskRepository.findVisibleById(id, ownerId(exchange))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found")));
+    }
+
+    private UUID ownerId(ServerWebExchange exchange) {
+        return exchange.getRequiredAttribute(JwtAuthWebFilter.OWNER_ID_ATTRIBUTE);
+    }
+}
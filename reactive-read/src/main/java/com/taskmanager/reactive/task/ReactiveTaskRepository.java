@@ -0,0 +1,184 @@
+package com.taskmanager.reactive.task;
+
+import com.taskmanager.api.tag.TagFilter;
+import com.taskmanager.api.tag.TagMatch;
+import com.taskmanager.api.task.TaskPriority;
+import com.taskmanager.api.task.TaskResponse;
+import com.taskmanager.api.task.TaskStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only task queries with the same scoping as TaskRepository: only non-deleted tasks, lists only of
+ * the owner's tasks and only while the owner is ACTIVE, single tasks also to members of the task's project.
+ */
+@Repository
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = """
+            SELECT t.id, t.owner_id, t.parent_id, t.project_id, t.title, t.description, t.status, t.priority,
+                   t.due_date, t.tags, t.created_at, t.updated_at
+            """;
+
+    private static final String OWNER_SCOPE = """
+            FROM tasks t
+            JOIN users u ON u.id = t.owner_id
+            WHERE t.owner_id = :ownerId
+              AND t.status <> 'DELETED'
+              AND u.status = 'ACTIVE'
+            """;
+
+    // Columns of the Task properties TaskSort sorts by (the rank is Task.priorityRank's expression, as indexed
+    // in V11); anything else is rejected
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "t.created_at",
+            "updatedAt", "t.updated_at",
+            "dueDate", "t.due_date",
+            "priorityRank", "CASE t.priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END",
+            "id", "t.id"
+    );
+
+    private final DatabaseClient databaseClient;
+    // Tag filters use the array operators the GIN index on tasks.tags serves; H2 (tests) has neither, so
+    // there each tag is its own ARRAY_CONTAINS test
+    private final boolean postgres;
+
+    public ReactiveTaskRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.postgres = "PostgreSQL".equals(databaseClient.getConnectionFactory().getMetadata().getName());
+    }
+
+    public Mono<Page<TaskResponse>> findAllByOwnerId(UUID ownerId, TaskStatus status, TaskPriority priority,
+                                                     TagFilter tags, Pageable pageable) {
+        StringBuilder where = new StringBuilder(OWNER_SCOPE);
+        if (status != null) {
+            where.append(" AND t.status = :status");
+        }
+        if (priority != null) {
+            where.append(" AND t.priority = :priority");
+        }
+        if (!tags.none()) {
+            where.append(tagCondition(tags));
+        }
+
+        String select = COLUMNS + where + orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset";
+        Mono<List<TaskResponse>> content = bindFilters(databaseClient.sql(select), ownerId, status, priority, tags)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveTaskRepository::toResponse)
+                .all()
+                .collectList();
+
+        return content.flatMap(tasks -> {
+            // Skip the COUNT when the page itself tells us the total, as PageableExecutionUtils does
+            if (tasks.size() < pageable.getPageSize() && (!tasks.isEmpty() || pageable.getOffset() == 0)) {
+                return Mono.just(new PageImpl<>(tasks, pageable, pageable.getOffset() + tasks.size()));
+            }
+            return bindFilters(databaseClient.sql("SELECT COUNT(*) AS total " + where), ownerId, status, priority, tags)
+                    .map(row -> row.get("total", Long.class))
+                    .one()
+                    .map(total -> new PageImpl<>(tasks, pageable, total));
+        });
+    }
+
+    // Any project role may read, as in TaskService.getTaskById
+    public Mono<TaskResponse> findVisibleById(UUID id, UUID userId) {
+        return databaseClient.sql(COLUMNS + """
+                        FROM tasks t
+                        WHERE t.id = :id
+                          AND t.status <> 'DELETED'
+                          AND (t.owner_id = :userId OR EXISTS (
+                              SELECT 1 FROM project_members m
+                              WHERE m.project_id = t.project_id AND m.user_id = :userId))
+                        """)
+                .bind("id", id)
+                .bind("userId", userId)
+                .map(ReactiveTaskRepository::toResponse)
+                .one();
+    }
+
+    // ALL: the task's tags contain every one; ANY: they share at least one
+    private String tagCondition(TagFilter tags) {
+        if (postgres) {
+            return tags.match() == TagMatch.ANY
+                    ? " AND t.tags && CAST(:tags AS text[])"
+                    : " AND t.tags @> CAST(:tags AS text[])";
+        }
+        return IntStream.range(0, tags.tags().size())
+                .mapToObj(i -> "ARRAY_CONTAINS(t.tags, :tag" + i + ")")
+                .collect(Collectors.joining(tags.match() == TagMatch.ANY ? " OR " : " AND ", " AND (", ")"));
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindFilters(DatabaseClient.GenericExecuteSpec spec, UUID ownerId,
+                                                          TaskStatus status, TaskPriority priority, TagFilter tags) {
+        spec = spec.bind("ownerId", ownerId);
+        if (status != null) {
+            spec = spec.bind("status", status.name());
+        }
+        if (priority != null) {
+            spec = spec.bind("priority", priority.name());
+        }
+        if (tags.none()) {
+            return spec;
+        }
+        if (postgres) {
+            return spec.bind("tags", tags.tags().toArray(String[]::new));
+        }
+        for (int i = 0; i < tags.tags().size(); i++) {
+            spec = spec.bind("tag" + i, tags.tags().get(i));
+        }
+        return spec;
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return " ORDER BY t.created_at DESC, t.id DESC";
+        }
+        return sort.stream()
+                .map(order -> {
+                    String column = SORT_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    // text[] decodes as String[] on PostgreSQL, as Object[] on H2
+    private static List<String> tags(Object value) {
+        return value == null ? List.of() : Arrays.stream((Object[]) value).map(String::valueOf).toList();
+    }
+
+    private static TaskResponse toResponse(Readable row) {
+        return new TaskResponse(
+                row.get("id", UUID.class),
+                row.get("owner_id", UUID.class),
+                row.get("parent_id", UUID.class),
+                row.get("project_id", UUID.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                TaskStatus.valueOf(row.get("status", String.class)),
+                TaskPriority.valueOf(row.get("priority", String.class)),
+                row.get("due_date", LocalDate.class),
+                tags(row.get("tags")),
+                row.get("created_at", OffsetDateTime.class).toInstant(),
+                row.get("updated_at", OffsetDateTime.class).toInstant()
+        );
+    }
+}
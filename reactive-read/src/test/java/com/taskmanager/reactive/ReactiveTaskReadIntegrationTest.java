@@ -0,0 +1,258 @@
+package com.taskmanager.reactive;
+
+import com.taskmanager.api.security.JwtUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@DisplayName("Reactive Task Read Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveTaskReadIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final UUID userA = UUID.randomUUID();
+    private final UUID userB = UUID.randomUUID();
+    private final UUID userC = UUID.randomUUID();
+    private final UUID lockedUser = UUID.randomUUID();
+    private final UUID taskA = UUID.randomUUID();
+    private final UUID taskA2 = UUID.randomUUID();
+    private final UUID deletedTaskA = UUID.randomUUID();
+    private final UUID taskB = UUID.randomUUID();
+    private final UUID project = UUID.randomUUID();
+    private final UUID projectTaskB = UUID.randomUUID();
+
+    @BeforeAll
+    void seed() {
+        insertUser(userA, "ACTIVE");
+        insertUser(userB, "ACTIVE");
+        insertUser(userC, "ACTIVE");
+        insertUser(lockedUser, "LOCKED");
+        insertTask(taskA, userA, "Task A", "TODO", "HIGH", "2026-01-01T00:00:00Z");
+        insertTask(taskA2, userA, "Task A2", "DONE", "LOW", "2026-01-02T00:00:00Z");
+        insertTask(deletedTaskA, userA, "Deleted A", "DELETED", "LOW", "2026-01-03T00:00:00Z");
+        insertTask(taskB, userB, "Task B", "TODO", "MEDIUM", "2026-01-01T00:00:00Z");
+        // userB's task in a project userA is a viewer of
+        insertTask(projectTaskB, userB, "Project task B", "TODO", "MEDIUM", "2026-01-01T00:00:00Z");
+        databaseClient.sql("UPDATE tasks SET tags = ARRAY['urgent', 'work'] WHERE id = :id")
+                .bind("id", taskA)
+                .then()
+                .block(Duration.ofSeconds(5));
+        databaseClient.sql("UPDATE tasks SET tags = ARRAY['home'] WHERE id = :id")
+                .bind("id", taskA2)
+                .then()
+                .block(Duration.ofSeconds(5));
+        databaseClient.sql("UPDATE tasks SET project_id = :project WHERE id = :id")
+                .bind("project", project)
+                .bind("id", projectTaskB)
+                .then()
+                .block(Duration.ofSeconds(5));
+        databaseClient.sql("INSERT INTO project_members (project_id, user_id, role) VALUES (:project, :userId, 'VIEWER')")
+                .bind("project", project)
+                .bind("userId", userA)
+                .then()
+                .block(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks — should list own non-deleted tasks newest first")
+    void shouldListOwnTasks() {
+        webTestClient.get().uri("/api/tasks")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(2)
+                .jsonPath("$.content[0].title").isEqualTo("Task A2")
+                .jsonPath("$.content[1].title").isEqualTo("Task A")
+                .jsonPath("$.content[1].ownerId").isEqualTo(userA.toString());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks — should filter by status and priority")
+    void shouldFilter() {
+        webTestClient.get().uri("/api/tasks?status=TODO&priority=HIGH")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].id").isEqualTo(taskA.toString());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks — should filter by all or any of the tags")
+    void shouldFilterByTags() {
+        webTestClient.get().uri("/api/tasks?tags=Work,urgent")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].id").isEqualTo(taskA.toString());
+        webTestClient.get().uri("/api/tasks?tags=work,home")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(0);
+        webTestClient.get().uri("/api/tasks?tags=work,home&tagMatch=ANY")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks — should reject invalid tags and tag match")
+    void shouldRejectInvalidTags() {
+        webTestClient.get().uri("/api/tasks?tags=not a tag")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri("/api/tasks?tags=work&tagMatch=SOME")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks — should reject unknown sort property")
+    void shouldRejectUnknownSort() {
+        webTestClient.get().uri("/api/tasks?sort=passwordHash")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri("/api/tasks?sort=title")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks — should sort by priority rank")
+    void shouldSortByPriorityRank() {
+        webTestClient.get().uri("/api/tasks?sort=priority,asc")
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].priority").isEqualTo("LOW")
+                .jsonPath("$.content[1].priority").isEqualTo("HIGH");
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} — should get own task")
+    void shouldGetOwnTask() {
+        webTestClient.get().uri("/api/tasks/" + taskA)
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(taskA.toString())
+                .jsonPath("$.priority").isEqualTo("HIGH")
+                .jsonPath("$.tags[0]").isEqualTo("urgent")
+                .jsonPath("$.tags[1]").isEqualTo("work");
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} — other user's and deleted tasks return 404")
+    void shouldHideOtherUsersAndDeletedTasks() {
+        webTestClient.get().uri("/api/tasks/" + taskB)
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Task not found");
+
+        webTestClient.get().uri("/api/tasks/" + deletedTaskA)
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} — should get another member's task in a shared project")
+    void shouldGetProjectTask() {
+        webTestClient.get().uri("/api/tasks/" + projectTaskB)
+                .header("Authorization", bearer(userA))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.projectId").isEqualTo(project.toString());
+
+        // Not a member
+        webTestClient.get().uri("/api/tasks/" + projectTaskB)
+                .header("Authorization", bearer(userC))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("should return 401 without a token, with a refresh token, or for an inactive user")
+    void shouldRejectUnauthenticated() {
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/tasks")
+                .header("Authorization", "Bearer " + jwtUtil.generateRefreshToken(userA, "a@example.com"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/tasks")
+                .header("Authorization", bearer(lockedUser))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + jwtUtil.generateAccessToken(userId, userId + "@example.com");
+    }
+
+    private void insertUser(UUID id, String status) {
+        databaseClient.sql("INSERT INTO users (id, email, password_hash, status) VALUES (:id, :email, 'x', :status)")
+                .bind("id", id)
+                .bind("email", id + "@example.com")
+                .bind("status", status)
+                .then()
+                .block(Duration.ofSeconds(5));
+    }
+
+    private void insertTask(UUID id, UUID ownerId, String title, String status, String priority, String createdAt) {
+        databaseClient.sql("""
+                        INSERT INTO tasks (id, owner_id, title, status, priority, created_at, updated_at)
+                        VALUES (:id, :ownerId, :title, :status, :priority, :createdAt, :createdAt)
+                        """)
+                .bind("id", id)
+                .bind("ownerId", ownerId)
+                .bind("title", title)
+                .bind("status", status)
+                .bind("priority", priority)
+                .bind("createdAt", OffsetDateTime.parse(createdAt))
+                .then()
+                .block(Duration.ofSeconds(5));
+    }
+}
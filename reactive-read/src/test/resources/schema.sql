@@ -0,0 +1,31 @@
+-- Subset of the main API's Flyway schema needed by the read path
+CREATE TABLE IF NOT EXISTS users (
+    id            UUID PRIMARY KEY,
+    email         VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(72)  NOT NULL,
+    status        VARCHAR(20)  NOT NULL DEFAULT 'ACTIVE',
+    created_at    TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at    TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id          UUID PRIMARY KEY,
+    owner_id    UUID         NOT NULL REFERENCES users(id),
+    parent_id   UUID         REFERENCES tasks(id),
+    project_id  UUID,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    status      VARCHAR(20)  NOT NULL DEFAULT 'TODO',
+    priority    VARCHAR(20)  NOT NULL DEFAULT 'MEDIUM',
+    due_date    DATE,
+    tags        VARCHAR ARRAY NOT NULL DEFAULT ARRAY[],
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS project_members (
+    project_id UUID        NOT NULL,
+    user_id    UUID        NOT NULL REFERENCES users(id),
+    role       VARCHAR(20) NOT NULL,
+    PRIMARY KEY (project_id, user_id)
+);
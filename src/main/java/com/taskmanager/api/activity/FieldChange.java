@@ -0,0 +1,14 @@
+package com.taskmanager.api.activity;
+
+import java.util.Objects;
+
+public record FieldChange(String field, String from, String to) {
+
+    public static FieldChange of(String field, Object from, Object to) {
+        return new FieldChange(field, from != null ? from.toString() : null, to != null ? to.toString() : null);
+    }
+
+    public boolean changed() {
+        return !Objects.equals(from, to);
+    }
+}
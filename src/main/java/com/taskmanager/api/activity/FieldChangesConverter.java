@@ -0,0 +1,42 @@
+package com.taskmanager.api.activity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * Field diffs are stored as a JSON array in a TEXT column, so the batch writer can insert them as plain
+ * strings on PostgreSQL and H2 alike.
+ */
+@Converter
+public class FieldChangesConverter implements AttributeConverter<List<FieldChange>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<FieldChange>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<FieldChange> changes) {
+        try {
+            return MAPPER.writeValueAsString(changes != null ? changes : List.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize task activity changes", e);
+        }
+    }
+
+    @Override
+    public List<FieldChange> convertToEntityAttribute(String json) {
+        if (json == null || json.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read task activity changes", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.api.activity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One change to a task. Rows are inserted by {@link TaskActivityWriter}, never through JPA; the id is
+ * assigned when the change is recorded, so a row relayed twice from the outbox is inserted once.
+ */
+@Entity
+@Table(name = "task_activity", indexes = @Index(name = "ix_task_activity_task_occurred", columnList = "task_id, occurred_at"))
+public class TaskActivity {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.UUID)
+    private UUID id;
+
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "actor_id", nullable = false)
+    private UUID actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 20)
+    private TaskActivityAction action;
+
+    @Convert(converter = FieldChangesConverter.class)
+    @Column(name = "changes", nullable = false, columnDefinition = "TEXT")
+    private List<FieldChange> changes;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    protected TaskActivity() {
+    }
+
+    public TaskActivity(UUID id, UUID taskId, UUID actorId, TaskActivityAction action, List<FieldChange> changes,
+                        Instant occurredAt) {
+        this.id = id;
+        this.taskId = taskId;
+        this.actorId = actorId;
+        this.action = action;
+        this.changes = changes;
+        this.occurredAt = occurredAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public UUID getActorId() {
+        return actorId;
+    }
+
+    public TaskActivityAction getAction() {
+        return action;
+    }
+
+    public List<FieldChange> getChanges() {
+        return changes;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
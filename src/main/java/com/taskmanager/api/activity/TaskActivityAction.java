@@ -0,0 +1,7 @@
+package com.taskmanager.api.activity;
+
+public enum TaskActivityAction {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,157 @@
+package com.taskmanager.api.activity;
+
+import com.taskmanager.api.common.RingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Task history without an INSERT on the request path. Entries are handed to a lock-free ring buffer once
+ * the change commits and written by a scheduled flush, in multi-row batches of task.activity.batch-size.
+ *
+ * <p>Buffered entries are lost if the node dies before the next flush. Actions listed in
+ * task.activity.durable-actions are instead written to task_activity_outbox in the change's own
+ * transaction, and entries that do not fit in a full buffer or whose batch fails go there too; a relay
+ * moves outbox entries into task_activity.
+ */
+@Component
+public class TaskActivityLog {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskActivityLog.class);
+
+    private final TaskActivityWriter writer;
+    private final RingBuffer<TaskActivity> buffer;
+    private final Set<TaskActivityAction> durableActions;
+    private final int batchSize;
+    private final Clock clock;
+    private final Counter written;
+    private final Counter outboxed;
+    private final Counter overflowed;
+    private final Counter dropped;
+
+    @Autowired
+    public TaskActivityLog(
+            TaskActivityWriter writer,
+            MeterRegistry meterRegistry,
+            @Value("${task.activity.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${task.activity.batch-size:500}") int batchSize,
+            @Value("${task.activity.durable-actions:DELETED}") Set<TaskActivityAction> durableActions
+    ) {
+        this(writer, meterRegistry, bufferCapacity, batchSize, durableActions, Clock.systemUTC());
+    }
+
+    TaskActivityLog(TaskActivityWriter writer, MeterRegistry meterRegistry, int bufferCapacity, int batchSize,
+                    Set<TaskActivityAction> durableActions, Clock clock) {
+        if (batchSize < 1 || batchSize > 5000) {
+            throw new IllegalArgumentException("task.activity.batch-size must be between 1 and 5000");
+        }
+        this.writer = writer;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.durableActions = durableActions.isEmpty()
+                ? EnumSet.noneOf(TaskActivityAction.class) : EnumSet.copyOf(durableActions);
+        this.batchSize = batchSize;
+        this.clock = clock;
+        this.written = entriesCounter(meterRegistry, "written");
+        this.outboxed = entriesCounter(meterRegistry, "outbox");
+        this.overflowed = entriesCounter(meterRegistry, "overflow");
+        this.dropped = entriesCounter(meterRegistry, "dropped");
+        Gauge.builder("task.activity.buffer.size", buffer, RingBuffer::size)
+                .description("Task activity entries waiting for the next flush")
+                .register(meterRegistry);
+    }
+
+    private static Counter entriesCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("task.activity.entries")
+                .description("Task activity entries by how they were stored")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public void record(UUID taskId, UUID actorId, TaskActivityAction action, List<FieldChange> changes) {
+        TaskActivity activity = new TaskActivity(
+                UUID.randomUUID(), taskId, actorId, action, List.copyOf(changes), clock.instant());
+        if (durableActions.contains(action)) {
+            writer.writeOutbox(List.of(activity));
+            outboxed.increment();
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Rolled-back changes leave no history
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(activity);
+                }
+            });
+        } else {
+            enqueue(activity);
+        }
+    }
+
+    private void enqueue(TaskActivity activity) {
+        if (buffer.offer(activity)) {
+            return;
+        }
+        // The flush is behind: pay for one insert on this thread rather than lose the entry
+        try {
+            writer.writeOutboxNow(List.of(activity));
+            overflowed.increment();
+        } catch (RuntimeException e) {
+            dropped.increment();
+            log.error("Dropped {} activity for task {}: buffer full and outbox write failed",
+                    activity.getAction(), activity.getTaskId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.activity.flush-interval-ms:200}")
+    public void flush() {
+        while (true) {
+            List<TaskActivity> batch = new ArrayList<>(Math.min(batchSize, buffer.capacity()));
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                return;
+            }
+            try {
+                writer.writeActivity(batch);
+                written.increment(batch.size());
+            } catch (RuntimeException e) {
+                log.warn("Writing {} task activity entries failed, moving them to the outbox", batch.size(), e);
+                try {
+                    writer.writeOutboxNow(batch);
+                    outboxed.increment(batch.size());
+                } catch (RuntimeException outboxFailure) {
+                    dropped.increment(batch.size());
+                    log.error("Dropped {} task activity entries: outbox write failed", batch.size(), outboxFailure);
+                    // Leave the rest buffered for the next run
+                    return;
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.activity.outbox.relay-interval-ms:1000}")
+    public void relayOutbox() {
+        int relayed;
+        do {
+            relayed = writer.relayOutbox(batchSize);
+        } while (relayed == batchSize);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
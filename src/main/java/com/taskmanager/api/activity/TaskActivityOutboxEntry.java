@@ -0,0 +1,46 @@
+package com.taskmanager.api.activity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Mapping of task_activity_outbox, which {@link TaskActivityWriter} reads and writes with plain SQL.
+ * Entries wait here, committed, until the relay copies them into task_activity.
+ */
+@Entity
+@Table(name = "task_activity_outbox", indexes = @Index(name = "ix_task_activity_outbox_occurred", columnList = "occurred_at"))
+public class TaskActivityOutboxEntry {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.UUID)
+    private UUID id;
+
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "actor_id", nullable = false)
+    private UUID actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 20)
+    private TaskActivityAction action;
+
+    @Column(name = "changes", nullable = false, columnDefinition = "TEXT")
+    private String changes;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    protected TaskActivityOutboxEntry() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
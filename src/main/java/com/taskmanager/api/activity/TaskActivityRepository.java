@@ -0,0 +1,12 @@
+package com.taskmanager.api.activity;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface TaskActivityRepository extends JpaRepository<TaskActivity, UUID> {
+
+    Page<TaskActivity> findAllByTaskId(UUID taskId, Pageable pageable);
+}
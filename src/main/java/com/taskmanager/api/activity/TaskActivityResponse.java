@@ -0,0 +1,24 @@
+package com.taskmanager.api.activity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record TaskActivityResponse(
+        UUID id,
+        TaskActivityAction action,
+        UUID actorId,
+        List<FieldChange> changes,
+        Instant occurredAt
+) {
+
+    public static TaskActivityResponse from(TaskActivity activity) {
+        return new TaskActivityResponse(
+                activity.getId(),
+                activity.getAction(),
+                activity.getActorId(),
+                activity.getChanges(),
+                activity.getOccurredAt()
+        );
+    }
+}
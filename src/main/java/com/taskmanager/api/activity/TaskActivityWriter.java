@@ -0,0 +1,101 @@
+package com.taskmanager.api.activity;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SQL side of the activity log: one multi-row INSERT per batch instead of a statement per entry. Inserts
+ * skip ids already present, so an entry relayed twice (a retry after a failed delete) is stored once.
+ */
+@Component
+public class TaskActivityWriter {
+
+    private static final String ACTIVITY_TABLE = "task_activity";
+    private static final String OUTBOX_TABLE = "task_activity_outbox";
+    private static final String COLUMNS = "id, task_id, actor_id, action, changes, occurred_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FieldChangesConverter changesConverter = new FieldChangesConverter();
+    private final RowMapper<TaskActivity> outboxMapper = (rs, rowNum) -> new TaskActivity(
+            rs.getObject("id", UUID.class),
+            rs.getObject("task_id", UUID.class),
+            rs.getObject("actor_id", UUID.class),
+            TaskActivityAction.valueOf(rs.getString("action")),
+            changesConverter.convertToEntityAttribute(rs.getString("changes")),
+            rs.getObject("occurred_at", OffsetDateTime.class).toInstant()
+    );
+
+    public TaskActivityWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public void writeActivity(List<TaskActivity> batch) {
+        insert(ACTIVITY_TABLE, batch);
+    }
+
+    // Joins the caller's transaction, so the entries commit or roll back with the change they describe
+    @Transactional
+    public void writeOutbox(List<TaskActivity> entries) {
+        insert(OUTBOX_TABLE, entries);
+    }
+
+    // Own transaction: callable from afterCommit, where the finished transaction's connection is still bound
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeOutboxNow(List<TaskActivity> entries) {
+        insert(OUTBOX_TABLE, entries);
+    }
+
+    /**
+     * Moves up to batchSize of the oldest outbox entries into task_activity and returns how many were moved.
+     * Entries another node is relaying are skipped rather than waited for or relayed again, so nodes relaying
+     * at once split the backlog between them.
+     */
+    @Transactional
+    public int relayOutbox(int batchSize) {
+        List<TaskActivity> entries = jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM " + OUTBOX_TABLE + " ORDER BY occurred_at LIMIT ? FOR UPDATE SKIP LOCKED",
+                outboxMapper, batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        insert(ACTIVITY_TABLE, entries);
+        List<Object> ids = new ArrayList<>(entries.size());
+        entries.forEach(entry -> ids.add(entry.getId()));
+        jdbcTemplate.update("DELETE FROM " + OUTBOX_TABLE + " WHERE id IN (" + placeholders(ids.size()) + ")",
+                ids.toArray());
+        return entries.size();
+    }
+
+    private void insert(String table, List<TaskActivity> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String rows = String.join(", ", Collections.nCopies(entries.size(), "(" + placeholders(6) + ")"));
+        List<Object> args = new ArrayList<>(entries.size() * 6);
+        for (TaskActivity entry : entries) {
+            args.add(entry.getId());
+            args.add(entry.getTaskId());
+            args.add(entry.getActorId());
+            args.add(entry.getAction().name());
+            args.add(changesConverter.convertToDatabaseColumn(entry.getChanges()));
+            args.add(OffsetDateTime.ofInstant(entry.getOccurredAt(), ZoneOffset.UTC));
+        }
+        jdbcTemplate.update("INSERT INTO " + table + " (" + COLUMNS + ") VALUES " + rows + " ON CONFLICT DO NOTHING",
+                args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
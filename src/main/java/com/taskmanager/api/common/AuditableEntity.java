@@ -28,4 +28,10 @@ public abstract class AuditableEntity {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    // For rows written without the entity manager, which never runs the auditing listener
+    protected void setAuditTimestamps(Instant createdAt, Instant updatedAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
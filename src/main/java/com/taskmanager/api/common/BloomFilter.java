@@ -0,0 +1,71 @@
+package com.taskmanager.api.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over cryptographic digests. The digest bytes are already uniformly distributed,
+ * so the k bit positions come from double hashing its first 16 bytes rather than from rehashing.
+ * {@link #mightContain} never returns false for a digest that was {@link #put}; it returns true for one
+ * that was not with about the false positive probability the filter was sized for, as long as no more
+ * than the expected number of digests are added.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive, got " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be in (0, 1), got "
+                    + falsePositiveProbability);
+        }
+        // m = -n ln p / (ln 2)^2 and k = (m / n) ln 2, the optimum for n entries
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability)
+                / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = wordCount * 64L;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(byte[] digest) {
+        long h1 = word(digest, 0);
+        long h2 = word(digest, 8);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            long current = words.get(index);
+            while ((current & mask) == 0 && !words.weakCompareAndSetVolatile(index, current, current | mask)) {
+                current = words.get(index);
+            }
+        }
+    }
+
+    public boolean mightContain(byte[] digest) {
+        long h1 = word(digest, 0);
+        long h2 = word(digest, 8);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long word(byte[] digest, int offset) {
+        if (digest.length < 16) {
+            throw new IllegalArgumentException("Digest must be at least 16 bytes, got " + digest.length);
+        }
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (digest[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmanager.api.common;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A version per owner, bumped after each committed write to their data. Anything derived from an owner's
+ * data (a shared in-flight read, a cached response) is keyed by the version it was read at, so a write
+ * invalidates it in O(1) without tracking what exists.
+ *
+ * <p>Owners are hashed onto a fixed number of stripes (owner-versions.stripes), which bounds memory
+ * regardless of the number of users. Owners sharing a stripe invalidate each other's entries, which costs
+ * an extra read but never serves stale data.
+ *
+ * <p>Each stripe also keeps the time of its last bump: a write by someone other than the owner (a project
+ * member) makes only the writer sticky to the primary, so a replica may not show it to the owner yet.
+ */
+@Component
+public class OwnerVersions {
+
+    private final AtomicLongArray versions;
+    private final AtomicLongArray bumpedAt;
+    private final int mask;
+    private final Clock clock;
+
+    @Autowired
+    public OwnerVersions(@Value("${owner-versions.stripes:65536}") int stripes) {
+        this(stripes, Clock.systemUTC());
+    }
+
+    OwnerVersions(int stripes, Clock clock) {
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("owner-versions.stripes must be a power of two: " + stripes);
+        }
+        this.versions = new AtomicLongArray(stripes);
+        this.bumpedAt = new AtomicLongArray(stripes);
+        this.mask = stripes - 1;
+        this.clock = clock;
+    }
+
+    public long current(UUID ownerId) {
+        return versions.get(stripe(ownerId));
+    }
+
+    /**
+     * Whether the owner's version was bumped within the window, so a replica may not show the write yet.
+     */
+    public boolean bumpedWithin(UUID ownerId, Duration window) {
+        long at = bumpedAt.get(stripe(ownerId));
+        return at != 0 && clock.millis() - at < window.toMillis();
+    }
+
+    /**
+     * Bumps the owner's version once the current transaction commits, or right away outside one. After
+     * commit, so a read that starts between the write and the commit cannot be cached under the new version.
+     */
+    public void bumpAfterCommit(UUID ownerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(ownerId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(ownerId);
+            }
+        });
+    }
+
+    void bump(UUID ownerId) {
+        int stripe = stripe(ownerId);
+        versions.incrementAndGet(stripe);
+        bumpedAt.set(stripe, clock.millis());
+    }
+
+    private int stripe(UUID ownerId) {
+        long bits = ownerId.getMostSignificantBits() ^ ownerId.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
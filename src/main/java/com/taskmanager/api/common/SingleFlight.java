@@ -0,0 +1,67 @@
+package com.taskmanager.api.common;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time: callers arriving while a load for their key is in flight wait
+ * for it and share its result (or its exception) instead of loading again. Nothing is kept once the load
+ * finishes, so this is not a cache.
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @return the value and whether this caller loaded it itself
+     */
+    public Result<V> execute(K key, Supplier<V> loader) {
+        // Callers joining a load in flight only read the map; the bin is locked only to start a load
+        CompletableFuture<V> existing = inFlight.get(key);
+        if (existing == null) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) {
+                return new Result<>(load(key, mine, loader), false);
+            }
+        }
+        return new Result<>(await(existing), true);
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private V load(K key, CompletableFuture<V> mine, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public record Result<V>(V value, boolean shared) {
+    }
+}
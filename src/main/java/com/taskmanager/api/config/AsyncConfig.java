@@ -0,0 +1,13 @@
+package com.taskmanager.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async methods run on Boot's applicationTaskExecutor, which uses virtual threads when
+ * spring.threads.virtual.enabled=true and a bounded platform-thread pool otherwise.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
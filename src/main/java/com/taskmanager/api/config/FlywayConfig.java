@@ -0,0 +1,31 @@
+package com.taskmanager.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(FlywayConfig.class);
+
+    /**
+     * flyway.migrate-on-startup=false starts without touching the database, e.g. for the CDS training run
+     * at image build time. Unlike spring.flyway.enabled it is read at runtime, so it also works with AOT,
+     * where the Flyway beans are fixed at build time.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${flyway.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            } else {
+                log.info("Skipping Flyway migration (flyway.migrate-on-startup=false)");
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskmanager.api.config;
+
+import com.taskmanager.api.activity.FieldChange;
+import com.taskmanager.api.activity.FieldChangesConverter;
+import com.taskmanager.api.activity.TaskActivity;
+import com.taskmanager.api.activity.TaskActivityAction;
+import com.taskmanager.api.activity.TaskActivityOutboxEntry;
+import com.taskmanager.api.common.AuditableEntity;
+import com.taskmanager.api.common.exception.ErrorResponse;
+import com.taskmanager.api.idempotency.IdempotencyRecord;
+import com.taskmanager.api.project.Project;
+import com.taskmanager.api.project.ProjectMember;
+import com.taskmanager.api.project.ProjectRole;
+import com.taskmanager.api.security.RefreshToken;
+import com.taskmanager.api.security.RevokedRefreshTokenFamily;
+import com.taskmanager.api.tag.OwnerTag;
+import com.taskmanager.api.tag.TagMatch;
+import com.taskmanager.api.task.Task;
+import com.taskmanager.api.task.TaskPriority;
+import com.taskmanager.api.task.TaskStatus;
+import com.taskmanager.api.user.Role;
+import com.taskmanager.api.user.User;
+import com.taskmanager.api.user.UserStatus;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reflection, proxy and resource hints for the native image (-Pnative) that Spring AOT and the GraalVM
+ * reachability metadata repository do not provide. Ignored on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    // jjwt-api finds its implementation by class name (io.jsonwebtoken.lang.Classes.newInstance/invokeStatic)
+    static final List<String> JJWT_IMPLEMENTATION_CLASSES = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionAlgorithm",
+            "io.jsonwebtoken.impl.compression.GzipCompressionAlgorithm",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer"
+    );
+
+    // datasource-proxy wraps each JDBC object in a JDK proxy implementing ProxyJdbcObject and its interface
+    static final List<Class<?>> PROXIED_JDBC_TYPES = List.of(
+            DataSource.class, Connection.class, Statement.class,
+            PreparedStatement.class, CallableStatement.class, ResultSet.class
+    );
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String className : JJWT_IMPLEMENTATION_CLASSES) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            for (Class<?> jdbcType : PROXIED_JDBC_TYPES) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+            }
+
+            // Entities: Hibernate reads fields and instantiates through the no-arg constructor. Spring AOT
+            // registers these as well; listing them keeps the image working if entity scanning changes.
+            for (Class<?> entity : List.of(AuditableEntity.class, Task.class, User.class, IdempotencyRecord.class,
+                    TaskActivity.class, TaskActivityOutboxEntry.class, OwnerTag.class,
+                    Project.class, ProjectMember.class, RefreshToken.class, RevokedRefreshTokenFamily.class)) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            hints.reflection().registerType(FieldChangesConverter.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            for (Class<?> enumType : List.of(TaskStatus.class, TaskPriority.class, Role.class, UserStatus.class,
+                    TaskActivityAction.class, TagMatch.class, ProjectRole.class)) {
+                hints.reflection().registerType(enumType, MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.PUBLIC_FIELDS);
+            }
+            // Serialized from GlobalExceptionHandler and FieldChangesConverter, not from a controller return type
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    ErrorResponse.class, FieldChange.class);
+
+            // A native image has no classpath to scan: Flyway migrations (with their per-script .conf settings)
+            // and the Swagger UI are served from resources included at build time
+            hints.resources().registerPattern("db/migration/*.sql");
+            hints.resources().registerPattern("db/migration/*.sql.conf");
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/*/*");
+        }
+    }
+}
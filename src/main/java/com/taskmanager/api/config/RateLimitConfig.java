@@ -1,8 +1,10 @@
 package com.taskmanager.api.config;
 
+import com.taskmanager.api.observability.RateLimitBucketEvent;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Refill;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
@@ -15,27 +17,58 @@ public class RateLimitConfig {
     private final Map<String, Bucket> authBuckets = new ConcurrentHashMap<>();
     private final Map<String, Bucket> apiBuckets = new ConcurrentHashMap<>();
 
+    // Raised only for load testing, where every virtual user would otherwise hit 429 within seconds
+    @Value("${rate-limit.auth.requests-per-minute:10}")
+    private long authRequestsPerMinute = 10;
+
+    @Value("${rate-limit.api.requests-per-minute:100}")
+    private long apiRequestsPerMinute = 100;
+
     /**
-     * Rate limit for authentication endpoints: 10 requests per minute per IP
+     * Rate limit for authentication endpoints: 10 requests per minute per IP by default
      */
     public Bucket resolveAuthBucket(String key) {
-        return authBuckets.computeIfAbsent(key, k -> createAuthBucket());
+        return resolve(authBuckets, key, true);
     }
 
     /**
-     * Rate limit for API endpoints: 100 requests per minute per user/IP
+     * Rate limit for API endpoints: 100 requests per minute per user/IP by default
      */
     public Bucket resolveApiBucket(String key) {
-        return apiBuckets.computeIfAbsent(key, k -> createApiBucket());
+        return resolve(apiBuckets, key, false);
+    }
+
+    // Nearly every request finds its client's bucket, and a plain get reads it without locking the bin that
+    // computeIfAbsent or putIfAbsent would lock on every call. Only a client's first request takes that lock,
+    // briefly, to insert
+    private Bucket resolve(Map<String, Bucket> buckets, String key, boolean auth) {
+        RateLimitBucketEvent event = new RateLimitBucketEvent();
+        event.begin();
+        Bucket bucket = buckets.get(key);
+        boolean created = false;
+        if (bucket == null) {
+            Bucket newBucket = auth ? createAuthBucket() : createApiBucket();
+            Bucket existing = buckets.putIfAbsent(key, newBucket);
+            created = existing == null;
+            bucket = created ? newBucket : existing;
+        }
+        if (event.shouldCommit()) {
+            event.bucket = auth ? "auth" : "api";
+            event.created = created;
+            event.commit();
+        }
+        return bucket;
     }
 
     private Bucket createAuthBucket() {
-        Bandwidth limit = Bandwidth.classic(10, Refill.greedy(10, Duration.ofMinutes(1)));
+        Bandwidth limit = Bandwidth.classic(authRequestsPerMinute,
+                Refill.greedy(authRequestsPerMinute, Duration.ofMinutes(1)));
         return Bucket.builder().addLimit(limit).build();
     }
 
     private Bucket createApiBucket() {
-        Bandwidth limit = Bandwidth.classic(100, Refill.greedy(100, Duration.ofMinutes(1)));
+        Bandwidth limit = Bandwidth.classic(apiRequestsPerMinute,
+                Refill.greedy(apiRequestsPerMinute, Duration.ofMinutes(1)));
         return Bucket.builder().addLimit(limit).build();
     }
 }
@@ -0,0 +1,153 @@
+package com.taskmanager.api.config;
+
+import com.taskmanager.api.security.AuthenticatedUser;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingConfig.class);
+
+    // Lag is zero when the replica has replayed everything it received; otherwise age of the last replayed commit.
+    // Having replayed everything received says nothing while no WAL arrives, so the lag is NULL (unhealthy)
+    // unless the WAL receiver is streaming, and also before the first replayed commit. Unprivileged roles
+    // see a NULL status, so replica.username needs pg_read_all_stats
+    private static final String REPLICA_LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                       WHEN pg_last_xact_replay_timestamp() IS NULL THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END
+            """;
+
+    @Value("${replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${replica.pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${replica.max-lag-ms:1000}")
+    private long maxLagMs;
+
+    @Value("${replica.stickiness-ms:5000}")
+    private long stickinessMs;
+
+    private final Map<String, JdbcTemplate> replicaProbes = new HashMap<>();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 AuthenticatedUser authenticatedUser, ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        List<String> replicaKeys = new ArrayList<>();
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        meterRegistry.ifAvailable(registry -> primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String key = "replica-" + (i + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(key);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            // Do not fail startup when a replica is down; the lag check keeps it out of rotation
+            replica.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            targets.put(key, replica);
+            replicaKeys.add(key);
+            replicaProbes.put(key, probeFor(replica));
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(
+                replicaKeys,
+                authenticatedUser::getCurrentUserId,
+                Duration.ofMillis(stickinessMs),
+                Clock.systemUTC()
+        );
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${replica.health-check-interval-ms:1000}")
+    public void checkReplicaLag() {
+        if (routingDataSource == null) {
+            return;
+        }
+        replicaProbes.forEach((key, probe) -> {
+            boolean wasHealthy = routingDataSource.isHealthy(key);
+            boolean healthy;
+            try {
+                Double lagMs = probe.queryForObject(REPLICA_LAG_SQL, Double.class);
+                healthy = lagMs != null && lagMs <= maxLagMs;
+                if (lagMs == null && wasHealthy) {
+                    log.warn("Replica {} not streaming or has replayed nothing; routing reads to primary", key);
+                } else if (!healthy && wasHealthy) {
+                    log.warn("Replica {} lagging by {} ms (max {} ms); routing reads to primary", key, lagMs, maxLagMs);
+                }
+            } catch (Exception e) {
+                healthy = false;
+                if (wasHealthy) {
+                    log.warn("Replica {} health check failed; routing reads to primary: {}", key, e.getMessage());
+                }
+            }
+            if (healthy) {
+                if (!wasHealthy) {
+                    log.info("Replica {} healthy; adding to read rotation", key);
+                }
+                routingDataSource.markHealthy(key);
+            } else {
+                routingDataSource.markUnhealthy(key);
+            }
+        });
+        routingDataSource.evictExpiredWrites();
+    }
+
+    private JdbcTemplate probeFor(DataSource replica) {
+        JdbcTemplate probe = new JdbcTemplate(replica);
+        probe.setQueryTimeout(2);
+        return probe;
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskmanager.api.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Routes read-only transactions to a healthy replica and everything else to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the lookup happens after the
+ * transaction's read-only flag has been bound.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> recentWrites = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Supplier<UUID> currentUserId;
+    private final long stickinessMs;
+    private final Clock clock;
+
+    public ReplicaRoutingDataSource(List<String> replicaKeys, Supplier<UUID> currentUserId,
+                                    Duration stickiness, Clock clock) {
+        this.replicaKeys = List.copyOf(replicaKeys);
+        this.currentUserId = currentUserId;
+        this.stickinessMs = stickiness.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        UUID userId = currentUserId.get();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit(userId);
+            return PRIMARY;
+        }
+
+        // Read-your-writes: keep a user on the primary until replicas have caught up
+        if (userId != null && isSticky(userId)) {
+            return PRIMARY;
+        }
+
+        return nextHealthyReplica();
+    }
+
+    public void markHealthy(String replicaKey) {
+        healthyReplicas.add(replicaKey);
+    }
+
+    public void markUnhealthy(String replicaKey) {
+        healthyReplicas.remove(replicaKey);
+    }
+
+    public boolean isHealthy(String replicaKey) {
+        return healthyReplicas.contains(replicaKey);
+    }
+
+    public List<String> getReplicaKeys() {
+        return replicaKeys;
+    }
+
+    public void recordWrite(UUID userId) {
+        recentWrites.put(userId, clock.millis());
+    }
+
+    /**
+     * Drops stickiness entries whose window has elapsed so the map stays bounded by active writers.
+     */
+    public void evictExpiredWrites() {
+        long cutoff = clock.millis() - stickinessMs;
+        recentWrites.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+
+    private boolean isSticky(UUID userId) {
+        Long writtenAt = recentWrites.get(userId);
+        return writtenAt != null && clock.millis() - writtenAt < stickinessMs;
+    }
+
+    private Object nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (healthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void recordWriteAfterCommit(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordWrite(userId);
+                }
+            });
+        } else {
+            recordWrite(userId);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanager.api.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Store shared by all nodes (idempotency.store=database), in the idempotency_keys table. A duplicate
+ * arriving at another node while the first request is running polls the row until it is completed.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "database")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseIdempotencyStore.class);
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Duration pollInterval;
+    private final Clock clock;
+
+    @Autowired
+    public DatabaseIdempotencyStore(
+            IdempotencyRecordRepository repository,
+            @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${idempotency.database.lock-timeout-seconds:60}") long lockTimeoutSeconds,
+            @Value("${idempotency.database.poll-interval-ms:50}") long pollIntervalMs
+    ) {
+        this(repository, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(lockTimeoutSeconds),
+                Duration.ofMillis(pollIntervalMs), Clock.systemUTC());
+    }
+
+    DatabaseIdempotencyStore(IdempotencyRecordRepository repository, Duration ttl, Duration lockTimeout,
+                             Duration pollInterval, Clock clock) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.pollInterval = pollInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public Claim claim(IdempotencyKey key, String fingerprint) {
+        Instant now = clock.instant();
+        Instant lockedUntil = now.plus(lockTimeout);
+        Instant expiresAt = now.plus(ttl);
+        if (repository.insertIfAbsent(key.ownerId(), key.key(), fingerprint, now, lockedUntil, expiresAt) == 1
+                || repository.takeOver(key, fingerprint, now, lockedUntil, expiresAt) == 1) {
+            return Claim.acquired(fingerprint);
+        }
+        return repository.findCurrent(key)
+                .map(record -> Claim.existing(record.getFingerprint(), toResponse(record)))
+                // Released between the insert and the read: let the caller try again
+                .orElseGet(() -> claim(key, fingerprint));
+    }
+
+    @Override
+    public void complete(IdempotencyKey key, StoredResponse response) {
+        repository.complete(key, response.status(), response.contentType(), response.body());
+    }
+
+    @Override
+    public void release(IdempotencyKey key) {
+        repository.release(key);
+    }
+
+    @Override
+    public Optional<StoredResponse> await(IdempotencyKey key, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Optional<IdempotencyRecord> record = repository.findCurrent(key);
+            if (record.isEmpty()) {
+                return Optional.empty();
+            }
+            if (record.get().isCompleted()) {
+                return Optional.of(toResponse(record.get()));
+            }
+            if (System.nanoTime() >= deadline) {
+                return Optional.empty();
+            }
+            Thread.sleep(pollInterval);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.database.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int purged = repository.deleteExpired(clock.instant());
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private static StoredResponse toResponse(IdempotencyRecord record) {
+        if (!record.isCompleted()) {
+            return null;
+        }
+        byte[] body = record.getBody() != null ? record.getBody() : new byte[0];
+        return new StoredResponse(record.getStatusCode(), record.getContentType(), body);
+    }
+}
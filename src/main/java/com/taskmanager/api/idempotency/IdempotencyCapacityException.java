@@ -0,0 +1,31 @@
+package com.taskmanager.api.idempotency;
+
+import java.time.Duration;
+
+/**
+ * A store that cannot take another key without forgetting one before its TTL. The request is refused
+ * rather than executed without protection against retries.
+ */
+public class IdempotencyCapacityException extends RuntimeException {
+
+    private final boolean ownerLimit;
+    private final Duration retryAfter;
+
+    /**
+     * @param ownerLimit whether the owner's own share is used up, rather than the whole store
+     * @param retryAfter until a slot frees up
+     */
+    public IdempotencyCapacityException(boolean ownerLimit, Duration retryAfter) {
+        super(ownerLimit ? "Too many Idempotency-Key values in use for this user" : "Idempotency key store is full");
+        this.ownerLimit = ownerLimit;
+        this.retryAfter = retryAfter;
+    }
+
+    public boolean isOwnerLimit() {
+        return ownerLimit;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,281 @@
+package com.taskmanager.api.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.common.exception.ErrorResponse;
+import com.taskmanager.api.user.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Executes a POST, PUT or PATCH sent with an Idempotency-Key header at most once per user and key, and
+ * replays the stored response to retries (marked with Idempotent-Replayed: true). A duplicate that arrives
+ * while the first request is still running waits for its response, up to idempotency.wait-timeout-ms,
+ * then gets 409. Reusing a key for a different request (method, path or body) gets 422.
+ *
+ * <p>2xx and 4xx responses are stored; after a 5xx or 429 the key is released and a retry executes again.
+ * A store that has no room for another key refuses the request (429 when the user holds too many keys,
+ * 503 when the store is full) instead of executing it unprotected.
+ * Runs after the security chain and rate limiting, since keys are scoped to the authenticated user.
+ */
+@Component
+@Order(2)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH");
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> paths;
+    private final Duration waitTimeout;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter conflict;
+    private final Counter mismatch;
+    private final Counter refused;
+
+    public IdempotencyFilter(
+            IdempotencyStore store,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.paths:/api/tasks/**}") List<String> paths,
+            @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMs
+    ) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.paths = paths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.executed = outcomeCounter(meterRegistry, "executed");
+        this.replayed = outcomeCounter(meterRegistry, "replayed");
+        this.conflict = outcomeCounter(meterRegistry, "conflict");
+        this.mismatch = outcomeCounter(meterRegistry, "mismatch");
+        this.refused = outcomeCounter(meterRegistry, "refused");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("idempotency.requests")
+                .description("Requests sent with an Idempotency-Key")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getHeader(IDEMPOTENCY_KEY_HEADER) == null || !METHODS.contains(request.getMethod())) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return paths.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            // Unauthenticated requests are rejected further down the chain; nothing to scope the key to
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String keyValue = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (keyValue.isBlank() || keyValue.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String fingerprint = fingerprint(request, body);
+        IdempotencyKey key = new IdempotencyKey(user.getId(), keyValue);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            IdempotencyStore.Claim claim;
+            try {
+                claim = store.claim(key, fingerprint);
+            } catch (IdempotencyCapacityException e) {
+                refused.increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())));
+                writeError(request, response,
+                        e.isOwnerLimit() ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+                return;
+            }
+            if (claim.acquired()) {
+                execute(new CachedBodyRequest(request, body), response, filterChain, key);
+                return;
+            }
+            if (!claim.fingerprint().equals(fingerprint)) {
+                mismatch.increment();
+                writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+                return;
+            }
+            Optional<StoredResponse> stored = Optional.ofNullable(claim.response());
+            if (stored.isEmpty()) {
+                stored = await(key, deadline);
+            }
+            if (stored.isPresent()) {
+                replay(stored.get(), response);
+                return;
+            }
+            if (System.nanoTime() >= deadline) {
+                conflict.increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(request, response, HttpStatus.CONFLICT,
+                        "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+                return;
+            }
+            // Released by a failed first attempt: claim it again
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         IdempotencyKey key) throws ServletException, IOException {
+        executed.increment();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, buffered);
+            int status = buffered.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                store.complete(key, new StoredResponse(status, buffered.getContentType(), buffered.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(key);
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private Optional<StoredResponse> await(IdempotencyKey key, long deadline) throws IOException {
+        try {
+            return store.await(key, Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the first request with this key", e);
+        }
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        replayed.increment();
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(status.value(), status.getReasonPhrase(), message, request.getRequestURI()));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update((request.getMethod() + ' ' + request.getRequestURI() + '\n').getBytes(StandardCharsets.UTF_8));
+        digest.update(body);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * The body was read to fingerprint the request; hands the same bytes to the rest of the chain.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskmanager.api.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+/**
+ * Idempotency-Key header value, scoped to the user who sent it: two users may use the same key.
+ */
+@Embeddable
+public record IdempotencyKey(
+        @JdbcTypeCode(SqlTypes.UUID)
+        @Column(name = "owner_id", nullable = false)
+        UUID ownerId,
+
+        @Column(name = "idempotency_key", nullable = false, length = 255)
+        String key
+) {
+}
@@ -0,0 +1,75 @@
+package com.taskmanager.api.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord {
+
+    @EmbeddedId
+    private IdempotencyKey id;
+
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    // Null while the first request is executing
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+
+    @Column(name = "body", columnDefinition = "BYTEA")
+    private byte[] body;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // A claim left behind by a node that died mid-request can be taken over after this
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public IdempotencyKey getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return statusCode != null;
+    }
+}
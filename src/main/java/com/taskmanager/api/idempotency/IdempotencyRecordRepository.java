@@ -0,0 +1,73 @@
+package com.taskmanager.api.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyKey> {
+
+    // The primary key decides between concurrent duplicates, on one node or several
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO idempotency_keys (owner_id, idempotency_key, fingerprint, created_at, locked_until, expires_at)
+            VALUES (:ownerId, :key, :fingerprint, :now, :lockedUntil, :expiresAt)
+            ON CONFLICT DO NOTHING""", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("ownerId") UUID ownerId,
+            @Param("key") String key,
+            @Param("fingerprint") String fingerprint,
+            @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    // Reuses an expired row not yet purged, or a claim whose holder stopped before completing it
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.fingerprint = :fingerprint, r.statusCode = null, r.contentType = null, r.body = null,
+                r.createdAt = :now, r.lockedUntil = :lockedUntil, r.expiresAt = :expiresAt
+            WHERE r.id = :id AND (r.expiresAt <= :now OR (r.statusCode IS NULL AND r.lockedUntil <= :now))""")
+    int takeOver(
+            @Param("id") IdempotencyKey id,
+            @Param("fingerprint") String fingerprint,
+            @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    // Read-write so it is served by the primary even with replica routing
+    @Transactional
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.id = :id")
+    Optional<IdempotencyRecord> findCurrent(@Param("id") IdempotencyKey id);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, r.body = :body
+            WHERE r.id = :id AND r.statusCode IS NULL""")
+    int complete(
+            @Param("id") IdempotencyKey id,
+            @Param("statusCode") int statusCode,
+            @Param("contentType") String contentType,
+            @Param("body") byte[] body
+    );
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.statusCode IS NULL")
+    int release(@Param("id") IdempotencyKey id);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
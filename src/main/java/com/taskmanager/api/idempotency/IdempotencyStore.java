@@ -0,0 +1,45 @@
+package com.taskmanager.api.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Responses of requests sent with an Idempotency-Key, kept for a bounded time.
+ *
+ * <p>A key is claimed before the request executes, so a concurrent duplicate finds the claim and waits for
+ * the response instead of executing a second time. The claimant either completes the key with the response
+ * or releases it (5xx, exceptions), after which a retry executes again.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims the key for the request with this fingerprint, or returns what is already stored under it.
+     */
+    Claim claim(IdempotencyKey key, String fingerprint);
+
+    void complete(IdempotencyKey key, StoredResponse response);
+
+    void release(IdempotencyKey key);
+
+    /**
+     * Waits until the execution holding the key completes or releases it; empty if it was released or is
+     * still running after the timeout.
+     */
+    Optional<StoredResponse> await(IdempotencyKey key, Duration timeout) throws InterruptedException;
+
+    /**
+     * @param acquired    the caller must execute the request, then complete or release the key
+     * @param fingerprint of the request holding the key
+     * @param response    null while that request is still executing
+     */
+    record Claim(boolean acquired, String fingerprint, StoredResponse response) {
+
+        static Claim acquired(String fingerprint) {
+            return new Claim(true, fingerprint, null);
+        }
+
+        static Claim existing(String fingerprint, StoredResponse response) {
+            return new Claim(false, fingerprint, response);
+        }
+    }
+}
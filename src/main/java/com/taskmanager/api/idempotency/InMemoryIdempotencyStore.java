@@ -0,0 +1,195 @@
+package com.taskmanager.api.idempotency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Single-node store (idempotency.store=memory, the default). Entries live for idempotency.ttl-seconds and
+ * are never dropped before that: a key forgotten early, or one still running, would let a retry execute
+ * the write again. Instead a claim is refused once the store holds idempotency.memory.max-entries keys,
+ * or the owner holds idempotency.memory.max-entries-per-owner, so one client cannot use up everyone's room.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final int maxEntriesPerOwner;
+    private final Clock clock;
+    // Insertion order is expiry order, since every entry gets the same TTL
+    private final LinkedHashMap<IdempotencyKey, Entry> entries = new LinkedHashMap<>();
+    private final Map<UUID, Integer> ownerCounts = new HashMap<>();
+    // Not synchronized: waiting threads may be virtual
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Autowired
+    public InMemoryIdempotencyStore(
+            @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${idempotency.memory.max-entries:50000}") int maxEntries,
+            @Value("${idempotency.memory.max-entries-per-owner:500}") int maxEntriesPerOwner
+    ) {
+        this(Duration.ofSeconds(ttlSeconds), maxEntries, maxEntriesPerOwner, Clock.systemUTC());
+    }
+
+    InMemoryIdempotencyStore(Duration ttl, int maxEntries, int maxEntriesPerOwner, Clock clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("idempotency.memory.max-entries must be positive: " + maxEntries);
+        }
+        if (maxEntriesPerOwner < 1 || maxEntriesPerOwner > maxEntries) {
+            throw new IllegalArgumentException("idempotency.memory.max-entries-per-owner must be between 1 and"
+                    + " max-entries: " + maxEntriesPerOwner);
+        }
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.maxEntriesPerOwner = maxEntriesPerOwner;
+        this.clock = clock;
+    }
+
+    @Override
+    public Claim claim(IdempotencyKey key, String fingerprint) {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            evictExpired(now);
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return Claim.existing(existing.fingerprint, existing.result.getNow(null));
+            }
+            if (ownerCounts.getOrDefault(key.ownerId(), 0) >= maxEntriesPerOwner) {
+                throw new IdempotencyCapacityException(true, untilOldestExpires(key.ownerId(), now));
+            }
+            if (entries.size() >= maxEntries) {
+                throw new IdempotencyCapacityException(false, untilOldestExpires(null, now));
+            }
+            entries.put(key, new Entry(fingerprint, now.plus(ttl)));
+            ownerCounts.merge(key.ownerId(), 1, Integer::sum);
+            return Claim.acquired(fingerprint);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void complete(IdempotencyKey key, StoredResponse response) {
+        Entry entry = get(key);
+        if (entry != null) {
+            entry.result.complete(response);
+        }
+    }
+
+    @Override
+    public void release(IdempotencyKey key) {
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+            if (entry != null && !entry.result.isDone()) {
+                remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null) {
+            // Wakes waiting duplicates, which then claim the key themselves
+            entry.result.complete(null);
+        }
+    }
+
+    @Override
+    public Optional<StoredResponse> await(IdempotencyKey key, Duration timeout) throws InterruptedException {
+        Entry entry = get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(entry.result.get(timeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry get(IdempotencyKey key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        Iterator<Map.Entry<IdempotencyKey, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<IdempotencyKey, Entry> oldest = it.next();
+            if (oldest.getValue().expiresAt.isAfter(now)) {
+                return;
+            }
+            it.remove();
+            decrementOwner(oldest.getKey().ownerId());
+        }
+    }
+
+    private void remove(IdempotencyKey key) {
+        if (entries.remove(key) != null) {
+            decrementOwner(key.ownerId());
+        }
+    }
+
+    private void decrementOwner(UUID ownerId) {
+        ownerCounts.computeIfPresent(ownerId, (owner, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Until the oldest key (of the owner, when given) expires and frees a slot. Only on the refusal path,
+     * so a scan is fine.
+     */
+    private Duration untilOldestExpires(UUID ownerId, Instant now) {
+        for (Map.Entry<IdempotencyKey, Entry> entry : entries.entrySet()) {
+            if (ownerId == null || entry.getKey().ownerId().equals(ownerId)) {
+                return Duration.between(now, entry.getValue().expiresAt);
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    private static final class Entry {
+        final String fingerprint;
+        final Instant expiresAt;
+        // Completed with the response, or with null when released
+        final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+
+        Entry(String fingerprint, Instant expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.api.idempotency;
+
+/**
+ * The response of the first execution of an idempotent request, replayed to its retries.
+ */
+public record StoredResponse(int status, String contentType, byte[] body) {
+}
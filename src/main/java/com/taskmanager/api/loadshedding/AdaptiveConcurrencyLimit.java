@@ -0,0 +1,154 @@
+package com.taskmanager.api.loadshedding;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limit on requests in flight that follows their latency (a gradient limit). Latency is averaged over
+ * short windows and compared with a slowly moving baseline: while the window stays within
+ * concurrency-limit.latency-tolerance of the baseline the limit grows by its square root, the queue a
+ * server can absorb; beyond it the limit shrinks in proportion, down to half per window. Requests over
+ * the limit queue on connections and locks and only add latency, so the limit settles where throughput
+ * stops increasing.
+ *
+ * <p>The baseline absorbs a lasting change in latency (a slower query plan, a bigger table) within about a
+ * hundred windows. A window in which in-flight requests stayed under half the limit cannot show that the
+ * limit is too low, so it may lower the limit but not raise it.
+ */
+@Component
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true")
+public class AdaptiveConcurrencyLimit {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // Fewer samples than this and the window is extended rather than trusted
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final double BASELINE_WEIGHT = 0.01;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final long windowNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowPeak = new AtomicInteger();
+    private final AtomicLong windowEnd;
+    private volatile double limit;
+    // Written by the thread that closes a window, which is rarely the one that closed the previous window
+    private volatile double baselineNanos;
+
+    @Autowired
+    public AdaptiveConcurrencyLimit(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.initial-limit:50}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:10}") int minLimit,
+            @Value("${concurrency-limit.max-limit:1000}") int maxLimit,
+            @Value("${concurrency-limit.latency-tolerance:1.5}") double latencyTolerance
+    ) {
+        this(initialLimit, minLimit, maxLimit, latencyTolerance, WINDOW_NANOS, System::nanoTime);
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimit::getLimit)
+                .description("Requests allowed in flight at once, adapted to latency")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.in.flight", this, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requests admitted by the concurrency limit and not yet completed")
+                .register(meterRegistry);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance,
+                             long windowNanos, LongSupplier nanoTime) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("concurrency-limit must satisfy 1 <= min-limit <= initial-limit"
+                    + " <= max-limit: " + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (latencyTolerance < 1) {
+            throw new IllegalArgumentException("concurrency-limit.latency-tolerance must be at least 1: "
+                    + latencyTolerance);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.windowNanos = windowNanos;
+        this.nanoTime = nanoTime;
+        this.limit = initialLimit;
+        this.windowEnd = new AtomicLong(nanoTime.getAsLong() + windowNanos);
+    }
+
+    /**
+     * Admits a request of the given class if in-flight requests are below its share of the limit.
+     * Every admitted request must be {@link #release released}.
+     */
+    public boolean tryAcquire(RouteClass routeClass) {
+        int admitBelow = routeClass.admitBelow(limit);
+        int current = inFlight.get();
+        while (current < admitBelow) {
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (current + 1 > windowPeak.get()) {
+                    windowPeak.accumulateAndGet(current + 1, Math::max);
+                }
+                return true;
+            }
+            current = inFlight.get();
+        }
+        return false;
+    }
+
+    /**
+     * @param startNanos {@link System#nanoTime} when the request was admitted
+     */
+    public void release(long startNanos) {
+        long now = nanoTime.getAsLong();
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(now - startNanos);
+        windowSamples.increment();
+
+        long end = windowEnd.get();
+        if (now >= end && windowSamples.sum() >= MIN_WINDOW_SAMPLES && windowEnd.compareAndSet(end, now + windowNanos)) {
+            // Samples added by other threads meanwhile land in either window; an average does not mind
+            long samples = windowSamples.sumThenReset();
+            double latencyNanos = (double) windowLatencyNanos.sumThenReset() / samples;
+            update(Math.max(latencyNanos, 1), windowPeak.getAndSet(inFlight.get()));
+        }
+    }
+
+    private void update(double latencyNanos, int peak) {
+        if (baselineNanos == 0) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos += (latencyNanos - baselineNanos) * BASELINE_WEIGHT;
+        }
+        // Latency far below the baseline: an overload that inflated the baseline is over
+        if (baselineNanos > 2 * latencyNanos) {
+            baselineNanos *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1, latencyTolerance * baselineNanos / latencyNanos));
+        double target = current * gradient + Math.sqrt(current);
+        if (peak < current / 2) {
+            target = Math.min(target, current);
+        }
+        double smoothed = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanager.api.loadshedding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sheds requests beyond the {@link AdaptiveConcurrencyLimit} with an immediate 503 and Retry-After, instead
+ * of letting them queue for Tomcat threads and pool connections until every request times out together.
+ * {@link com.taskmanager.api.security.RateLimitFilter} bounds each client; this bounds the node.
+ *
+ * <p>Runs ahead of server timing, the statement budget and security, so a shed request costs no token
+ * verification. Opt-in through concurrency-limit.enabled.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 3)
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final String retryAfterSeconds;
+    private final Map<RouteClass, Counter> shed = new EnumMap<>(RouteClass.class);
+
+    public ConcurrencyLimitFilter(
+            AdaptiveConcurrencyLimit limit,
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds
+    ) {
+        this.limit = limit;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        for (RouteClass routeClass : RouteClass.values()) {
+            shed.put(routeClass, Counter.builder("concurrency.shed")
+                    .description("Requests rejected with 503 because the node was at its concurrency limit")
+                    .tag("class", routeClass.tagValue())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RouteClass routeClass = RouteClass.of(request);
+        if (!limit.tryAcquire(routeClass)) {
+            shed.get(routeClass).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Service unavailable\",\"message\":\"Server is overloaded. Please try again later.\"}");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.release(start);
+        }
+    }
+}
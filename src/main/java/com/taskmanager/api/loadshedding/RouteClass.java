@@ -0,0 +1,50 @@
+package com.taskmanager.api.loadshedding;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Shedding priority of a request, lowest first. Each class may only take its share of the concurrency
+ * limit, so as in-flight requests approach the limit health checks are turned away first and logins last.
+ */
+public enum RouteClass {
+
+    /** Actuator and everything else outside /api: health checks, metrics, API docs */
+    HEALTH(0.5),
+    /** GET, HEAD and OPTIONS under /api */
+    READ(0.8),
+    /** Other methods under /api */
+    WRITE(0.9),
+    /** /api/auth: without it clients cannot get back in once the overload passes */
+    AUTH(1.0);
+
+    private final double share;
+
+    RouteClass(double share) {
+        this.share = share;
+    }
+
+    /**
+     * In-flight requests (of any class) below which this class is still admitted.
+     */
+    int admitBelow(double limit) {
+        return Math.max(1, (int) (limit * share));
+    }
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+
+    public static RouteClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/auth")) {
+            return AUTH;
+        }
+        if (!path.startsWith("/api/")) {
+            return HEALTH;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
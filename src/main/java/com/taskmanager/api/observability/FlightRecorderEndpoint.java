@@ -0,0 +1,225 @@
+package com.taskmanager.api.observability;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Actuator endpoint to capture a Java Flight Recorder profile from a running instance (admin only, see
+ * SecurityConfig):
+ *
+ * <pre>
+ * GET  /actuator/flightrecorder                              status and dump files
+ * POST /actuator/flightrecorder/start {"durationSeconds":60} start a recording (capped at jfr.max-duration-seconds)
+ * POST /actuator/flightrecorder/dump  {}                     write a snapshot, keep recording
+ * POST /actuator/flightrecorder/stop  {}                     stop and write the recording
+ * </pre>
+ *
+ * POSTs need Content-Type: application/json, as for every actuator write operation.
+ *
+ * Recordings are bounded by duration and size, and only the newest jfr.max-dumps files are kept in
+ * jfr.dump-dir. A recording that reaches its duration is written out on its own.
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+    private static final String RECORDING_NAME = "task-manager";
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final Path dumpDirectory;
+    private final String settings;
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final int maxDumps;
+    // Not synchronized: dumps do blocking file I/O, which would pin a virtual thread's carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+
+    public FlightRecorderEndpoint(
+            @Value("${jfr.dump-dir:${java.io.tmpdir}/task-manager-jfr}") Path dumpDirectory,
+            @Value("${jfr.settings:profile}") String settings,
+            @Value("${jfr.max-duration-seconds:300}") long maxDurationSeconds,
+            @Value("${jfr.max-size-mb:100}") long maxSizeMb,
+            @Value("${jfr.max-dumps:5}") int maxDumps
+    ) {
+        this.dumpDirectory = dumpDirectory;
+        this.settings = settings;
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.maxDumps = maxDumps;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        lock.lock();
+        try {
+            return describe(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(@Selector String action, @Nullable Integer durationSeconds) {
+        lock.lock();
+        try {
+            return switch (action) {
+                case "start" -> start(durationSeconds);
+                case "dump" -> dump();
+                case "stop" -> stop();
+                default -> throw new IllegalArgumentException("Unknown action '" + action + "'; use start, dump or stop");
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<String, Object> start(@Nullable Integer durationSeconds) {
+        if (isRunning()) {
+            return describe(null);
+        }
+        if (recording != null) {
+            // Reached its duration; already written to its destination
+            recording.close();
+            recording = null;
+        }
+        Duration duration = durationSeconds == null || durationSeconds <= 0
+                ? maxDuration
+                : Duration.ofSeconds(Math.min(durationSeconds, maxDuration.toSeconds()));
+        try {
+            Recording started = new Recording(Configuration.getConfiguration(settings));
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxSize(maxSizeBytes);
+            started.setDuration(duration);
+            Files.createDirectories(dumpDirectory);
+            started.setDestination(nextFile("recording"));
+            started.start();
+            recording = started;
+            log.info("Started flight recording ({} settings, {}s, max {} MB)",
+                    settings, duration.toSeconds(), maxSizeBytes / (1024 * 1024));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not start flight recording", e);
+        }
+        pruneDumps();
+        return describe(null);
+    }
+
+    private Map<String, Object> dump() {
+        if (!isRunning()) {
+            throw new IllegalArgumentException("No flight recording is running");
+        }
+        Path file = nextFile("snapshot");
+        try {
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump flight recording", e);
+        }
+        log.info("Dumped flight recording to {}", file);
+        pruneDumps();
+        return describe(file);
+    }
+
+    private Map<String, Object> stop() {
+        if (!isRunning()) {
+            throw new IllegalArgumentException("No flight recording is running");
+        }
+        Path file = recording.getDestination();
+        recording.stop();
+        recording.close();
+        recording = null;
+        log.info("Stopped flight recording, written to {}", file);
+        pruneDumps();
+        return describe(file);
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private Path nextFile(String kind) {
+        return dumpDirectory.resolve(RECORDING_NAME + "-" + kind + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+    }
+
+    private void pruneDumps() {
+        List<Path> dumps = dumps();
+        Path active = recording != null ? recording.getDestination() : null;
+        for (int i = maxDumps; i < dumps.size(); i++) {
+            Path oldest = dumps.get(i);
+            if (!oldest.equals(active)) {
+                try {
+                    Files.deleteIfExists(oldest);
+                } catch (IOException e) {
+                    log.warn("Could not delete old flight recording {}", oldest, e);
+                }
+            }
+        }
+    }
+
+    // Newest first
+    private List<Path> dumps() {
+        if (!Files.isDirectory(dumpDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jfr"))
+                    .sorted(Comparator.comparing(FlightRecorderEndpoint::lastModified).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Instant lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    private Map<String, Object> describe(@Nullable Path written) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", isRunning());
+        if (recording != null) {
+            status.put("state", recording.getState().name());
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+            status.put("maxSizeBytes", recording.getMaxSize());
+            status.put("destination", String.valueOf(recording.getDestination()));
+        }
+        if (written != null) {
+            status.put("file", written.toString());
+        }
+        status.put("dumps", dumps().stream().map(Path::toString).toList());
+        return status;
+    }
+}
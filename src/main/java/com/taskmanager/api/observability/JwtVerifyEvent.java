@@ -0,0 +1,19 @@
+package com.taskmanager.api.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.JwtVerify")
+@Label("JWT Verify")
+@Category({"Task Manager", "Security"})
+@Description("Bearer token parse, signature, expiry and type check in JwtAuthFilter")
+@StackTrace(false)
+public class JwtVerifyEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+}
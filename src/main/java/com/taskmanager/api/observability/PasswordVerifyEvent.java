@@ -0,0 +1,23 @@
+package com.taskmanager.api.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.PasswordVerify")
+@Label("Password Verify")
+@Category({"Task Manager", "Security"})
+@Description("BCrypt comparison in UserService.verifyPassword")
+@StackTrace(false)
+public class PasswordVerifyEvent extends Event {
+
+    @Label("Matched")
+    public boolean matched;
+
+    @Label("Cost")
+    @Description("BCrypt log rounds of the stored hash")
+    public int cost;
+}
@@ -0,0 +1,22 @@
+package com.taskmanager.api.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.PrincipalLoad")
+@Label("Principal Load")
+@Category({"Task Manager", "Security"})
+@Description("User lookup for an authenticated request in JwtAuthFilter")
+@StackTrace(false)
+public class PrincipalLoadEvent extends Event {
+
+    @Label("Found")
+    public boolean found;
+
+    @Label("Active")
+    public boolean active;
+}
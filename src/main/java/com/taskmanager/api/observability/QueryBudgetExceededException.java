@@ -0,0 +1,12 @@
+package com.taskmanager.api.observability;
+
+/**
+ * Thrown from the JDBC layer, before the statement runs, when a request exceeds its statement budget and
+ * query-budget.mode is fail.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String endpoint, int statements, int budget) {
+        super("Statement budget exceeded for " + endpoint + ": statement " + statements + " of " + budget + " allowed");
+    }
+}
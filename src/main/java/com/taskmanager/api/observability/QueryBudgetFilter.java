@@ -0,0 +1,125 @@
+package com.taskmanager.api.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Counts the JDBC statements each request executes and checks them against a per-endpoint budget, so an
+ * N+1 (a lazy load per row, an extra findById on a hot path) shows up as soon as it is introduced.
+ *
+ * <p>Budgets are "METHOD pattern=max" entries in query-budget.endpoints, with query-budget.default for
+ * the rest. In log mode an overrun is logged when the request completes; in fail mode the statement that
+ * exceeds the budget throws {@link QueryBudgetExceededException}. With query-budget.header-enabled the
+ * response carries X-Query-Count and X-Query-Time (milliseconds).
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    public enum Mode { OFF, LOG, FAIL }
+
+    private final Mode mode;
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets = new HashMap<>();
+    private final boolean headerEnabled;
+
+    public QueryBudgetFilter(
+            @Value("${query-budget.mode:log}") String mode,
+            @Value("${query-budget.default:" + RequestQueryStats.UNLIMITED + "}") int defaultBudget,
+            @Value("${query-budget.endpoints:}") List<String> endpoints,
+            @Value("${query-budget.header-enabled:false}") boolean headerEnabled
+    ) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.defaultBudget = defaultBudget;
+        this.headerEnabled = headerEnabled;
+        for (String entry : endpoints) {
+            int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("query-budget.endpoints entry must be 'METHOD pattern=max': " + entry);
+            }
+            budgets.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return mode == Mode.OFF;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestQueryStats stats = new RequestQueryStats(
+                request, endpoint -> budgets.getOrDefault(endpoint, defaultBudget), mode == Mode.FAIL);
+        RequestQueryStats.bind(stats);
+        try {
+            if (headerEnabled) {
+                QueryHeaderResponse wrapped = new QueryHeaderResponse(response, stats);
+                filterChain.doFilter(request, wrapped);
+                // Bodiless responses (204) are not committed yet
+                wrapped.writeHeaders();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            RequestQueryStats.unbind();
+        }
+
+        if (stats.overBudget()) {
+            log.warn("Statement budget exceeded for {}: {} statements (budget {}), {} ms in the database",
+                    stats.endpoint(), stats.statements(), stats.budget(), millis(stats.elapsedNanos()));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Sets the headers just before the response is committed; after that they would be ignored.
+     */
+    private static final class QueryHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final RequestQueryStats stats;
+
+        QueryHeaderResponse(HttpServletResponse response, RequestQueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders();
+            disableOnResponseCommitted();
+        }
+
+        void writeHeaders() {
+            if (!isDisableOnResponseCommitted() && !isCommitted()) {
+                setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.statements()));
+                setHeader(QUERY_TIME_HEADER, millis(stats.elapsedNanos()));
+            }
+        }
+    }
+}
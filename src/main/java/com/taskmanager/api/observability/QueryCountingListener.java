@@ -0,0 +1,42 @@
+package com.taskmanager.api.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Feeds every statement execution into the current request's {@link RequestQueryStats} and
+ * {@link ServerTiming}. A batch counts as one statement since it is one round trip; outside a request, or
+ * with both disabled, this is two ThreadLocal reads.
+ */
+class QueryCountingListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = QueryCountingListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.beforeStatement();
+        }
+        if (stats != null || ServerTiming.current() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.afterStatement(elapsed);
+        }
+        ServerTiming.record(ServerTiming.Stage.DB, elapsed);
+    }
+}
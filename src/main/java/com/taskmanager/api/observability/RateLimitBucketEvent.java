@@ -0,0 +1,23 @@
+package com.taskmanager.api.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.RateLimitBucket")
+@Label("Rate Limit Bucket Resolve")
+@Category({"Task Manager", "Rate Limiting"})
+@Description("Bucket lookup, or creation for a new key, in RateLimitConfig")
+@StackTrace(false)
+public class RateLimitBucketEvent extends Event {
+
+    @Label("Bucket")
+    @Description("auth or api")
+    public String bucket;
+
+    @Label("Created")
+    public boolean created;
+}
@@ -0,0 +1,25 @@
+package com.taskmanager.api.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.RepositoryCall")
+@Label("Repository Call")
+@Category({"Task Manager", "Persistence"})
+@Description("Spring Data repository method invocation, including its statements")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,90 @@
+package com.taskmanager.api.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * JDBC statements executed on behalf of the current request and the time spent in them, bound to the
+ * request thread by {@link QueryBudgetFilter}. Work handed to another thread (@Async) is not attributed.
+ *
+ * <p>The endpoint, and with it the budget, is known once Spring MVC has matched a handler; statements run
+ * before that (the principal load in JwtAuthFilter) count towards it all the same.
+ */
+public final class RequestQueryStats {
+
+    public static final int UNLIMITED = -1;
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletRequest request;
+    private final ToIntFunction<String> budgets;
+    private final boolean failOnExceed;
+
+    private String endpoint;
+    private int budget = UNLIMITED;
+    private int statements;
+    private long elapsedNanos;
+
+    RequestQueryStats(HttpServletRequest request, ToIntFunction<String> budgets, boolean failOnExceed) {
+        this.request = request;
+        this.budgets = budgets;
+        this.failOnExceed = failOnExceed;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    static void bind(RequestQueryStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    void beforeStatement() {
+        statements++;
+        if (failOnExceed && overBudget()) {
+            throw new QueryBudgetExceededException(endpoint, statements, budget);
+        }
+    }
+
+    void afterStatement(long nanos) {
+        elapsedNanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Method and matched path pattern, e.g. "GET /api/tasks/{id}"; null until a handler has been matched.
+     */
+    public String endpoint() {
+        if (endpoint == null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                endpoint = request.getMethod() + " " + pattern;
+                budget = budgets.applyAsInt(endpoint);
+            }
+        }
+        return endpoint;
+    }
+
+    public int budget() {
+        endpoint();
+        return budget;
+    }
+
+    public boolean overBudget() {
+        int limit = budget();
+        return limit != UNLIMITED && statements > limit;
+    }
+}
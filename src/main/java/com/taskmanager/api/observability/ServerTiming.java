@@ -0,0 +1,75 @@
+package com.taskmanager.api.observability;
+
+import java.util.Locale;
+
+/**
+ * Per-stage durations of a sampled request, rendered as a Server-Timing header by {@link ServerTimingFilter}.
+ * Stages record unconditionally; for requests that are not sampled (or with the filter disabled) a record
+ * is a single ThreadLocal read.
+ */
+public final class ServerTiming {
+
+    public enum Stage {
+        /** Rate-limit key extraction, bucket lookup and token consumption */
+        RATE_LIMIT("rl"),
+        /** Bearer token verification and principal load, including its query */
+        AUTH("auth"),
+        /** All JDBC statements of the request */
+        DB("db"),
+        /** Response body serialization */
+        SERIALIZATION("ser");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long[] nanos = new long[STAGES.length];
+
+    public static void record(Stage stage, long nanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[stage.ordinal()] += nanos;
+        }
+    }
+
+    static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    static void bind(ServerTiming timing) {
+        CURRENT.set(timing);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * E.g. "rl;dur=0.004, auth;dur=2.310, db;dur=8.702, ser;dur=1.208, total;dur=13.5"; stages that did not
+     * run are left out. Durations are in milliseconds.
+     */
+    String header(long totalNanos) {
+        StringBuilder header = new StringBuilder(96);
+        for (Stage stage : STAGES) {
+            long stageNanos = nanos[stage.ordinal()];
+            if (stageNanos > 0) {
+                appendMetric(header, stage.metricName, stageNanos);
+            }
+        }
+        appendMetric(header, "total", totalNanos);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskmanager.api.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adds a Server-Timing header (rl, auth, db, ser and total, in ms) to a sampled fraction of requests.
+ * Opt-in through server-timing.enabled; when off the filter is not registered at all.
+ *
+ * <p>Serialization normally commits the response before it finishes, so the body of a sampled request is
+ * buffered until the header is complete. Unsampled requests pass straight through.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 2)
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final double sampleRate;
+
+    public ServerTimingFilter(@Value("${server-timing.sample-rate:0.1}") double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("server-timing.sample-rate must be between 0 and 1: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        ServerTiming timing = new ServerTiming();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        ServerTiming.bind(timing);
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            ServerTiming.unbind();
+        }
+
+        if (!response.isCommitted()) {
+            response.setHeader(SERVER_TIMING_HEADER, timing.header(System.nanoTime() - start));
+        }
+        buffered.copyBodyToResponse();
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskmanager.api.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces Boot's default JSON converter (same ObjectMapper) and records the time spent writing each
+ * response body as http.response.serialization, tagged by the serialized type.
+ */
+@Component
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final ClassValue<Timer> timers;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        // Response types are a small fixed set (DTOs, Page, ErrorResponse), so the tag stays low-cardinality
+        this.timers = new ClassValue<>() {
+            @Override
+            protected Timer computeValue(Class<?> type) {
+                return Timer.builder("http.response.serialization")
+                        .description("Jackson serialization of response bodies, including the write to the socket buffer")
+                        .tag("type", type.getSimpleName())
+                        .register(meterRegistry);
+            }
+        };
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timers.get(object.getClass()).record(elapsed, TimeUnit.NANOSECONDS);
+            ServerTiming.record(ServerTiming.Stage.SERIALIZATION, elapsed);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskmanager.api.project;
+
+import com.taskmanager.api.security.AuthenticatedUser;
+import com.taskmanager.api.task.TaskResponse;
+import com.taskmanager.api.task.TaskService;
+import com.taskmanager.api.task.TaskSort;
+import com.taskmanager.api.task.TaskStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/projects")
+@Tag(name = "Projects", description = "Shared project endpoints")
+public class ProjectController {
+
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final AuthenticatedUser authenticatedUser;
+
+    public ProjectController(ProjectService projectService, TaskService taskService,
+                             AuthenticatedUser authenticatedUser) {
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.authenticatedUser = authenticatedUser;
+    }
+
+    @Operation(summary = "Create a project", description = "Creates a project with the authenticated user as its owner")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Project created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @PostMapping
+    public ResponseEntity<ProjectResponse> createProject(@Valid @RequestBody CreateProjectRequest request) {
+        Project project = projectService.createProject(authenticatedUser.getCurrentUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ProjectResponse.from(project, ProjectRole.OWNER));
+    }
+
+    @Operation(summary = "Get my projects", description = "Returns the projects the authenticated user is a member of")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Projects retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @GetMapping
+    public ResponseEntity<List<ProjectResponse>> getProjects() {
+        return ResponseEntity.ok(projectService.getProjects(authenticatedUser.getCurrentUserId()));
+    }
+
+    @Operation(summary = "Get a project", description = "Returns a project the authenticated user is a member of")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Project found"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Project not found or not a member")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ProjectResponse> getProject(@Parameter(description = "Project ID") @PathVariable UUID id) {
+        return ResponseEntity.ok(projectService.getProject(id, authenticatedUser.getCurrentUserId()));
+    }
+
+    @Operation(summary = "Get a project's tasks", description = "Returns the project's tasks, whoever created them")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort (createdAt only)"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Project not found or not a member")
+    })
+    @GetMapping("/{id}/tasks")
+    public ResponseEntity<Page<TaskResponse>> getProjectTasks(
+            @Parameter(description = "Project ID") @PathVariable UUID id,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) TaskStatus status,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        UUID userId = authenticatedUser.getCurrentUserId();
+        // Only creation order has a project index
+        Pageable page = TaskSort.pageRequest(pageable, EnumSet.of(TaskSort.CREATED_AT));
+        Page<TaskResponse> response = taskService.getProjectTasks(id, userId, status, page).map(TaskResponse::from);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get a project's members")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Members retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Project not found or not a member")
+    })
+    @GetMapping("/{id}/members")
+    public ResponseEntity<List<ProjectMemberResponse>> getMembers(
+            @Parameter(description = "Project ID") @PathVariable UUID id) {
+        UUID userId = authenticatedUser.getCurrentUserId();
+        return ResponseEntity.ok(projectService.getMembers(id, userId).stream().map(ProjectMemberResponse::from).toList());
+    }
+
+    @Operation(summary = "Add a member or change their role", description = "Owners only")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Member saved"),
+            @ApiResponse(responseCode = "400", description = "Invalid role, or the project would have no owner left"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not an owner of the project"),
+            @ApiResponse(responseCode = "404", description = "Project or user not found")
+    })
+    @PutMapping("/{id}/members/{userId}")
+    public ResponseEntity<ProjectMemberResponse> putMember(
+            @Parameter(description = "Project ID") @PathVariable UUID id,
+            @Parameter(description = "User ID") @PathVariable UUID userId,
+            @Valid @RequestBody ProjectMemberRequest request
+    ) {
+        UUID actorId = authenticatedUser.getCurrentUserId();
+        ProjectMember member = projectService.putMember(id, actorId, userId, request.getRole());
+        return ResponseEntity.ok(ProjectMemberResponse.from(member));
+    }
+
+    @Operation(summary = "Remove a member", description = "Owners remove anyone; members can remove themselves")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Member removed"),
+            @ApiResponse(responseCode = "400", description = "The project would have no owner left"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not an owner of the project"),
+            @ApiResponse(responseCode = "404", description = "Project or member not found")
+    })
+    @DeleteMapping("/{id}/members/{userId}")
+    public ResponseEntity<Void> removeMember(
+            @Parameter(description = "Project ID") @PathVariable UUID id,
+            @Parameter(description = "User ID") @PathVariable UUID userId
+    ) {
+        projectService.removeMember(id, authenticatedUser.getCurrentUserId(), userId);
+        return ResponseEntity.noContent().build();
+    }
+}
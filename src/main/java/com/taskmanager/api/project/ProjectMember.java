@@ -0,0 +1,46 @@
+package com.taskmanager.api.project;
+
+import com.taskmanager.api.common.AuditableEntity;
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_members")
+public class ProjectMember extends AuditableEntity {
+
+    @EmbeddedId
+    private ProjectMemberKey id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false, length = 20)
+    private ProjectRole role;
+
+    protected ProjectMember() {
+    }
+
+    public ProjectMember(UUID projectId, UUID userId, ProjectRole role) {
+        this.id = new ProjectMemberKey(projectId, userId);
+        this.role = role;
+    }
+
+    public ProjectMemberKey getId() {
+        return id;
+    }
+
+    public UUID getProjectId() {
+        return id.projectId();
+    }
+
+    public UUID getUserId() {
+        return id.userId();
+    }
+
+    public ProjectRole getRole() {
+        return role;
+    }
+
+    public void setRole(ProjectRole role) {
+        this.role = role;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanager.api.project;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+@Embeddable
+public record ProjectMemberKey(
+        @JdbcTypeCode(SqlTypes.UUID)
+        @Column(name = "project_id", nullable = false)
+        UUID projectId,
+
+        @JdbcTypeCode(SqlTypes.UUID)
+        @Column(name = "user_id", nullable = false)
+        UUID userId
+) {
+}
@@ -0,0 +1,21 @@
+package com.taskmanager.api.project;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, ProjectMemberKey> {
+
+    // Everything ProjectMemberships caches for a user, in one statement
+    @Query("SELECT m FROM ProjectMember m WHERE m.id.userId = :userId")
+    List<ProjectMember> findAllByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT m FROM ProjectMember m WHERE m.id.projectId = :projectId ORDER BY m.createdAt")
+    List<ProjectMember> findAllByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT COUNT(m) FROM ProjectMember m WHERE m.id.projectId = :projectId AND m.role = :role")
+    long countByProjectIdAndRole(@Param("projectId") UUID projectId, @Param("role") ProjectRole role);
+}
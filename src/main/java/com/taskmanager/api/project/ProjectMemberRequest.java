@@ -0,0 +1,17 @@
+package com.taskmanager.api.project;
+
+import jakarta.validation.constraints.NotNull;
+
+public class ProjectMemberRequest {
+
+    @NotNull(message = "Role is required")
+    private ProjectRole role;
+
+    public ProjectRole getRole() {
+        return role;
+    }
+
+    public void setRole(ProjectRole role) {
+        this.role = role;
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskmanager.api.project;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProjectMemberResponse(
+        UUID userId,
+        ProjectRole role,
+        Instant joinedAt
+) {
+    public static ProjectMemberResponse from(ProjectMember member) {
+        return new ProjectMemberResponse(member.getUserId(), member.getRole(), member.getCreatedAt());
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskmanager.api.project;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.taskmanager.api.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Each user's project roles, loaded with one query on first use and then answered from memory, so access
+ * checks on shared tasks add no join and no statement. Bounded by the total number of memberships held
+ * (project.membership-cache.max-memberships) and evicted least valuable first.
+ *
+ * <p>ProjectService invalidates a user's entry after each membership change commits; an invalidation waits
+ * for a load of the same user in flight, so a load that read the old rows is discarded too. Entries are per
+ * node: with several nodes a change made elsewhere is seen here once the entry expires
+ * (project.membership-cache.ttl-seconds), which also bounds how long a removed member keeps access.
+ *
+ * <p>Roles are always read from the primary. On a replica a load could read rows from before a removal and
+ * keep them for a whole TTL, and read-your-writes stickiness cannot prevent it: background refreshes run
+ * with no current user.
+ */
+@Component
+public class ProjectMemberships {
+
+    private final LoadingCache<UUID, Map<UUID, ProjectRole>> cache;
+
+    public ProjectMemberships(
+            ProjectMemberRepository memberRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${project.membership-cache.max-memberships:1000000}") long maxMemberships,
+            @Value("${project.membership-cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        TransactionTemplate primaryRead = primaryRead(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemberships)
+                .weigher((UUID userId, Map<UUID, ProjectRole> roles) -> 1 + roles.size())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(userId -> primaryRead.execute(tx -> memberRepository.findAllByUserId(userId).stream()
+                        .collect(Collectors.toUnmodifiableMap(ProjectMember::getProjectId, ProjectMember::getRole))));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.memberships");
+    }
+
+    // Not read-only, which is what routes to the primary; a new transaction, as callers are mostly in a
+    // read-only one that may already be on a replica
+    private static TransactionTemplate primaryRead(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    public Map<UUID, ProjectRole> rolesOf(UUID userId) {
+        return cache.get(userId);
+    }
+
+    public ProjectRole roleIn(UUID userId, UUID projectId) {
+        return rolesOf(userId).get(projectId);
+    }
+
+    /**
+     * The projects where the user holds at least the given role, if the user's roles are cached. Otherwise
+     * empty, and the roles start loading in the background so that the next request finds them; callers
+     * check membership in their own statement meanwhile rather than wait for a query of their own.
+     */
+    public Optional<Set<UUID>> cachedProjectIds(UUID userId, ProjectRole minimum) {
+        Map<UUID, ProjectRole> roles = cache.getIfPresent(userId);
+        if (roles == null) {
+            cache.refresh(userId);
+            return Optional.empty();
+        }
+        return Optional.of(roles.entrySet().stream()
+                .filter(entry -> entry.getValue().allows(minimum))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * The user's role in the project, if at least the required one. Non-members get a 404, so project ids
+     * cannot be probed; members with a lesser role get a 403.
+     */
+    public ProjectRole require(UUID userId, UUID projectId, ProjectRole required) {
+        return check(roleIn(userId, projectId), required);
+    }
+
+    static ProjectRole check(ProjectRole role, ProjectRole required) {
+        if (role == null) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        if (!role.allows(required)) {
+            throw new AccessDeniedException("This requires the " + required + " role in the project");
+        }
+        return role;
+    }
+
+    public void invalidateAfterCommit(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+}
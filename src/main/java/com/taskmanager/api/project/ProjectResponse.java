@@ -0,0 +1,16 @@
+package com.taskmanager.api.project;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// role: the caller's role in the project
+public record ProjectResponse(
+        UUID id,
+        String name,
+        ProjectRole role,
+        Instant createdAt
+) {
+    public static ProjectResponse from(Project project, ProjectRole role) {
+        return new ProjectResponse(project.getId(), project.getName(), role, project.getCreatedAt());
+    }
+}
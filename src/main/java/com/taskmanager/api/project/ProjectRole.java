@@ -0,0 +1,20 @@
+package com.taskmanager.api.project;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+// Ordered from least to most privileged
+public enum ProjectRole {
+    VIEWER,
+    EDITOR,
+    OWNER;
+
+    public boolean allows(ProjectRole required) {
+        return compareTo(required) >= 0;
+    }
+
+    // This role and every role above it
+    public Set<ProjectRole> andAbove() {
+        return EnumSet.range(this, OWNER);
+    }
+}
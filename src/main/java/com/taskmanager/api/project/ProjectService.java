@@ -0,0 +1,115 @@
+package com.taskmanager.api.project;
+
+import com.taskmanager.api.common.exception.ResourceNotFoundException;
+import com.taskmanager.api.user.User;
+import com.taskmanager.api.user.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+public class ProjectService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository memberRepository;
+    private final UserRepository userRepository;
+    private final ProjectMemberships memberships;
+
+    public ProjectService(ProjectRepository projectRepository, ProjectMemberRepository memberRepository,
+                          UserRepository userRepository, ProjectMemberships memberships) {
+        this.projectRepository = projectRepository;
+        this.memberRepository = memberRepository;
+        this.userRepository = userRepository;
+        this.memberships = memberships;
+    }
+
+    @Transactional
+    public Project createProject(UUID userId, CreateProjectRequest request) {
+        Project project = new Project();
+        project.setName(request.getName());
+        Project saved = projectRepository.save(project);
+        memberRepository.save(new ProjectMember(saved.getId(), userId, ProjectRole.OWNER));
+        memberships.invalidateAfterCommit(userId);
+        return saved;
+    }
+
+    public List<ProjectResponse> getProjects(UUID userId) {
+        Map<UUID, ProjectRole> roles = memberships.rolesOf(userId);
+        if (roles.isEmpty()) {
+            return List.of();
+        }
+        return projectRepository.findAllById(roles.keySet()).stream()
+                .sorted(Comparator.comparing(Project::getName).thenComparing(Project::getId))
+                .map(project -> ProjectResponse.from(project, roles.get(project.getId())))
+                .toList();
+    }
+
+    public ProjectResponse getProject(UUID projectId, UUID userId) {
+        ProjectRole role = memberships.require(userId, projectId, ProjectRole.VIEWER);
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        return ProjectResponse.from(project, role);
+    }
+
+    public List<ProjectMember> getMembers(UUID projectId, UUID userId) {
+        memberships.require(userId, projectId, ProjectRole.VIEWER);
+        return memberRepository.findAllByProjectId(projectId);
+    }
+
+    @Transactional
+    public ProjectMember putMember(UUID projectId, UUID actorId, UUID userId, ProjectRole role) {
+        lockAndRequire(projectId, actorId, ProjectRole.OWNER);
+        userRepository.findById(userId)
+                .filter(User::isActive)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        ProjectMember member = memberRepository.findById(new ProjectMemberKey(projectId, userId))
+                .orElseGet(() -> new ProjectMember(projectId, userId, role));
+        if (member.getRole() == ProjectRole.OWNER && role != ProjectRole.OWNER) {
+            requireAnotherOwner(projectId);
+        }
+        member.setRole(role);
+        ProjectMember saved = memberRepository.save(member);
+        memberships.invalidateAfterCommit(userId);
+        return saved;
+    }
+
+    // Owners remove anyone; any member can leave
+    @Transactional
+    public void removeMember(UUID projectId, UUID actorId, UUID userId) {
+        lockAndRequire(projectId, actorId, actorId.equals(userId) ? ProjectRole.VIEWER : ProjectRole.OWNER);
+
+        ProjectMember member = memberRepository.findById(new ProjectMemberKey(projectId, userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Member not found"));
+        if (member.getRole() == ProjectRole.OWNER) {
+            requireAnotherOwner(projectId);
+        }
+        memberRepository.delete(member);
+        memberships.invalidateAfterCommit(userId);
+    }
+
+    /*
+     * Membership changes check the actor's role in the database rather than in ProjectMemberships, whose entry
+     * may lag a change made on another node. The lock serializes changes to the project's members.
+     */
+    private void lockAndRequire(UUID projectId, UUID actorId, ProjectRole required) {
+        projectRepository.lockById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        ProjectRole role = memberRepository.findById(new ProjectMemberKey(projectId, actorId))
+                .map(ProjectMember::getRole)
+                .orElse(null);
+        ProjectMemberships.check(role, required);
+    }
+
+    // Called with the project row locked, so two owners cannot demote each other at once
+    private void requireAnotherOwner(UUID projectId) {
+        if (memberRepository.countByProjectIdAndRole(projectId, ProjectRole.OWNER) < 2) {
+            throw new IllegalArgumentException("A project must keep at least one owner");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskmanager.api.security;
+
+import com.taskmanager.api.user.Role;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A verified access token. roles and epoch are null for tokens issued before they were embedded.
+ */
+public record AccessTokenClaims(UUID userId, String email, Set<Role> roles, Integer epoch) {
+
+    public boolean carriesPrincipal() {
+        return roles != null && epoch != null;
+    }
+}
@@ -1,11 +1,17 @@
 package com.taskmanager.api.security;
 
+import com.taskmanager.api.observability.JwtVerifyEvent;
+import com.taskmanager.api.observability.PrincipalLoadEvent;
+import com.taskmanager.api.observability.ServerTiming;
 import com.taskmanager.api.user.User;
 import com.taskmanager.api.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,7 +20,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -22,10 +29,25 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    // Present when jwt.principal-mode=claims
+    private final TokenEpochs tokenEpochs;
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
 
-    public JwtAuthFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    public JwtAuthFilter(JwtUtil jwtUtil, UserRepository userRepository, ObjectProvider<TokenEpochs> tokenEpochs,
+                         MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
+        this.tokenEpochs = tokenEpochs.getIfAvailable();
+        this.validTokenTimer = verificationTimer(meterRegistry, "valid");
+        this.invalidTokenTimer = verificationTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt.verification")
+                .description("Bearer token signature, expiry and type check")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
@@ -37,9 +59,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            if (jwtUtil.validateToken(token) && jwtUtil.isAccessToken(token)) {
-                UUID userId = jwtUtil.getUserIdFromToken(token);
-                User user = userRepository.findById(userId).orElse(null);
+            long start = System.nanoTime();
+            JwtVerifyEvent verifyEvent = new JwtVerifyEvent();
+            verifyEvent.begin();
+            Optional<AccessTokenClaims> claims = jwtUtil.parseAccessClaims(token);
+            (claims.isPresent() ? validTokenTimer : invalidTokenTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (verifyEvent.shouldCommit()) {
+                verifyEvent.valid = claims.isPresent();
+                verifyEvent.commit();
+            }
+
+            if (claims.isPresent()) {
+                User user = principal(claims.get());
 
                 if (user != null && user.isActive()) {
                     var authorities = user.getRoles().stream()
@@ -54,8 +86,27 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             }
+            ServerTiming.record(ServerTiming.Stage.AUTH, System.nanoTime() - start);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private User principal(AccessTokenClaims claims) {
+        if (tokenEpochs != null && claims.carriesPrincipal()) {
+            // No users read: lock, delete and role changes bump the epoch instead
+            return tokenEpochs.isCurrent(claims.userId(), claims.epoch())
+                    ? User.fromToken(claims.userId(), claims.email(), claims.roles())
+                    : null;
+        }
+        PrincipalLoadEvent loadEvent = new PrincipalLoadEvent();
+        loadEvent.begin();
+        User user = userRepository.findById(claims.userId()).orElse(null);
+        if (loadEvent.shouldCommit()) {
+            loadEvent.found = user != null;
+            loadEvent.active = user != null && user.isActive();
+            loadEvent.commit();
+        }
+        return user;
+    }
 }
@@ -1,5 +1,7 @@
 package com.taskmanager.api.security;
 
+import com.taskmanager.api.user.Role;
+import com.taskmanager.api.user.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -9,7 +11,12 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtUtil {
@@ -29,14 +36,33 @@ public class JwtUtil {
     }
 
     public String generateAccessToken(UUID userId, String email) {
-        return generateToken(userId, email, accessTokenExpirationMs, "access");
+        return generateToken(userId, email, accessTokenExpirationMs, "access", Map.of());
+    }
+
+    /**
+     * Also embeds the user's roles and token epoch, enough for JwtAuthFilter to build the principal
+     * without loading the user (jwt.principal-mode=claims).
+     */
+    public String generateAccessToken(User user) {
+        List<String> roles = user.getRoles().stream().map(Role::name).sorted().toList();
+        return generateToken(user.getId(), user.getEmail(), accessTokenExpirationMs, "access",
+                Map.of("roles", roles, "epoch", user.getTokenEpoch()));
     }
 
     public String generateRefreshToken(UUID userId, String email) {
-        return generateToken(userId, email, refreshTokenExpirationMs, "refresh");
+        return generateToken(userId, email, refreshTokenExpirationMs, "refresh", Map.of());
+    }
+
+    /**
+     * A refresh token that RefreshTokens can rotate: jti identifies it, family the login it descends from.
+     */
+    public String generateRefreshToken(UUID userId, String email, UUID jti, UUID familyId) {
+        return generateToken(userId, email, refreshTokenExpirationMs, "refresh",
+                Map.of("jti", jti.toString(), "family", familyId.toString()));
     }
 
-    private String generateToken(UUID userId, String email, long expirationMs, String tokenType) {
+    private String generateToken(UUID userId, String email, long expirationMs, String tokenType,
+                                 Map<String, Object> extraClaims) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
 
@@ -44,6 +70,7 @@ public class JwtUtil {
                 .subject(userId.toString())
                 .claim("email", email)
                 .claim("type", tokenType)
+                .claims(extraClaims)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
@@ -74,6 +101,52 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Verifies signature, expiry and token type with a single parse.
+     * Returns the user ID for a valid access token, empty otherwise.
+     */
+    public Optional<UUID> parseAccessToken(String token) {
+        return parseAccessClaims(token).map(AccessTokenClaims::userId);
+    }
+
+    /**
+     * As parseAccessToken, with the principal claims of tokens from generateAccessToken(User).
+     */
+    public Optional<AccessTokenClaims> parseAccessClaims(String token) {
+        try {
+            Claims claims = parseToken(token);
+            if (!"access".equals(claims.get("type", String.class))) {
+                return Optional.empty();
+            }
+            List<?> roleNames = claims.get("roles", List.class);
+            Set<Role> roles = roleNames == null ? null : roleNames.stream()
+                    .map(role -> Role.valueOf((String) role))
+                    .collect(Collectors.toUnmodifiableSet());
+            return Optional.of(new AccessTokenClaims(UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class), roles, claims.get("epoch", Integer.class)));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Verifies signature, expiry and type of a refresh token. Empty for tokens without a jti and family,
+     * which cannot be rotated.
+     */
+    public Optional<RefreshTokenClaims> parseRefreshClaims(String token) {
+        try {
+            Claims claims = parseToken(token);
+            String family = claims.get("family", String.class);
+            if (!"refresh".equals(claims.get("type", String.class)) || claims.getId() == null || family == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new RefreshTokenClaims(UUID.fromString(claims.getSubject()),
+                    UUID.fromString(claims.getId()), UUID.fromString(family)));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
     public boolean isAccessToken(String token) {
         try {
             return "access".equals(getTokenType(token));
@@ -1,7 +1,10 @@
 package com.taskmanager.api.security;
 
 import com.taskmanager.api.config.RateLimitConfig;
+import com.taskmanager.api.observability.ServerTiming;
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,27 +15,46 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Order(1)
 public class RateLimitFilter extends OncePerRequestFilter {
 
     private final RateLimitConfig rateLimitConfig;
+    private final Timer authAllowed;
+    private final Timer authRejected;
+    private final Timer apiAllowed;
+    private final Timer apiRejected;
 
-    public RateLimitFilter(RateLimitConfig rateLimitConfig) {
+    public RateLimitFilter(RateLimitConfig rateLimitConfig, MeterRegistry meterRegistry) {
         this.rateLimitConfig = rateLimitConfig;
+        this.authAllowed = decisionTimer(meterRegistry, "auth", "allowed");
+        this.authRejected = decisionTimer(meterRegistry, "auth", "rejected");
+        this.apiAllowed = decisionTimer(meterRegistry, "api", "allowed");
+        this.apiRejected = decisionTimer(meterRegistry, "api", "rejected");
+    }
+
+    private static Timer decisionTimer(MeterRegistry meterRegistry, String bucket, String result) {
+        return Timer.builder("ratelimit.decision")
+                .description("Bucket lookup and token consumption")
+                .tag("bucket", bucket)
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        long start = System.nanoTime();
         String clientIP = getClientIP(request);
         String path = request.getRequestURI();
+        boolean auth = path.startsWith("/api/auth");
         Bucket bucket;
 
         // Use stricter rate limit for auth endpoints
-        if (path.startsWith("/api/auth")) {
+        if (auth) {
             bucket = rateLimitConfig.resolveAuthBucket(clientIP);
         } else if (path.startsWith("/api/")) {
             // For authenticated endpoints, use user-based key if available
@@ -45,7 +67,13 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (bucket.tryConsume(1)) {
+        boolean allowed = bucket.tryConsume(1);
+        Timer timer = auth ? (allowed ? authAllowed : authRejected) : (allowed ? apiAllowed : apiRejected);
+        long elapsed = System.nanoTime() - start;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        ServerTiming.record(ServerTiming.Stage.RATE_LIMIT, elapsed);
+
+        if (allowed) {
             // Add rate limit headers
             response.addHeader("X-Rate-Limit-Remaining", String.valueOf(bucket.getAvailableTokens()));
             filterChain.doFilter(request, response);
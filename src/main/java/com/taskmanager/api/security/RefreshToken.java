@@ -0,0 +1,89 @@
+package com.taskmanager.api.security;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An issued refresh token. Only the hash of its jti is stored, so the table alone cannot be used to
+ * forge or replay tokens. Rows are written by {@link RefreshTokens}.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshToken {
+
+    @Id
+    @Column(name = "jti_hash", length = 64)
+    private String jtiHash;
+
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "issued_at", nullable = false)
+    private Instant issuedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // Set when the token is exchanged for a new pair
+    @Column(name = "used_at")
+    private Instant usedAt;
+
+    // Set on every token of the family when one of them is reused
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    protected RefreshToken() {
+    }
+
+    RefreshToken(String jtiHash, UUID familyId, UUID userId, Instant issuedAt, Instant expiresAt) {
+        this.jtiHash = jtiHash;
+        this.familyId = familyId;
+        this.userId = userId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isUsable(Instant now) {
+        return usedAt == null && revokedAt == null && expiresAt.isAfter(now);
+    }
+
+    public String getJtiHash() {
+        return jtiHash;
+    }
+
+    public UUID getFamilyId() {
+        return familyId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Instant getUsedAt() {
+        return usedAt;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanager.api.security;
+
+import java.util.UUID;
+
+/**
+ * A verified refresh token: its own id, and the family of tokens rotated from the same login.
+ */
+public record RefreshTokenClaims(UUID userId, UUID jti, UUID familyId) {
+}
@@ -0,0 +1,98 @@
+package com.taskmanager.api.security;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // A plain insert: save() would look the assigned id up first
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO refresh_tokens (jti_hash, family_id, user_id, issued_at, expires_at)
+            VALUES (:jtiHash, :familyId, :userId, :issuedAt, :expiresAt)""", nativeQuery = true)
+    int insert(
+            @Param("jtiHash") String jtiHash,
+            @Param("familyId") UUID familyId,
+            @Param("userId") UUID userId,
+            @Param("issuedAt") Instant issuedAt,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    // A successor in the same family, unless the family has been revoked
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO refresh_tokens (jti_hash, family_id, user_id, issued_at, expires_at)
+            SELECT :jtiHash, :familyId, :userId, :issuedAt, :expiresAt
+            WHERE NOT EXISTS (SELECT 1 FROM revoked_refresh_token_families r WHERE r.family_id = :familyId)""",
+            nativeQuery = true)
+    int insertUnlessRevoked(
+            @Param("jtiHash") String jtiHash,
+            @Param("familyId") UUID familyId,
+            @Param("userId") UUID userId,
+            @Param("issuedAt") Instant issuedAt,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    // The whole validity check and the rotation in one primary key lookup; of two concurrent uses, one wins.
+    // The family check covers tokens the revoking UPDATE did not see
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("""
+            UPDATE RefreshToken t SET t.usedAt = :now
+            WHERE t.jtiHash = :jtiHash AND t.usedAt IS NULL AND t.revokedAt IS NULL AND t.expiresAt > :now
+              AND NOT EXISTS (SELECT 1 FROM RevokedRefreshTokenFamily r WHERE r.familyId = t.familyId)""")
+    int markUsed(@Param("jtiHash") String jtiHash, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO revoked_refresh_token_families (family_id, revoked_at, expires_at)
+            VALUES (:familyId, :now, :expiresAt)
+            ON CONFLICT DO NOTHING""", nativeQuery = true)
+    int insertRevokedFamily(
+            @Param("familyId") UUID familyId,
+            @Param("now") Instant now,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+    @Query("SELECT t.jtiHash FROM RefreshToken t WHERE t.familyId = :familyId")
+    List<String> findJtiHashesByFamilyId(@Param("familyId") UUID familyId);
+
+    // Rotated or revoked tokens that have not expired yet: the ones a replay could present
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT t.jtiHash FROM RefreshToken t WHERE (t.usedAt IS NOT NULL OR t.revokedAt IS NOT NULL) AND t.expiresAt > :now")
+    Stream<String> streamSpentJtiHashes(@Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM refresh_tokens WHERE jti_hash IN (
+                SELECT jti_hash FROM refresh_tokens WHERE expires_at <= :now LIMIT :limit)""", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM revoked_refresh_token_families WHERE family_id IN (
+                SELECT family_id FROM revoked_refresh_token_families WHERE expires_at <= :now LIMIT :limit)""",
+            nativeQuery = true)
+    int deleteExpiredRevokedFamilies(@Param("now") Instant now, @Param("limit") int limit);
+}
@@ -0,0 +1,230 @@
+package com.taskmanager.api.security;
+
+import com.taskmanager.api.common.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Issues refresh tokens and rotates them: each one can be exchanged once, for a new token of the same
+ * family. Presenting a token that was already exchanged means it was copied, so the whole family is
+ * revoked and both the thief and the user have to log in again. Revocation is recorded per family
+ * ({@link RevokedRefreshTokenFamily}), and both the exchange and the insert of a successor check it, so a
+ * rotation running while its family is revoked cannot leave a usable token behind.
+ *
+ * <p>refresh_tokens is the source of truth, and a valid exchange is a single conditional UPDATE on its
+ * primary key. A Bloom filter of the tokens this node knows are spent (rotated or revoked) sends replays
+ * straight to the reuse check instead of attempting the rotation. It is loaded from the table once the
+ * application has started and rebuilt after each purge; until then it is empty, and tokens spent on other
+ * nodes meanwhile are still caught by the UPDATE.
+ */
+@Component
+public class RefreshTokens {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokens.class);
+
+    // A revoked family is remembered this long past its last token's expiry: successors may have been issued
+    // on nodes whose clocks run ahead
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final RefreshTokenRepository repository;
+    private final JwtUtil jwtUtil;
+    private final TransactionOperations readTransaction;
+    private final Counter reuseCounter;
+    private final int filterExpectedEntries;
+    private final double filterFalsePositiveProbability;
+    private final int purgeBatchSize;
+    private final Clock clock;
+    private volatile BloomFilter spent;
+
+    @Autowired
+    public RefreshTokens(
+            RefreshTokenRepository repository,
+            JwtUtil jwtUtil,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh.filter.expected-entries:1000000}") int filterExpectedEntries,
+            @Value("${jwt.refresh.filter.false-positive-probability:0.01}") double filterFalsePositiveProbability,
+            @Value("${jwt.refresh.purge-batch-size:1000}") int purgeBatchSize
+    ) {
+        this(repository, jwtUtil, readOnly(transactionManager), meterRegistry, filterExpectedEntries,
+                filterFalsePositiveProbability, purgeBatchSize, Clock.systemUTC());
+    }
+
+    RefreshTokens(RefreshTokenRepository repository, JwtUtil jwtUtil, TransactionOperations readTransaction,
+                  MeterRegistry meterRegistry, int filterExpectedEntries, double filterFalsePositiveProbability,
+                  int purgeBatchSize, Clock clock) {
+        this.repository = repository;
+        this.jwtUtil = jwtUtil;
+        this.readTransaction = readTransaction;
+        this.reuseCounter = Counter.builder("auth.refresh.reuse")
+                .description("Already exchanged refresh tokens presented again, each revoking its family")
+                .register(meterRegistry);
+        this.filterExpectedEntries = filterExpectedEntries;
+        this.filterFalsePositiveProbability = filterFalsePositiveProbability;
+        this.purgeBatchSize = purgeBatchSize;
+        this.clock = clock;
+        this.spent = new BloomFilter(filterExpectedEntries, filterFalsePositiveProbability);
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    // Not while the context refreshes: the CDS training run refreshes it with no database
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFilter() {
+        rebuildFilter();
+    }
+
+    /**
+     * A token starting a new family, for a login.
+     */
+    public String issue(UUID userId, String email) {
+        UUID familyId = UUID.randomUUID();
+        UUID jti = UUID.randomUUID();
+        Instant now = clock.instant();
+        repository.insert(hex(digest(jti)), familyId, userId, now, expiry(now));
+        return jwtUtil.generateRefreshToken(userId, email, jti, familyId);
+    }
+
+    /**
+     * Exchanges the token for the next one of its family. Both steps share a transaction, so a failed insert
+     * does not spend the token without a successor.
+     *
+     * @return the new refresh token, or empty if this one may not be exchanged
+     */
+    @Transactional
+    public Optional<String> rotate(RefreshTokenClaims claims, String email) {
+        if (!consume(claims)) {
+            return Optional.empty();
+        }
+        return issue(claims.userId(), email, claims.familyId());
+    }
+
+    /**
+     * A token continuing the family, for a rotation.
+     *
+     * @return empty if the family has been revoked
+     */
+    public Optional<String> issue(UUID userId, String email, UUID familyId) {
+        UUID jti = UUID.randomUUID();
+        Instant now = clock.instant();
+        if (repository.insertUnlessRevoked(hex(digest(jti)), familyId, userId, now, expiry(now)) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(jwtUtil.generateRefreshToken(userId, email, jti, familyId));
+    }
+
+    /**
+     * Marks the token used if it still can be. Reuse of an exchanged token revokes its family.
+     *
+     * @return whether the caller may issue a new pair
+     */
+    @Transactional
+    public boolean consume(RefreshTokenClaims claims) {
+        byte[] digest = digest(claims.jti());
+        String jtiHash = hex(digest);
+        Instant now = clock.instant();
+
+        // A filter hit is a spent token or a false positive: the row tells which
+        if (spent.mightContain(digest) && repository.findById(jtiHash).filter(token -> token.isUsable(now)).isEmpty()) {
+            revokeFamilyIfReused(jtiHash, now);
+            return false;
+        }
+        if (repository.markUsed(jtiHash, now) == 1) {
+            spent.put(digest);
+            return true;
+        }
+        // Spent on another node, expired, or not issued here
+        revokeFamilyIfReused(jtiHash, now);
+        return false;
+    }
+
+    private void revokeFamilyIfReused(String jtiHash, Instant now) {
+        repository.findById(jtiHash)
+                .filter(token -> token.getUsedAt() != null && token.getRevokedAt() == null)
+                .ifPresent(token -> {
+                    reuseCounter.increment();
+                    log.warn("Refresh token reused, revoking family {} of user {}", token.getFamilyId(), token.getUserId());
+                    repository.insertRevokedFamily(token.getFamilyId(), now, expiry(now).plus(CLOCK_SKEW));
+                    // For the filter and for readers of the table; markUsed goes by the family row
+                    repository.revokeFamily(token.getFamilyId(), now);
+                    repository.findJtiHashesByFamilyId(token.getFamilyId())
+                            .forEach(hash -> spent.put(HexFormat.of().parseHex(hash)));
+                });
+    }
+
+    // Expired tokens fail the signature check before reaching the table, so their rows only take space
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:600000}",
+            initialDelayString = "${jwt.refresh.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        int total = 0;
+        int purged;
+        // Short transactions: a large backlog does not hold locks on the table for the whole purge
+        do {
+            purged = repository.deleteExpired(now, purgeBatchSize);
+            total += purged;
+        } while (purged == purgeBatchSize);
+        do {
+            purged = repository.deleteExpiredRevokedFamilies(now, purgeBatchSize);
+        } while (purged == purgeBatchSize);
+        if (total > 0) {
+            log.debug("Purged {} expired refresh tokens", total);
+            // Purged entries cannot be removed from a Bloom filter; start over from what remains
+            rebuildFilter();
+        }
+    }
+
+    private void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(filterExpectedEntries, filterFalsePositiveProbability);
+        // The stream holds the connection for its transaction, and rows are fetched in chunks
+        readTransaction.executeWithoutResult(status -> {
+            try (Stream<String> hashes = repository.streamSpentJtiHashes(clock.instant())) {
+                hashes.forEach(hash -> rebuilt.put(HexFormat.of().parseHex(hash)));
+            }
+        });
+        spent = rebuilt;
+    }
+
+    private Instant expiry(Instant issuedAt) {
+        return issuedAt.plusMillis(jwtUtil.getRefreshTokenExpirationMs());
+    }
+
+    private static byte[] digest(UUID jti) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(jti.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String hex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+}
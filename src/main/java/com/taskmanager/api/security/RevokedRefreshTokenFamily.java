@@ -0,0 +1,47 @@
+package com.taskmanager.api.security;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A refresh token family revoked after a reuse. Rotation checks this row rather than the revoked_at of each
+ * token, so a successor inserted while the family was being revoked is refused as well. Rows are written by
+ * {@link RefreshTokens} and kept until every token the family could hold has expired.
+ */
+@Entity
+@Table(name = "revoked_refresh_token_families")
+public class RevokedRefreshTokenFamily {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "family_id")
+    private UUID familyId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    protected RevokedRefreshTokenFamily() {
+    }
+
+    public UUID getFamilyId() {
+        return familyId;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
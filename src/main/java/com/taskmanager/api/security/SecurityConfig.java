@@ -1,8 +1,11 @@
 package com.taskmanager.api.security;
 
+import com.taskmanager.api.idempotency.IdempotencyFilter;
+import com.taskmanager.api.task.TaskListCacheFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -47,6 +50,8 @@ public class SecurityConfig {
 
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers("/actuator/flightrecorder/**").hasRole("ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/error").permitAll()
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
@@ -62,8 +67,9 @@ public class SecurityConfig {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(allowedOrigins);
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Authorization", "Content-Type"));
-        config.setExposedHeaders(List.of("X-Total-Count"));
+        config.setAllowedHeaders(List.of("Authorization", "Content-Type", IdempotencyFilter.IDEMPOTENCY_KEY_HEADER));
+        config.setExposedHeaders(List.of("X-Total-Count", IdempotencyFilter.REPLAYED_HEADER, HttpHeaders.RETRY_AFTER,
+                TaskListCacheFilter.CACHE_HEADER));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
@@ -0,0 +1,137 @@
+package com.taskmanager.api.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This node's view of users.token_epoch, for checking stateless access tokens (jwt.principal-mode=claims).
+ * Only users revoked within the last access token lifetime are held: anyone else has no unexpired token
+ * older than their current epoch, so every token they hold passes. The map is refreshed from the
+ * partial index on revoked users every few seconds, which bounds how long another node's revocation
+ * takes to apply here; revocations made on this node apply as soon as they commit.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.principal-mode", havingValue = "claims")
+public class TokenEpochs {
+
+    // Re-read rows updated shortly before the previous refresh: a revocation's updated_at is set before
+    // its transaction commits
+    private static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration tokenLifetime;
+    private final Clock clock;
+    private final Map<UUID, Revocation> revocations = new ConcurrentHashMap<>();
+    // Not synchronized: a refresh queries the database, and the threads waiting for the first one may be virtual
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Instant lastRefresh;
+
+    @Autowired
+    public TokenEpochs(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                       @Value("${jwt.expiration-ms:86400000}") long accessTokenExpirationMs) {
+        this(jdbcTemplate, Duration.ofMillis(accessTokenExpirationMs), Clock.systemUTC());
+        Gauge.builder("auth.jwt.revoked.users", revocations, Map::size)
+                .description("Users whose earlier access tokens this node currently rejects")
+                .register(meterRegistry);
+    }
+
+    TokenEpochs(JdbcTemplate jdbcTemplate, Duration tokenLifetime, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tokenLifetime = tokenLifetime;
+        this.clock = clock;
+    }
+
+    // Once the application has started, not while the context refreshes: the CDS training run refreshes it
+    // with no database. Readiness only turns to ACCEPTING_TRAFFIC after this
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.lock();
+        try {
+            if (lastRefresh == null) {
+                refresh();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isCurrent(UUID userId, int tokenEpoch) {
+        // A request that arrives before the first load waits for it: tokens revoked while this node was down
+        // must not pass
+        if (lastRefresh == null) {
+            load();
+        }
+        Revocation revocation = revocations.get(userId);
+        return revocation == null || tokenEpoch >= revocation.epoch();
+    }
+
+    /**
+     * Applies a revocation made on this node once its transaction commits, without waiting for the refresh.
+     */
+    public void revoked(UUID userId, int epoch) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, epoch, clock.instant());
+                }
+            });
+        } else {
+            apply(userId, epoch, clock.instant());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.epochs.refresh-interval-ms:5000}",
+            initialDelayString = "${jwt.epochs.refresh-interval-ms:5000}")
+    public void refresh() {
+        lock.lock();
+        try {
+            refreshLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refreshLocked() {
+        Instant now = clock.instant();
+        Instant horizon = now.minus(tokenLifetime);
+        Instant since = lastRefresh == null || lastRefresh.minus(OVERLAP).isBefore(horizon)
+                ? horizon : lastRefresh.minus(OVERLAP);
+        jdbcTemplate.query("SELECT id, token_epoch, updated_at FROM users WHERE token_epoch > 0 AND updated_at > ?",
+                rs -> {
+                    apply(rs.getObject("id", UUID.class), rs.getInt("token_epoch"),
+                            rs.getTimestamp("updated_at").toInstant());
+                },
+                Timestamp.from(since));
+        // Every token issued before these revocations has expired
+        revocations.values().removeIf(revocation -> revocation.at().isBefore(horizon));
+        lastRefresh = now;
+    }
+
+    private void apply(UUID userId, int epoch, Instant at) {
+        revocations.merge(userId, new Revocation(epoch, at),
+                (current, update) -> update.epoch() >= current.epoch() ? update : current);
+    }
+
+    private record Revocation(int epoch, Instant at) {
+    }
+}
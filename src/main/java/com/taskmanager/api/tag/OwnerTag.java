@@ -0,0 +1,36 @@
+package com.taskmanager.api.tag;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * An owner's tag and how many of their non-deleted tasks carry it. Rows are written by {@link TagCounts}
+ * only; a count that drops to zero keeps its row, so re-adding the tag is an update.
+ */
+@Entity
+@Table(name = "owner_tags")
+public class OwnerTag {
+
+    @EmbeddedId
+    private OwnerTagKey id;
+
+    @Column(name = "task_count", nullable = false)
+    private int taskCount;
+
+    protected OwnerTag() {
+    }
+
+    public OwnerTagKey getId() {
+        return id;
+    }
+
+    public String getTag() {
+        return id.tag();
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmanager.api.tag;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+@Embeddable
+public record OwnerTagKey(
+        @JdbcTypeCode(SqlTypes.UUID)
+        @Column(name = "owner_id", nullable = false)
+        UUID ownerId,
+
+        @Column(name = "tag", nullable = false, length = Tags.MAX_LENGTH)
+        String tag
+) {
+}
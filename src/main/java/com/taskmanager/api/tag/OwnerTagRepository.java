@@ -0,0 +1,14 @@
+package com.taskmanager.api.tag;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OwnerTagRepository extends JpaRepository<OwnerTag, OwnerTagKey> {
+
+    @Query("SELECT o FROM OwnerTag o WHERE o.id.ownerId = :ownerId AND o.taskCount > 0 ORDER BY o.taskCount DESC, o.id.tag")
+    List<OwnerTag> findUsedByOwnerId(@Param("ownerId") UUID ownerId);
+}
@@ -0,0 +1,40 @@
+package com.taskmanager.api.tag;
+
+import com.taskmanager.api.security.AuthenticatedUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/tags")
+@Tag(name = "Tags", description = "Task tag endpoints")
+public class TagController {
+
+    private final TagService tagService;
+    private final AuthenticatedUser authenticatedUser;
+
+    public TagController(TagService tagService, AuthenticatedUser authenticatedUser) {
+        this.tagService = tagService;
+        this.authenticatedUser = authenticatedUser;
+    }
+
+    @Operation(summary = "Get tag usage",
+            description = "Returns the tags on the authenticated user's tasks with how many tasks carry each, most used first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tags retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @GetMapping
+    public ResponseEntity<List<TagUsageResponse>> getTags() {
+        UUID ownerId = authenticatedUser.getCurrentUserId();
+        return ResponseEntity.ok(tagService.getTagUsage(ownerId).stream().map(TagUsageResponse::from).toList());
+    }
+}
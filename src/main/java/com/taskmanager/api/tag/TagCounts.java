@@ -0,0 +1,66 @@
+package com.taskmanager.api.tag;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps owner_tags in step with task writes, in the writing transaction: at most two statements per
+ * change whatever the number of tags. Missing rows are created at zero first (ON CONFLICT DO NOTHING,
+ * so concurrent first uses of a tag do not collide), then one relative UPDATE adjusts every count, so
+ * concurrent writers never overwrite each other's increments.
+ */
+@Component
+public class TagCounts {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TagCounts(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Callers pass normalized (sorted) tags, so rows are always locked in the same order
+    @Transactional
+    public void adjust(UUID ownerId, Collection<String> added, Collection<String> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>();
+        if (!added.isEmpty()) {
+            for (String tag : added) {
+                args.add(ownerId);
+                args.add(tag);
+            }
+            String rows = String.join(", ", Collections.nCopies(added.size(), "(?, ?, 0)"));
+            jdbcTemplate.update("INSERT INTO owner_tags (owner_id, tag, task_count) VALUES " + rows
+                    + " ON CONFLICT DO NOTHING", args.toArray());
+            args.clear();
+        }
+
+        String delta;
+        if (removed.isEmpty()) {
+            delta = "1";
+        } else if (added.isEmpty()) {
+            delta = "-1";
+        } else {
+            delta = "CASE WHEN tag IN (" + placeholders(added.size()) + ") THEN 1 ELSE -1 END";
+            args.addAll(added);
+        }
+        args.add(ownerId);
+        args.addAll(added);
+        args.addAll(removed);
+        jdbcTemplate.update("UPDATE owner_tags SET task_count = task_count + " + delta
+                + " WHERE owner_id = ? AND tag IN (" + placeholders(added.size() + removed.size()) + ")",
+                args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
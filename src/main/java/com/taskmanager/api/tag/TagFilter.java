@@ -0,0 +1,20 @@
+package com.taskmanager.api.tag;
+
+import java.util.List;
+
+/**
+ * The tags query of a task list: tasks with any or all of the normalized tags. No tags means no filter.
+ */
+public record TagFilter(List<String> tags, TagMatch match) {
+
+    public static final TagFilter NONE = new TagFilter(List.of(), TagMatch.ALL);
+
+    public static TagFilter of(List<String> tags, TagMatch match) {
+        List<String> normalized = Tags.normalize(tags);
+        return normalized.isEmpty() ? NONE : new TagFilter(normalized, match != null ? match : TagMatch.ALL);
+    }
+
+    public boolean none() {
+        return tags.isEmpty();
+    }
+}
@@ -0,0 +1,6 @@
+package com.taskmanager.api.tag;
+
+public enum TagMatch {
+    ANY,
+    ALL
+}
@@ -0,0 +1,23 @@
+package com.taskmanager.api.tag;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+public class TagService {
+
+    private final OwnerTagRepository ownerTagRepository;
+
+    public TagService(OwnerTagRepository ownerTagRepository) {
+        this.ownerTagRepository = ownerTagRepository;
+    }
+
+    // Reads the maintained counts: no scan of the owner's tasks
+    public List<OwnerTag> getTagUsage(UUID ownerId) {
+        return ownerTagRepository.findUsedByOwnerId(ownerId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanager.api.tag;
+
+public record TagUsageResponse(String tag, int taskCount) {
+
+    public static TagUsageResponse from(OwnerTag ownerTag) {
+        return new TagUsageResponse(ownerTag.getTag(), ownerTag.getTaskCount());
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.api.tag;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Tag normalization shared by task writes and the list filter: tags are trimmed and lower-cased, so
+ * "Urgent" and "urgent " are one tag, and kept sorted and distinct.
+ */
+public final class Tags {
+
+    public static final int MAX_PER_TASK = 20;
+    public static final int MAX_LENGTH = 50;
+
+    private static final Pattern VALID = Pattern.compile("[\\p{L}\\p{N}][\\p{L}\\p{N}_-]*");
+
+    private Tags() {
+    }
+
+    public static List<String> normalize(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return List.of();
+        }
+        TreeSet<String> normalized = new TreeSet<>();
+        for (String tag : tags) {
+            String value = tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+            if (value.length() > MAX_LENGTH || !VALID.matcher(value).matches()) {
+                throw new IllegalArgumentException("Invalid tag '" + tag + "': tags are 1 to " + MAX_LENGTH
+                        + " letters, digits, '-' or '_'");
+            }
+            normalized.add(value);
+        }
+        if (normalized.size() > MAX_PER_TASK) {
+            throw new IllegalArgumentException("A task can have at most " + MAX_PER_TASK + " tags");
+        }
+        return List.copyOf(normalized);
+    }
+}
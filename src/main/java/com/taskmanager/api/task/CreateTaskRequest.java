@@ -1,9 +1,12 @@
 package com.taskmanager.api.task;
 
+import com.taskmanager.api.tag.Tags;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 public class CreateTaskRequest {
 
@@ -19,6 +22,13 @@ public class CreateTaskRequest {
 
     private LocalDate dueDate;
 
+    private UUID parentId;
+
+    private UUID projectId;
+
+    @Size(max = Tags.MAX_PER_TASK, message = "A task can have at most " + Tags.MAX_PER_TASK + " tags")
+    private List<String> tags;
+
     public String getTitle() {
         return title;
     }
@@ -58,4 +68,28 @@ public class CreateTaskRequest {
     public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
+
+    public UUID getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(UUID parentId) {
+        this.parentId = parentId;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
 }
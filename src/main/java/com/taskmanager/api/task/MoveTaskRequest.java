@@ -0,0 +1,17 @@
+package com.taskmanager.api.task;
+
+import java.util.UUID;
+
+public class MoveTaskRequest {
+
+    // Null makes the task a top-level task
+    private UUID parentId;
+
+    public UUID getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(UUID parentId) {
+        this.parentId = parentId;
+    }
+}
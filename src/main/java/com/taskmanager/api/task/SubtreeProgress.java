@@ -0,0 +1,9 @@
+package com.taskmanager.api.task;
+
+// Projection of TaskRepository.findSubtreeProgress
+public interface SubtreeProgress {
+
+    long getTotal();
+
+    long getDone();
+}
@@ -5,16 +5,20 @@ import com.taskmanager.api.user.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "tasks")
 public class Task extends AuditableEntity {
 
+    static final String PRIORITY_RANK = "CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END";
+
     @Id
     @GeneratedValue
     @JdbcTypeCode(SqlTypes.UUID)
@@ -40,9 +44,29 @@ public class Task extends AuditableEntity {
     @Column(name = "priority", nullable = false, length = 20)
     private TaskPriority priority = TaskPriority.MEDIUM;
 
+    // Priority by rank (LOW 1, MEDIUM 2, HIGH 3) rather than by name, for TaskSort. Not a column: the same
+    // expression is indexed (V11), and PostgreSQL uses that index for an ORDER BY on it
+    @Formula(PRIORITY_RANK)
+    private Short priorityRank;
+
     @Column(name = "due_date")
     private LocalDate dueDate;
 
+    // Plain id rather than an association: hierarchy reads go through the recursive queries in TaskRepository
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "parent_id")
+    private UUID parentId;
+
+    // Null for personal tasks. Members of the project reach the task through ProjectMemberships
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    // Normalized (sorted, distinct) by Tags; a text[] with a GIN index in PostgreSQL
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tags", nullable = false)
+    private List<String> tags = List.of();
+
     public boolean isOwnedBy(UUID userId) {
         return owner != null && owner.getId().equals(userId);
     }
@@ -106,4 +130,28 @@ public class Task extends AuditableEntity {
     public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
+
+    public UUID getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(UUID parentId) {
+        this.parentId = parentId;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
 }
@@ -1,6 +1,9 @@
 package com.taskmanager.api.task;
 
+import com.taskmanager.api.activity.TaskActivityResponse;
 import com.taskmanager.api.security.AuthenticatedUser;
+import com.taskmanager.api.tag.TagFilter;
+import com.taskmanager.api.tag.TagMatch;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -46,16 +50,21 @@ public class TaskController {
     @Operation(summary = "Get all tasks", description = "Returns paginated list of tasks owned by the authenticated user")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort (createdAt, updatedAt, dueDate or priority)"),
             @ApiResponse(responseCode = "401", description = "Not authenticated")
     })
     @GetMapping
     public ResponseEntity<Page<TaskResponse>> getTasks(
             @Parameter(description = "Filter by status") @RequestParam(required = false) TaskStatus status,
             @Parameter(description = "Filter by priority") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter by tags, comma separated") @RequestParam(required = false) List<String> tags,
+            @Parameter(description = "Whether tasks need ALL of the tags or ANY of them")
+            @RequestParam(defaultValue = "ALL") TagMatch tagMatch,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         UUID ownerId = authenticatedUser.getCurrentUserId();
-        Page<Task> tasks = taskService.getTasks(ownerId, status, priority, pageable);
+        Page<Task> tasks = taskService.getTasks(ownerId, status, priority, TagFilter.of(tags, tagMatch),
+                TaskSort.pageRequest(pageable));
         Page<TaskResponse> response = tasks.map(TaskResponse::from);
         return ResponseEntity.ok(response);
     }
@@ -73,6 +82,83 @@ public class TaskController {
         return ResponseEntity.ok(TaskResponse.from(task));
     }
 
+    @Operation(summary = "Get a task's subtree",
+            description = "Returns the task and all of its subtasks, breadth first; build the tree from parentId")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Subtree retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Task not found or not owned by user")
+    })
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<List<TaskResponse>> getSubtree(@Parameter(description = "Task ID") @PathVariable UUID id) {
+        UUID ownerId = authenticatedUser.getCurrentUserId();
+        List<TaskResponse> response = taskService.getSubtree(id, ownerId).stream().map(TaskResponse::from).toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get a task's ancestors",
+            description = "Returns the path from the top-level task down to this task, both included")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Path retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Task not found or not owned by user")
+    })
+    @GetMapping("/{id}/ancestors")
+    public ResponseEntity<List<TaskResponse>> getAncestors(@Parameter(description = "Task ID") @PathVariable UUID id) {
+        UUID ownerId = authenticatedUser.getCurrentUserId();
+        List<TaskResponse> response = taskService.getAncestors(id, ownerId).stream().map(TaskResponse::from).toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get a task's completion",
+            description = "Returns how many tasks of the subtree, the task itself included, are DONE")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Progress retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Task not found or not owned by user")
+    })
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<TaskProgressResponse> getProgress(@Parameter(description = "Task ID") @PathVariable UUID id) {
+        UUID ownerId = authenticatedUser.getCurrentUserId();
+        return ResponseEntity.ok(taskService.getProgress(id, ownerId));
+    }
+
+    @Operation(summary = "Move a task", description = "Makes the task a subtask of another task, or top-level with a null parentId")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Task moved successfully"),
+            @ApiResponse(responseCode = "400", description = "Move would create a cycle or exceed the maximum depth"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Task or parent not found or not owned by user")
+    })
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<TaskResponse> moveTask(
+            @Parameter(description = "Task ID") @PathVariable UUID id,
+            @RequestBody MoveTaskRequest request
+    ) {
+        UUID ownerId = authenticatedUser.getCurrentUserId();
+        Task task = taskService.moveTask(id, ownerId, request.getParentId());
+        return ResponseEntity.ok(TaskResponse.from(task));
+    }
+
+    @Operation(summary = "Get a task's history",
+            description = "Returns the field-level changes made to a task, newest first. Changes are written "
+                    + "asynchronously and may take a moment to appear")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "404", description = "Task not found or not owned by user")
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<Page<TaskActivityResponse>> getTaskHistory(
+            @Parameter(description = "Task ID") @PathVariable UUID id,
+            @PageableDefault(size = 20, sort = "occurredAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        UUID ownerId = authenticatedUser.getCurrentUserId();
+        Page<TaskActivityResponse> response = taskService.getTaskHistory(id, ownerId, pageable)
+                .map(TaskActivityResponse::from);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Update a task", description = "Updates a task owned by the authenticated user")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task updated successfully"),
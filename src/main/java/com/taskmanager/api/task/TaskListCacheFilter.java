@@ -0,0 +1,136 @@
+package com.taskmanager.api.task;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.api.common.OwnerVersions;
+import com.taskmanager.api.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Serves repeated GET /api/tasks requests from serialized responses kept in memory, keyed by owner, query
+ * parameters (filters, page, size, sort) and the owner's {@link OwnerVersions version}. Every TaskService
+ * write bumps the version after commit, so the writer's next list misses and is read fresh; old entries are
+ * never looked up again and age out.
+ *
+ * <p>Versions are per node: with several nodes, another node's write is only seen here once the entry
+ * expires (task.list-cache.ttl-seconds). With replica routing, a list read within replica.stickiness-ms of
+ * a write to the owner's tasks is served but not cached: when a project member made the write, only the
+ * member is kept on the primary, and the owner's read may come from a replica that has yet to replay it.
+ * The cache holds at most task.list-cache.max-size-mb of response
+ * bodies, evicting the least valuable entries first. Opt-in through task.list-cache.enabled.
+ */
+@Component
+@Order(3)
+@ConditionalOnProperty(name = "task.list-cache.enabled", havingValue = "true")
+public class TaskListCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    private static final String PATH = "/api/tasks";
+    // Key, entry and cache node bookkeeping, roughly
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+    private final OwnerVersions ownerVersions;
+    private final Duration replicaLagWindow;
+    private final Cache<Key, CachedResponse> cache;
+
+    public TaskListCacheFilter(
+            OwnerVersions ownerVersions,
+            MeterRegistry meterRegistry,
+            @Value("${task.list-cache.max-size-mb:64}") long maxSizeMb,
+            @Value("${task.list-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${replica.enabled:false}") boolean replicaEnabled,
+            @Value("${replica.stickiness-ms:5000}") long stickinessMs
+    ) {
+        this.ownerVersions = ownerVersions;
+        this.replicaLagWindow = replicaEnabled ? Duration.ofMillis(stickinessMs) : Duration.ZERO;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .weigher((Key key, CachedResponse response) ->
+                        ENTRY_OVERHEAD_BYTES + key.query().length() * 2 + response.body().length)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "task.list");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Read before the query runs: a write committing meanwhile makes this entry unreachable, not stale
+        UUID ownerId = user.getId();
+        Key key = new Key(ownerId, ownerVersions.current(ownerId), normalizedQuery(request));
+        boolean cacheable = !ownerVersions.bumpedWithin(ownerId, replicaLagWindow);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            response.setHeader(CACHE_HEADER, "HIT");
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        response.setHeader(CACHE_HEADER, "MISS");
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, buffered);
+            if (cacheable && buffered.getStatus() == HttpStatus.OK.value()) {
+                cache.put(key, new CachedResponse(buffered.getContentType(), buffered.getContentAsByteArray()));
+            }
+        } finally {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    // Parameters sorted by name, so ?page=1&size=5 and ?size=5&page=1 share an entry
+    private static String normalizedQuery(HttpServletRequest request) {
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            for (String value : parameter.getValue()) {
+                if (!query.isEmpty()) {
+                    query.append('&');
+                }
+                query.append(parameter.getKey()).append('=').append(value);
+            }
+        }
+        return query.toString();
+    }
+
+    private record Key(UUID ownerId, long version, String query) {
+    }
+
+    private record CachedResponse(String contentType, byte[] body) {
+    }
+}
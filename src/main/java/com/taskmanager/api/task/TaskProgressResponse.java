@@ -0,0 +1,19 @@
+package com.taskmanager.api.task;
+
+import java.util.UUID;
+
+/**
+ * Completion of a task and all of its subtasks: total and done count every task in the subtree,
+ * the task itself included.
+ */
+public record TaskProgressResponse(
+        UUID taskId,
+        long total,
+        long done,
+        int percentComplete
+) {
+    public static TaskProgressResponse from(UUID taskId, SubtreeProgress progress) {
+        int percent = (int) (progress.getDone() * 100 / progress.getTotal());
+        return new TaskProgressResponse(taskId, progress.getTotal(), progress.getDone(), percent);
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskmanager.api.task;
+
+import com.taskmanager.api.common.OwnerVersions;
+import com.taskmanager.api.common.SingleFlight;
+import com.taskmanager.api.tag.TagFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent task reads from the same owner (several devices, a dashboard fanning out)
+ * into one query. Reads are keyed by owner, normalized query and {@link OwnerVersions owner version}, so a
+ * read arriving after one of the owner's writes committed never joins a query that started before it.
+ *
+ * <p>The shared query runs in its own read-only transaction, and waiting callers hold no connection. A
+ * caller inside a read-write transaction is never coalesced (its query joins that transaction), since it
+ * must see its own uncommitted writes. Disabled with task.read-coalescing.enabled=false.
+ */
+@Component
+public class TaskReadCoalescer {
+
+    private final OwnerVersions ownerVersions;
+    private final TransactionOperations readTransaction;
+    private final boolean enabled;
+    private final SingleFlight<ListKey, Page<Task>> lists = new SingleFlight<>();
+    private final SingleFlight<TaskKey, Task> tasks = new SingleFlight<>();
+    private final Counter listsCoalesced;
+    private final Counter tasksCoalesced;
+
+    @Autowired
+    public TaskReadCoalescer(
+            OwnerVersions ownerVersions,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${task.read-coalescing.enabled:true}") boolean enabled
+    ) {
+        this(ownerVersions, readOnly(transactionManager), meterRegistry, enabled);
+    }
+
+    TaskReadCoalescer(OwnerVersions ownerVersions, TransactionOperations readTransaction,
+                      MeterRegistry meterRegistry, boolean enabled) {
+        this.ownerVersions = ownerVersions;
+        this.readTransaction = readTransaction;
+        this.enabled = enabled;
+        this.listsCoalesced = coalescedCounter(meterRegistry, "list");
+        this.tasksCoalesced = coalescedCounter(meterRegistry, "get");
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String query) {
+        return Counter.builder("task.reads.coalesced")
+                .description("Task reads served by an identical read already in flight")
+                .tag("query", query)
+                .register(meterRegistry);
+    }
+
+    public Page<Task> list(UUID ownerId, TaskStatus status, TaskPriority priority, TagFilter tags,
+                           Pageable pageable, Supplier<Page<Task>> query) {
+        Supplier<Page<Task>> read = () -> readTransaction.execute(tx -> query.get());
+        if (!coalescing()) {
+            return read.get();
+        }
+        ListKey key = new ListKey(ownerId, ownerVersions.current(ownerId), status, priority, tags, pageable);
+        SingleFlight.Result<Page<Task>> result = lists.execute(key, read);
+        if (result.shared()) {
+            listsCoalesced.increment();
+        }
+        return result.value();
+    }
+
+    public Task get(UUID taskId, UUID ownerId, Supplier<Task> query) {
+        Supplier<Task> read = () -> readTransaction.execute(tx -> query.get());
+        if (!coalescing()) {
+            return read.get();
+        }
+        TaskKey key = new TaskKey(taskId, ownerId, ownerVersions.current(ownerId));
+        SingleFlight.Result<Task> result = tasks.execute(key, read);
+        if (result.shared()) {
+            tasksCoalesced.increment();
+        }
+        return result.value();
+    }
+
+    private boolean coalescing() {
+        return enabled && !(TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
+
+    // Pageable implementations compare page, size and sort, so equal queries are equal keys
+    private record ListKey(UUID ownerId, long version, TaskStatus status, TaskPriority priority, TagFilter tags,
+                           Pageable pageable) {
+    }
+
+    private record TaskKey(UUID taskId, UUID ownerId, long version) {
+    }
+}
@@ -1,15 +1,79 @@
 package com.taskmanager.api.task;
 
+import com.taskmanager.api.project.ProjectRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+// Specifications: the tag-filtered list, see TaskSpecifications
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
+
+    /*
+     * Hierarchy queries: each is one recursive CTE, a single round trip whatever the depth. Walks start at a
+     * live task and stop after :maxDepth levels, so they terminate even on a cycle. Deleting a task leaves
+     * its subtasks in place, so walks pass through deleted tasks and only what they return leaves them out:
+     * cycle and depth checks see the whole path, and live tasks below a deleted one stay in their subtree.
+     * Public so the benchmarks run the exact SQL.
+     */
+
+    // The task (depth 0) and all of its descendants
+    String SUBTREE_CTE = """
+            WITH RECURSIVE subtree (id, status, depth) AS (
+                SELECT id, status, 0 FROM tasks
+                WHERE id = :taskId AND owner_id = :ownerId AND status <> 'DELETED'
+                UNION ALL
+                SELECT child.id, child.status, subtree.depth + 1 FROM tasks child
+                JOIN subtree ON child.parent_id = subtree.id
+                WHERE subtree.depth < :maxDepth
+            )
+            """;
+
+    // The task (depth 0) and its ancestors up to the root
+    String PATH_CTE = """
+            WITH RECURSIVE path (id, parent_id, status, depth) AS (
+                SELECT id, parent_id, status, 0 FROM tasks
+                WHERE id = :taskId AND owner_id = :ownerId AND status <> 'DELETED'
+                UNION ALL
+                SELECT parent.id, parent.parent_id, parent.status, path.depth + 1 FROM tasks parent
+                JOIN path ON parent.id = path.parent_id
+                WHERE path.depth < :maxDepth
+            )
+            """;
+
+    // Native queries for Task entities select its priorityRank formula under the property name
+    String TASK_PRIORITY_RANK = Task.PRIORITY_RANK + " AS priorityRank";
+
+    // Breadth first
+    String SUBTREE_SQL = SUBTREE_CTE
+            + "SELECT tasks.*, " + TASK_PRIORITY_RANK + " FROM tasks JOIN subtree ON tasks.id = subtree.id "
+            + "WHERE subtree.status <> 'DELETED' "
+            + "ORDER BY subtree.depth, tasks.created_at, tasks.id";
+
+    // Root first, ending with the task itself
+    String ANCESTORS_SQL = PATH_CTE
+            + "SELECT tasks.*, " + TASK_PRIORITY_RANK + " FROM tasks JOIN path ON tasks.id = path.id "
+            + "WHERE path.status <> 'DELETED' "
+            + "ORDER BY path.depth DESC";
+
+    // Deleted ancestors included, for cycle and depth checks. As text: Hibernate reads a bare native UUID
+    // column as bytes
+    String ANCESTOR_IDS_SQL = PATH_CTE + "SELECT CAST(id AS VARCHAR(36)) FROM path ORDER BY depth DESC";
+
+    String SUBTREE_PROGRESS_SQL = SUBTREE_CTE
+            + "SELECT COALESCE(SUM(CASE WHEN status <> 'DELETED' THEN 1 ELSE 0 END), 0) AS total, "
+            + "COALESCE(SUM(CASE WHEN status = 'DONE' THEN 1 ELSE 0 END), 0) AS done "
+            + "FROM subtree";
+
+    // Levels below the task, deleted tasks included; -1 when the task does not exist
+    String SUBTREE_HEIGHT_SQL = SUBTREE_CTE + "SELECT COALESCE(MAX(depth), -1) FROM subtree";
 
     @Query("SELECT t FROM Task t WHERE t.owner.id = :ownerId AND t.status != 'DELETED' AND t.owner.status = 'ACTIVE'")
     Page<Task> findAllByOwnerId(@Param("ownerId") UUID ownerId, Pageable pageable);
@@ -40,4 +104,55 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     Optional<Task> findByIdAndOwnerId(@Param("id") UUID id, @Param("ownerId") UUID ownerId);
 
     boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
+
+    // projectIds: the caller's projects from ProjectMemberships, so membership costs no join
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND (t.owner.id = :userId OR t.projectId IN :projectIds) AND t.status != 'DELETED'")
+    Optional<Task> findVisibleById(
+            @Param("id") UUID id,
+            @Param("userId") UUID userId,
+            @Param("projectIds") Collection<UUID> projectIds
+    );
+
+    // For users whose memberships are not cached: checks membership on the project_members primary key instead
+    @Query("""
+            SELECT t FROM Task t
+            WHERE t.id = :id AND t.status != 'DELETED'
+              AND (t.owner.id = :userId OR EXISTS (
+                  SELECT 1 FROM ProjectMember m
+                  WHERE m.id.projectId = t.projectId AND m.id.userId = :userId AND m.role IN :roles))
+            """)
+    Optional<Task> findAccessibleById(
+            @Param("id") UUID id,
+            @Param("userId") UUID userId,
+            @Param("roles") Collection<ProjectRole> roles
+    );
+
+    @Query("SELECT t FROM Task t WHERE t.projectId = :projectId AND t.status != 'DELETED'")
+    Page<Task> findAllByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+    @Query("SELECT t FROM Task t WHERE t.projectId = :projectId AND t.status = :status AND t.status != 'DELETED'")
+    Page<Task> findAllByProjectIdAndStatus(
+            @Param("projectId") UUID projectId,
+            @Param("status") TaskStatus status,
+            Pageable pageable
+    );
+
+    @Query(value = SUBTREE_SQL, nativeQuery = true)
+    List<Task> findSubtree(@Param("taskId") UUID taskId, @Param("ownerId") UUID ownerId, @Param("maxDepth") int maxDepth);
+
+    @Query(value = ANCESTORS_SQL, nativeQuery = true)
+    List<Task> findAncestors(@Param("taskId") UUID taskId, @Param("ownerId") UUID ownerId, @Param("maxDepth") int maxDepth);
+
+    @Query(value = ANCESTOR_IDS_SQL, nativeQuery = true)
+    List<String> findAncestorIds(@Param("taskId") UUID taskId, @Param("ownerId") UUID ownerId, @Param("maxDepth") int maxDepth);
+
+    @Query(value = SUBTREE_PROGRESS_SQL, nativeQuery = true)
+    SubtreeProgress findSubtreeProgress(
+            @Param("taskId") UUID taskId,
+            @Param("ownerId") UUID ownerId,
+            @Param("maxDepth") int maxDepth
+    );
+
+    @Query(value = SUBTREE_HEIGHT_SQL, nativeQuery = true)
+    int findSubtreeHeight(@Param("taskId") UUID taskId, @Param("ownerId") UUID ownerId, @Param("maxDepth") int maxDepth);
 }
@@ -2,16 +2,20 @@ package com.taskmanager.api.task;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 public record TaskResponse(
         UUID id,
         UUID ownerId,
+        UUID parentId,
+        UUID projectId,
         String title,
         String description,
         TaskStatus status,
         TaskPriority priority,
         LocalDate dueDate,
+        List<String> tags,
         Instant createdAt,
         Instant updatedAt
 ) {
@@ -19,11 +23,14 @@ public record TaskResponse(
         return new TaskResponse(
                 task.getId(),
                 task.getOwner().getId(),
+                task.getParentId(),
+                task.getProjectId(),
                 task.getTitle(),
                 task.getDescription(),
                 task.getStatus(),
                 task.getPriority(),
                 task.getDueDate(),
+                task.getTags(),
                 task.getCreatedAt(),
                 task.getUpdatedAt()
         );
@@ -1,13 +1,31 @@
 package com.taskmanager.api.task;
 
+import com.taskmanager.api.activity.FieldChange;
+import com.taskmanager.api.activity.TaskActivity;
+import com.taskmanager.api.activity.TaskActivityAction;
+import com.taskmanager.api.activity.TaskActivityLog;
+import com.taskmanager.api.activity.TaskActivityRepository;
+import com.taskmanager.api.common.OwnerVersions;
 import com.taskmanager.api.common.exception.ResourceNotFoundException;
+import com.taskmanager.api.project.ProjectMemberships;
+import com.taskmanager.api.project.ProjectRole;
+import com.taskmanager.api.tag.TagCounts;
+import com.taskmanager.api.tag.TagFilter;
+import com.taskmanager.api.tag.Tags;
 import com.taskmanager.api.user.User;
 import com.taskmanager.api.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -16,10 +34,27 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskReadCoalescer readCoalescer;
+    private final OwnerVersions ownerVersions;
+    private final TaskActivityLog activityLog;
+    private final TaskActivityRepository activityRepository;
+    private final TagCounts tagCounts;
+    private final ProjectMemberships memberships;
+    private final int maxDepth;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskService(TaskRepository taskRepository, UserRepository userRepository,
+                       TaskReadCoalescer readCoalescer, OwnerVersions ownerVersions,
+                       TaskActivityLog activityLog, TaskActivityRepository activityRepository,
+                       TagCounts tagCounts, ProjectMemberships memberships, @Value("${task.hierarchy.max-depth:100}") int maxDepth) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.readCoalescer = readCoalescer;
+        this.ownerVersions = ownerVersions;
+        this.activityLog = activityLog;
+        this.activityRepository = activityRepository;
+        this.tagCounts = tagCounts;
+        this.memberships = memberships;
+        this.maxDepth = maxDepth;
     }
 
     @Transactional
@@ -39,11 +74,45 @@ public class TaskService {
         task.setStatus(status);
         task.setPriority(request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM);
         task.setDueDate(request.getDueDate());
+        if (request.getParentId() != null) {
+            checkParent(ownerId, request.getParentId(), null, 0);
+            task.setParentId(request.getParentId());
+        }
+        task.setTags(Tags.normalize(request.getTags()));
+        if (request.getProjectId() != null) {
+            memberships.require(ownerId, request.getProjectId(), ProjectRole.EDITOR);
+            task.setProjectId(request.getProjectId());
+        }
+
+        Task saved = taskRepository.save(task);
+        tagCounts.adjust(ownerId, saved.getTags(), List.of());
+        List<FieldChange> changes = new ArrayList<>(List.of(
+                FieldChange.of("title", null, saved.getTitle()),
+                FieldChange.of("status", null, saved.getStatus()),
+                FieldChange.of("priority", null, saved.getPriority()),
+                FieldChange.of("dueDate", null, saved.getDueDate()),
+                FieldChange.of("parentId", null, saved.getParentId()),
+                FieldChange.of("projectId", null, saved.getProjectId()),
+                FieldChange.of("tags", null, tagsValue(saved.getTags()))));
+        changes.removeIf(change -> !change.changed());
+        activityLog.record(saved.getId(), ownerId, TaskActivityAction.CREATED, changes);
+        ownerVersions.bumpAfterCommit(ownerId);
+        return saved;
+    }
 
-        return taskRepository.save(task);
+    // SUPPORTS: the read-only transaction is opened by TaskReadCoalescer, once per coalesced query
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Page<Task> getTasks(UUID ownerId, TaskStatus status, TaskPriority priority, TagFilter tags,
+                               Pageable pageable) {
+        return readCoalescer.list(ownerId, status, priority, tags, pageable,
+                () -> findTasks(ownerId, status, priority, tags, pageable));
     }
 
-    public Page<Task> getTasks(UUID ownerId, TaskStatus status, TaskPriority priority, Pageable pageable) {
+    private Page<Task> findTasks(UUID ownerId, TaskStatus status, TaskPriority priority, TagFilter tags,
+                                 Pageable pageable) {
+        if (!tags.none()) {
+            return taskRepository.findAll(TaskSpecifications.listed(ownerId, status, priority, tags), pageable);
+        }
         if (status != null && priority != null) {
             return taskRepository.findAllByOwnerIdAndStatusAndPriority(ownerId, status, priority, pageable);
         } else if (status != null) {
@@ -54,43 +123,179 @@ public class TaskService {
         return taskRepository.findAllByOwnerId(ownerId, pageable);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Task getTaskById(UUID taskId, UUID ownerId) {
-        return taskRepository.findByIdAndOwnerId(taskId, ownerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        return readCoalescer.get(taskId, ownerId, () -> findVisibleTask(taskId, ownerId, ProjectRole.VIEWER));
+    }
+
+    /*
+     * Own tasks, and tasks of projects where the user holds at least the role; one statement in every case.
+     * With the user's roles cached the membership test is an IN list (or nothing, for users in no project);
+     * otherwise the statement checks membership itself while the roles load in the background.
+     */
+    private Task findVisibleTask(UUID taskId, UUID userId, ProjectRole minimumRole) {
+        Optional<Set<UUID>> projectIds = memberships.cachedProjectIds(userId, minimumRole);
+        Optional<Task> task;
+        if (projectIds.isEmpty()) {
+            task = taskRepository.findAccessibleById(taskId, userId, minimumRole.andAbove());
+        } else if (projectIds.get().isEmpty()) {
+            task = taskRepository.findByIdAndOwnerId(taskId, userId);
+        } else {
+            task = taskRepository.findVisibleById(taskId, userId, projectIds.get());
+        }
+        return task.orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+    }
+
+    public Page<Task> getProjectTasks(UUID projectId, UUID userId, TaskStatus status, Pageable pageable) {
+        memberships.require(userId, projectId, ProjectRole.VIEWER);
+        return status != null
+                ? taskRepository.findAllByProjectIdAndStatus(projectId, status, pageable)
+                : taskRepository.findAllByProjectId(projectId, pageable);
     }
 
     @Transactional
     public Task updateTask(UUID taskId, UUID ownerId, UpdateTaskRequest request) {
-        Task task = taskRepository.findByIdAndOwnerId(taskId, ownerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        Task task = findVisibleTask(taskId, ownerId, ProjectRole.EDITOR);
 
+        List<FieldChange> changes = new ArrayList<>();
         if (request.getTitle() != null && !request.getTitle().isBlank()) {
+            changes.add(FieldChange.of("title", task.getTitle(), request.getTitle()));
             task.setTitle(request.getTitle());
         }
         if (request.getDescription() != null) {
+            changes.add(FieldChange.of("description", task.getDescription(), request.getDescription()));
             task.setDescription(request.getDescription());
         }
         if (request.getStatus() != null) {
             if (request.getStatus() == TaskStatus.DELETED) {
                 throw new IllegalArgumentException("Cannot set task status to DELETED; use DELETE endpoint instead");
             }
+            changes.add(FieldChange.of("status", task.getStatus(), request.getStatus()));
             task.setStatus(request.getStatus());
         }
         if (request.getPriority() != null) {
+            changes.add(FieldChange.of("priority", task.getPriority(), request.getPriority()));
             task.setPriority(request.getPriority());
         }
         if (request.getDueDate() != null) {
+            changes.add(FieldChange.of("dueDate", task.getDueDate(), request.getDueDate()));
             task.setDueDate(request.getDueDate());
         }
+        if (request.getTags() != null) {
+            List<String> previousTags = task.getTags();
+            List<String> tags = Tags.normalize(request.getTags());
+            changes.add(FieldChange.of("tags", tagsValue(previousTags), tagsValue(tags)));
+            task.setTags(tags);
+            tagCounts.adjust(task.getOwner().getId(), without(tags, previousTags), without(previousTags, tags));
+        }
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        changes.removeIf(change -> !change.changed());
+        if (!changes.isEmpty()) {
+            activityLog.record(taskId, ownerId, TaskActivityAction.UPDATED, changes);
+        }
+        bumpVersions(ownerId, saved);
+        return saved;
     }
 
     @Transactional
     public void deleteTask(UUID taskId, UUID ownerId) {
+        Task task = findVisibleTask(taskId, ownerId, ProjectRole.EDITOR);
+        TaskStatus previousStatus = task.getStatus();
+        task.softDelete();
+        taskRepository.save(task);
+        tagCounts.adjust(task.getOwner().getId(), List.of(), task.getTags());
+        activityLog.record(taskId, ownerId, TaskActivityAction.DELETED,
+                List.of(FieldChange.of("status", previousStatus, task.getStatus())));
+        bumpVersions(ownerId, task);
+    }
+
+    @Transactional
+    public Task moveTask(UUID taskId, UUID ownerId, UUID parentId) {
+        // Two concurrent moves could otherwise each pass the cycle check and close a loop together
+        userRepository.lockById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         Task task = taskRepository.findByIdAndOwnerId(taskId, ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-        task.softDelete();
-        taskRepository.save(task); 
+
+        UUID previousParentId = task.getParentId();
+        if (Objects.equals(previousParentId, parentId)) {
+            return task;
+        }
+        if (parentId != null) {
+            checkParent(ownerId, parentId, taskId, taskRepository.findSubtreeHeight(taskId, ownerId, maxDepth));
+        }
+        task.setParentId(parentId);
+
+        Task saved = taskRepository.save(task);
+        activityLog.record(taskId, ownerId, TaskActivityAction.UPDATED,
+                List.of(FieldChange.of("parentId", previousParentId, parentId)));
+        ownerVersions.bumpAfterCommit(ownerId);
+        return saved;
+    }
+
+    // A member's write to a project task changes the creator's own task list too
+    private void bumpVersions(UUID actorId, Task task) {
+        ownerVersions.bumpAfterCommit(actorId);
+        if (task.getProjectId() != null) {
+            ownerVersions.bumpAfterCommit(task.getOwner().getId());
+        }
+    }
+
+    private static String tagsValue(List<String> tags) {
+        return tags.isEmpty() ? null : String.join(",", tags);
+    }
+
+    private static List<String> without(List<String> tags, List<String> excluded) {
+        return tags.stream().filter(tag -> !excluded.contains(tag)).toList();
+    }
+
+    // One query for the parent's existence, ownership, ancestry and depth
+    private void checkParent(UUID ownerId, UUID parentId, UUID movedTaskId, int subtreeHeight) {
+        List<UUID> path = taskRepository.findAncestorIds(parentId, ownerId, maxDepth).stream()
+                .map(UUID::fromString)
+                .toList();
+        if (path.isEmpty()) {
+            throw new ResourceNotFoundException("Parent task not found");
+        }
+        if (movedTaskId != null && path.contains(movedTaskId)) {
+            throw new IllegalArgumentException("A task cannot be moved under itself or one of its subtasks");
+        }
+        // The parent sits at depth path.size() - 1
+        if (path.size() + subtreeHeight > maxDepth) {
+            throw new IllegalArgumentException("Subtasks cannot be nested more than " + maxDepth + " levels deep");
+        }
+    }
+
+    public List<Task> getSubtree(UUID taskId, UUID ownerId) {
+        List<Task> subtree = taskRepository.findSubtree(taskId, ownerId, maxDepth);
+        if (subtree.isEmpty()) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return subtree;
+    }
+
+    public List<Task> getAncestors(UUID taskId, UUID ownerId) {
+        List<Task> path = taskRepository.findAncestors(taskId, ownerId, maxDepth);
+        if (path.isEmpty()) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return path;
+    }
+
+    public TaskProgressResponse getProgress(UUID taskId, UUID ownerId) {
+        SubtreeProgress progress = taskRepository.findSubtreeProgress(taskId, ownerId, maxDepth);
+        if (progress.getTotal() == 0) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return TaskProgressResponse.from(taskId, progress);
+    }
+
+    // History outlives the task: deleted tasks keep theirs
+    public Page<TaskActivity> getTaskHistory(UUID taskId, UUID ownerId, Pageable pageable) {
+        if (!taskRepository.existsByIdAndOwnerId(taskId, ownerId)) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return activityRepository.findAllByTaskId(taskId, pageable);
     }
 }
@@ -0,0 +1,77 @@
+package com.taskmanager.api.task;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The orders task lists can be sorted in, each matching an index on (owner_id, column, id) over non-deleted
+ * tasks (V11), so a page is read in index order and stops after its rows instead of sorting all of the
+ * owner's tasks. The id tiebreaker makes the order total: tasks created in the same instant keep their place
+ * from one page to the next. Priority sorts by rank (LOW, MEDIUM, HIGH), not by name.
+ */
+public enum TaskSort {
+
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    DUE_DATE("dueDate", "dueDate"),
+    PRIORITY("priority", "priorityRank");
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Sort DEFAULT = Sort.by(Sort.Direction.DESC, CREATED_AT.property, "id");
+
+    private final String parameter;
+    private final String property;
+
+    TaskSort(String parameter, String property) {
+        this.parameter = parameter;
+        this.property = property;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    public static Pageable pageRequest(Pageable pageable) {
+        return pageRequest(pageable, EnumSet.allOf(TaskSort.class));
+    }
+
+    /**
+     * The request's page with its page size capped at MAX_PAGE_SIZE and its sort, one of the supported ones
+     * by their parameter name ("sort=priority,desc"), translated to entity properties with the id tiebreaker.
+     * Unsorted requests get newest first.
+     */
+    public static Pageable pageRequest(Pageable pageable, Set<TaskSort> supported) {
+        int size = Math.min(pageable.getPageSize(), MAX_PAGE_SIZE);
+        return PageRequest.of(pageable.getPageNumber(), size, sort(pageable.getSort(), supported));
+    }
+
+    private static Sort sort(Sort requested, Set<TaskSort> supported) {
+        if (requested.isUnsorted()) {
+            return DEFAULT;
+        }
+        if (requested.stream().count() > 1) {
+            throw new IllegalArgumentException("Sort by a single property, one of: " + names(supported));
+        }
+        Sort.Order order = requested.iterator().next();
+        TaskSort sort = supported.stream()
+                .filter(candidate -> candidate.parameter.equals(order.getProperty()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unsupported sort property: " + order.getProperty() + "; supported: " + names(supported)));
+        return Sort.by(order.getDirection(), sort.property, "id");
+    }
+
+    private static String names(Set<TaskSort> supported) {
+        return Arrays.stream(values())
+                .filter(supported::contains)
+                .map(TaskSort::parameter)
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskmanager.api.task;
+
+import com.taskmanager.api.tag.TagFilter;
+import com.taskmanager.api.tag.TagMatch;
+import com.taskmanager.api.user.UserStatus;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Task list queries whose shape depends on the request. Each tag becomes an array containment test
+ * (tags @> ARRAY[tag] on PostgreSQL, served by the GIN index on tasks.tags), ANDed for ALL and ORed for
+ * ANY, in the same statement as the status and priority filters.
+ */
+final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    static Specification<Task> listed(UUID ownerId, TaskStatus status, TaskPriority priority, TagFilter tags) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(builder.equal(root.get("owner").get("id"), ownerId));
+            predicates.add(builder.notEqual(root.get("status"), TaskStatus.DELETED));
+            predicates.add(builder.equal(root.get("owner").get("status"), UserStatus.ACTIVE));
+            if (status != null) {
+                predicates.add(builder.equal(root.get("status"), status));
+            }
+            if (priority != null) {
+                predicates.add(builder.equal(root.get("priority"), priority));
+            }
+            if (!tags.none()) {
+                HibernateCriteriaBuilder hibernate = (HibernateCriteriaBuilder) builder;
+                Expression<List<String>> taskTags = root.get("tags");
+                Predicate[] contains = tags.tags().stream()
+                        .map(tag -> hibernate.collectionContains(taskTags, tag))
+                        .toArray(Predicate[]::new);
+                predicates.add(tags.match() == TagMatch.ANY ? builder.or(contains) : builder.and(contains));
+            }
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,8 +1,10 @@
 package com.taskmanager.api.task;
 
+import com.taskmanager.api.tag.Tags;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public class UpdateTaskRequest {
 
@@ -17,6 +19,9 @@ public class UpdateTaskRequest {
 
     private LocalDate dueDate;
 
+    @Size(max = Tags.MAX_PER_TASK, message = "A task can have at most " + Tags.MAX_PER_TASK + " tags")
+    private List<String> tags;
+
     public String getTitle() {
         return title;
     }
@@ -56,4 +61,12 @@ public class UpdateTaskRequest {
     public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
 }
@@ -0,0 +1,50 @@
+package com.taskmanager.api.user;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+// Admin-only: SecurityConfig restricts /api/admin/** to ROLE_ADMIN
+@RestController
+@RequestMapping("/api/admin/users")
+@Tag(name = "Admin", description = "Administration endpoints (ADMIN role)")
+public class AdminUserController {
+
+    private final UserDirectory userDirectory;
+
+    public AdminUserController(UserDirectory userDirectory) {
+        this.userDirectory = userDirectory;
+    }
+
+    @Operation(summary = "Browse users",
+            description = "Returns users newest first, one page at a time; pass nextCursor back as cursor for the next page")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not an admin")
+    })
+    @GetMapping
+    public ResponseEntity<UserDirectoryPage> getUsers(
+            @Parameter(description = "Case-insensitive start of the email") @RequestParam(required = false) String email,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) UserStatus status,
+            @Parameter(description = "Created at or after (ISO-8601 instant)") @RequestParam(required = false) Instant createdFrom,
+            @Parameter(description = "Created before (ISO-8601 instant)") @RequestParam(required = false) Instant createdTo,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 100") @RequestParam(defaultValue = "" + UserDirectory.DEFAULT_PAGE_SIZE) int size
+    ) {
+        String emailPrefix = email == null || email.isBlank() ? null : email;
+        UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+        UserSearch search = new UserSearch(emailPrefix, status, createdFrom, createdTo);
+        return ResponseEntity.ok(userDirectory.search(search, after, size));
+    }
+}
@@ -2,6 +2,8 @@ package com.taskmanager.api.user;
 
 import com.taskmanager.api.common.exception.ErrorResponse;
 import com.taskmanager.api.security.JwtUtil;
+import com.taskmanager.api.security.RefreshTokenClaims;
+import com.taskmanager.api.security.RefreshTokens;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -11,6 +13,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/auth")
 @Tag(name = "Authentication", description = "Authentication endpoints for user registration, login, and token refresh")
@@ -18,10 +22,12 @@ public class AuthController {
 
     private final UserService userService;
     private final JwtUtil jwtUtil;
+    private final RefreshTokens refreshTokens;
 
-    public AuthController(UserService userService, JwtUtil jwtUtil) {
+    public AuthController(UserService userService, JwtUtil jwtUtil, RefreshTokens refreshTokens) {
         this.userService = userService;
         this.jwtUtil = jwtUtil;
+        this.refreshTokens = refreshTokens;
     }
 
     @Operation(summary = "Register a new user", description = "Creates a new user account and returns access/refresh tokens")
@@ -65,37 +71,41 @@ public class AuthController {
     })
     @PostMapping("/refresh")
     public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
+        Optional<RefreshTokenClaims> claims = jwtUtil.parseRefreshClaims(request.getRefreshToken());
+        User user = claims.flatMap(c -> userService.findActiveById(c.userId())).orElse(null);
 
-        if (!jwtUtil.validateToken(refreshToken) || !jwtUtil.isRefreshToken(refreshToken)) {
+        if (claims.isPresent() && user == null) {
             ErrorResponse error = new ErrorResponse(
                     HttpStatus.UNAUTHORIZED.value(),
                     "Unauthorized",
-                    "Invalid or expired refresh token",
+                    "User not found or inactive",
                     "/api/auth/refresh"
             );
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
 
-        var userId = jwtUtil.getUserIdFromToken(refreshToken);
-        User user = userService.findActiveById(userId).orElse(null);
+        // Each refresh token is good for one exchange; presenting it again revokes its family
+        Optional<String> refreshToken = claims.flatMap(c -> refreshTokens.rotate(c, user.getEmail()));
 
-        if (user == null) {
+        if (refreshToken.isEmpty()) {
             ErrorResponse error = new ErrorResponse(
                     HttpStatus.UNAUTHORIZED.value(),
                     "Unauthorized",
-                    "User not found or inactive",
+                    "Invalid or expired refresh token",
                     "/api/auth/refresh"
             );
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
 
-        return ResponseEntity.ok(createLoginResponse(user));
+        return ResponseEntity.ok(createLoginResponse(user, refreshToken.get()));
     }
 
     private LoginResponse createLoginResponse(User user) {
-        String accessToken = jwtUtil.generateAccessToken(user.getId(), user.getEmail());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getId(), user.getEmail());
+        return createLoginResponse(user, refreshTokens.issue(user.getId(), user.getEmail()));
+    }
+
+    private LoginResponse createLoginResponse(User user, String refreshToken) {
+        String accessToken = jwtUtil.generateAccessToken(user);
         return LoginResponse.of(
                 accessToken,
                 refreshToken,
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotBlank;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -39,6 +40,34 @@ public class User extends AuditableEntity {
     @Enumerated(EnumType.STRING)
     private Set<Role> roles = new HashSet<>();
 
+    // Access tokens carry the epoch they were issued at; bumping it revokes them (jwt.principal-mode=claims)
+    @Column(name = "token_epoch", nullable = false)
+    private int tokenEpoch;
+
+    // Built from access token claims rather than loaded: only id, email and roles are known
+    @Transient
+    private boolean fromToken;
+
+    // The detached view of a row inserted by UserRegistrations
+    static User registered(UUID id, String email, String passwordHash, Role role, Instant createdAt) {
+        User user = new User();
+        user.id = id;
+        user.email = email;
+        user.passwordHash = passwordHash;
+        user.roles.add(role);
+        user.setAuditTimestamps(createdAt, createdAt);
+        return user;
+    }
+
+    public static User fromToken(UUID id, String email, Set<Role> roles) {
+        User user = new User();
+        user.id = id;
+        user.email = email;
+        user.roles.addAll(roles);
+        user.fromToken = true;
+        return user;
+    }
+
     public void normalizeEmail() {
         if (email != null) {
             email = email.trim().toLowerCase();
@@ -46,7 +75,11 @@ public class User extends AuditableEntity {
     }
 
     public void softDelete() {
-        this.status = UserStatus.DELETED;
+        setStatus(UserStatus.DELETED);
+    }
+
+    public void revokeTokens() {
+        tokenEpoch++;
     }
 
     public boolean isActive() {
@@ -84,6 +117,9 @@ public class User extends AuditableEntity {
     }
 
     public void setStatus(UserStatus status) {
+        if (this.status != status) {
+            revokeTokens();
+        }
         this.status = status;
     }
 
@@ -92,6 +128,17 @@ public class User extends AuditableEntity {
     }
 
     public void setRoles(Set<Role> roles) {
+        if (!this.roles.equals(roles)) {
+            revokeTokens();
+        }
         this.roles = roles;
     }
+
+    public int getTokenEpoch() {
+        return tokenEpoch;
+    }
+
+    public boolean isFromToken() {
+        return fromToken;
+    }
 }
@@ -33,6 +33,10 @@ public class UserController {
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser() {
         User user = authenticatedUser.getCurrentUser();
+        if (user != null && user.isFromToken()) {
+            // The token carries no profile fields
+            user = userService.findActiveById(user.getId()).orElse(null);
+        }
         if (user == null) {
             ErrorResponse error = new ErrorResponse(
                     HttpStatus.UNAUTHORIZED.value(),
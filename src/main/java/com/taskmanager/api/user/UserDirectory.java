@@ -0,0 +1,137 @@
+package com.taskmanager.api.user;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Admin browsing of all users, newest first, in two statements per page whatever the table size: the page,
+ * then the roles of the users on it.
+ *
+ * <p>Pages are keyset-paginated on (created_at, id): the next page starts strictly after the last row seen,
+ * so its cost does not grow with depth the way OFFSET does, and rows inserted meanwhile neither shift nor
+ * repeat entries. There is no COUNT; a page reports whether another follows by fetching one extra row. The
+ * email prefix is a left-anchored LIKE on lower(email), served by ix_users_email_lower_pattern
+ * (text_pattern_ops, so it works under any collation); status and the creation range are served by
+ * ix_users_status_created_at_id and ix_users_created_at_id.
+ */
+@Component
+public class UserDirectory {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserDirectory(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public UserDirectoryPage search(UserSearch search, UserCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (search.emailPrefix() != null) {
+            conditions.add("lower(email) LIKE ? ESCAPE '\\'");
+            args.add(likePrefix(search.emailPrefix()));
+        }
+        if (search.status() != null) {
+            conditions.add("status = ?");
+            args.add(search.status().name());
+        }
+        if (search.createdFrom() != null) {
+            conditions.add("created_at >= ?");
+            args.add(utc(search.createdFrom()));
+        }
+        if (search.createdTo() != null) {
+            conditions.add("created_at < ?");
+            args.add(utc(search.createdTo()));
+        }
+        if (after != null) {
+            conditions.add("(created_at, id) < (?, ?)");
+            args.add(utc(after.createdAt()));
+            args.add(after.id());
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        args.add(size + 1);
+
+        List<UserRow> rows = jdbcTemplate.query(
+                "SELECT id, email, status, created_at, updated_at FROM users" + where
+                        + " ORDER BY created_at DESC, id DESC LIMIT ?",
+                UserDirectory::toRow, args.toArray());
+
+        boolean hasNext = rows.size() > size;
+        List<UserRow> page = hasNext ? rows.subList(0, size) : rows;
+        Map<UUID, Set<Role>> roles = rolesOf(page);
+        List<UserResponse> content = page.stream()
+                .map(row -> row.toResponse(roles.getOrDefault(row.id(), Set.of())))
+                .toList();
+        String nextCursor = hasNext ? page.get(size - 1).cursor().encode() : null;
+        return new UserDirectoryPage(content, nextCursor);
+    }
+
+    private Map<UUID, Set<Role>> rolesOf(List<UserRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(rows.size(), "?"));
+        Map<UUID, Set<Role>> roles = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, role FROM user_roles WHERE user_id IN (" + placeholders + ")",
+                rs -> {
+                    roles.computeIfAbsent(rs.getObject("user_id", UUID.class), id -> EnumSet.noneOf(Role.class))
+                            .add(Role.valueOf(rs.getString("role")));
+                },
+                rows.stream().map(UserRow::id).toArray());
+        return roles;
+    }
+
+    // Emails are stored lower-cased; % and _ in the prefix match themselves
+    static String likePrefix(String prefix) {
+        return prefix.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static UserRow toRow(ResultSet rs, int rowNum) throws SQLException {
+        return new UserRow(
+                rs.getObject("id", UUID.class),
+                rs.getString("email"),
+                UserStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("updated_at", OffsetDateTime.class).toInstant()
+        );
+    }
+
+    private record UserRow(UUID id, String email, UserStatus status, Instant createdAt, Instant updatedAt) {
+
+        UserResponse toResponse(Set<Role> roles) {
+            return new UserResponse(id, email, status, roles, createdAt, updatedAt);
+        }
+
+        UserCursor cursor() {
+            return new UserCursor(createdAt, id);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskmanager.api.user;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+public record UserDirectoryPage(
+        List<UserResponse> content,
+        String nextCursor
+) {
+}
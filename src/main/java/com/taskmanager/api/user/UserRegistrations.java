@@ -0,0 +1,67 @@
+package com.taskmanager.api.user;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Inserts a new user and its role without checking for the email first: the unique index on
+ * lower(email) decides between concurrent signups, and ON CONFLICT DO NOTHING turns the loser's
+ * insert into a zero row count instead of a constraint violation.
+ *
+ * <p>On PostgreSQL the user and role rows go in one statement (the role insert reads the user
+ * insert's RETURNING). Other databases (H2 in tests) have no data-modifying CTEs, so the role is a
+ * second statement in the same transaction, run only when the user row was inserted.
+ */
+@Component
+public class UserRegistrations {
+
+    private static final String INSERT_USER = "INSERT INTO users (id, email, password_hash, status, token_epoch, created_at, updated_at)"
+            + " VALUES (?, ?, ?, 'ACTIVE', 0, ?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String INSERT_USER_AND_ROLE = "WITH inserted AS (" + INSERT_USER + " RETURNING id)"
+            + " INSERT INTO user_roles (user_id, role) SELECT id, ? FROM inserted";
+
+    private static final String INSERT_ROLE = "INSERT INTO user_roles (user_id, role) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    // Read from the first registration's connection rather than at startup, which may have no database
+    // (the CDS training run); racing first registrations just read it twice
+    private volatile Boolean postgres;
+
+    public UserRegistrations(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return false if the email (case-insensitively) is already taken; nothing is written then
+     */
+    @Transactional
+    public boolean insert(UUID id, String email, String passwordHash, Role role, Instant createdAt) {
+        OffsetDateTime timestamp = createdAt.atOffset(ZoneOffset.UTC);
+        if (isPostgres()) {
+            return jdbcTemplate.update(INSERT_USER_AND_ROLE, id, email, passwordHash, timestamp, timestamp, role.name()) == 1;
+        }
+        if (jdbcTemplate.update(INSERT_USER, id, email, passwordHash, timestamp, timestamp) == 0) {
+            return false;
+        }
+        jdbcTemplate.update(INSERT_ROLE, id, role.name());
+        return true;
+    }
+
+    private boolean isPostgres() {
+        Boolean known = postgres;
+        if (known == null) {
+            known = "PostgreSQL".equals(jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+            postgres = known;
+        }
+        return known;
+    }
+}
@@ -1,6 +1,8 @@
 package com.taskmanager.api.user;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,9 +14,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u WHERE lower(u.email) = lower(:email)")
     Optional<User> findByEmail(@Param("email") String email);
 
-    @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM User u WHERE lower(u.email) = lower(:email)")
-    boolean existsByEmail(@Param("email") String email);
-
     @Query("SELECT u FROM User u WHERE lower(u.email) = lower(:email) AND u.status = 'ACTIVE'")
     Optional<User> findActiveByEmail(@Param("email") String email);
+
+    // Serializes writes that must see all of a user's tasks at once, such as moving a task between parents
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> lockById(@Param("id") UUID id);
 }
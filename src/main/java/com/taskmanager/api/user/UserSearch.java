@@ -0,0 +1,15 @@
+package com.taskmanager.api.user;
+
+import java.time.Instant;
+
+/**
+ * Filters of the admin user directory; any of them may be null. emailPrefix matches the start of the
+ * email, case-insensitively; the creation range includes createdFrom and excludes createdTo.
+ */
+public record UserSearch(
+        String emailPrefix,
+        UserStatus status,
+        Instant createdFrom,
+        Instant createdTo
+) {
+}
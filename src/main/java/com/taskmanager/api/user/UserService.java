@@ -1,9 +1,14 @@
 package com.taskmanager.api.user;
 
+import com.taskmanager.api.observability.PasswordVerifyEvent;
+import com.taskmanager.api.security.TokenEpochs;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,28 +17,31 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserRegistrations registrations;
     private final BCryptPasswordEncoder encoder;
+    // Present when jwt.principal-mode=claims
+    private final TokenEpochs tokenEpochs;
 
-    public UserService(UserRepository userRepository, BCryptPasswordEncoder encoder) {
+    public UserService(UserRepository userRepository, UserRegistrations registrations, BCryptPasswordEncoder encoder,
+                       ObjectProvider<TokenEpochs> tokenEpochs) {
         this.userRepository = userRepository;
+        this.registrations = registrations;
         this.encoder = encoder;
+        this.tokenEpochs = tokenEpochs.getIfAvailable();
     }
 
     @Transactional
     public User register(String email, String rawPassword) {
         String normalized = email.trim().toLowerCase();
+        UUID id = UUID.randomUUID();
+        String passwordHash = encoder.encode(rawPassword);
+        // PostgreSQL keeps microseconds; truncate so the response matches later reads
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
 
-        if (userRepository.existsByEmail(normalized)) {
+        if (!registrations.insert(id, normalized, passwordHash, Role.USER, now)) {
             throw new IllegalArgumentException("Email already exists");
         }
-
-        User user = new User();
-        user.setEmail(normalized);
-        user.setPasswordHash(encoder.encode(rawPassword));
-        user.getRoles().add(Role.USER);
-        user.setStatus(UserStatus.ACTIVE);
-
-        return userRepository.save(user);
+        return User.registered(id, normalized, passwordHash, Role.USER, now);
     }
 
     public Optional<User> findById(UUID id) {
@@ -58,10 +66,29 @@ public class UserService {
         userRepository.findById(userId).ifPresent(user -> {
             user.softDelete();
             userRepository.save(user);
+            if (tokenEpochs != null) {
+                tokenEpochs.revoked(user.getId(), user.getTokenEpoch());
+            }
         });
     }
 
     public boolean verifyPassword(User user, String rawPassword) {
-        return encoder.matches(rawPassword, user.getPasswordHash());
+        PasswordVerifyEvent event = new PasswordVerifyEvent();
+        event.begin();
+        boolean matched = encoder.matches(rawPassword, user.getPasswordHash());
+        if (event.shouldCommit()) {
+            event.matched = matched;
+            event.cost = bcryptCost(user.getPasswordHash());
+            event.commit();
+        }
+        return matched;
+    }
+
+    // "$2a$10$..." -> 10
+    private static int bcryptCost(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(6) != '$') {
+            return -1;
+        }
+        return Character.digit(hash.charAt(4), 10) * 10 + Character.digit(hash.charAt(5), 10);
     }
 }
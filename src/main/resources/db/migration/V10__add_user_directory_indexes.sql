@@ -0,0 +1,23 @@
+-- Admin user directory: keyset pages on (created_at, id), optionally by status, and email prefix search
+--
+-- Runs outside a transaction (V10__add_user_directory_indexes.sql.conf), as V11 does: users can run to
+-- millions of rows, and every index is built CONCURRENTLY so signups and logins carry on meanwhile. Each
+-- build first drops an INVALID index left by a failed one; ix_users_status is dropped only once its
+-- replacement exists.
+
+-- Left-anchored LIKE on lower(email); text_pattern_ops compares character by character, so the index
+-- serves prefixes whatever the database collation (ux_users_email_lower only serves equality then)
+DROP INDEX CONCURRENTLY IF EXISTS ix_users_email_lower_pattern;
+CREATE INDEX CONCURRENTLY ix_users_email_lower_pattern
+    ON users (lower(email) text_pattern_ops);
+
+DROP INDEX CONCURRENTLY IF EXISTS ix_users_created_at_id;
+CREATE INDEX CONCURRENTLY ix_users_created_at_id
+    ON users (created_at, id);
+
+-- Also serves every lookup by status alone, so it replaces ix_users_status
+DROP INDEX CONCURRENTLY IF EXISTS ix_users_status_created_at_id;
+CREATE INDEX CONCURRENTLY ix_users_status_created_at_id
+    ON users (status, created_at, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS ix_users_status;
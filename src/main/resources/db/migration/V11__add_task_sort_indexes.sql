@@ -0,0 +1,36 @@
+-- Task lists sort by created_at, updated_at, due_date or priority rank, with id as tiebreaker (TaskSort).
+-- Each order has an index over the owner's non-deleted tasks, so a page is read in index order.
+--
+-- Runs outside a transaction (V11__add_task_sort_indexes.sql.conf) so that every index is built
+-- CONCURRENTLY: tasks stays readable and writable throughout, and nothing here rewrites the table. A failed
+-- concurrent build leaves an INVALID index that IF NOT EXISTS would keep, so each build drops its index
+-- first; after a failure, run flyway repair and migrate again. The indexes these replace are dropped only
+-- once all of the new ones exist.
+
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_owner_created_at_id;
+CREATE INDEX CONCURRENTLY ix_tasks_owner_created_at_id
+    ON tasks (owner_id, created_at, id) WHERE status <> 'DELETED';
+
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_owner_updated_at_id;
+CREATE INDEX CONCURRENTLY ix_tasks_owner_updated_at_id
+    ON tasks (owner_id, updated_at, id) WHERE status <> 'DELETED';
+
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_owner_due_date_id;
+CREATE INDEX CONCURRENTLY ix_tasks_owner_due_date_id
+    ON tasks (owner_id, due_date, id) WHERE status <> 'DELETED';
+
+-- Priority names sort HIGH, LOW, MEDIUM; the rank sorts LOW, MEDIUM, HIGH. An expression rather than a
+-- stored column, which would rewrite the table: Task.priorityRank orders by the same expression
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_owner_priority_rank_id;
+CREATE INDEX CONCURRENTLY ix_tasks_owner_priority_rank_id
+    ON tasks (owner_id, (CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END), id)
+    WHERE status <> 'DELETED';
+
+-- The default list filtered by status; also serves every lookup by owner, or by owner and status
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_owner_status_created_at_id;
+CREATE INDEX CONCURRENTLY ix_tasks_owner_status_created_at_id
+    ON tasks (owner_id, status, created_at, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_owner_id;
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_owner_status;
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_owner_due_date;
@@ -0,0 +1,9 @@
+-- Bumped on soft delete, lock and role change to revoke the user's stateless access tokens
+-- (jwt.principal-mode=claims)
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS token_epoch INTEGER NOT NULL DEFAULT 0;
+
+-- TokenEpochs' periodic refresh: users revoked since the last one. Most users are never revoked, so
+-- the index stays small
+CREATE INDEX IF NOT EXISTS ix_users_revoked_updated_at
+    ON users (updated_at) WHERE token_epoch > 0;
@@ -0,0 +1,25 @@
+-- Issued refresh tokens, by SHA-256 of their jti. A token is rotated (used_at) the first time it is
+-- exchanged; presenting it again revokes every token descended from the same login (family_id)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    jti_hash   VARCHAR(64) NOT NULL,
+    family_id  UUID        NOT NULL,
+    user_id    UUID        NOT NULL,
+    issued_at  TIMESTAMPTZ NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    used_at    TIMESTAMPTZ,
+    revoked_at TIMESTAMPTZ,
+
+    CONSTRAINT pk_refresh_tokens
+        PRIMARY KEY (jti_hash),
+    CONSTRAINT fk_refresh_tokens_user
+        FOREIGN KEY (user_id) REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+-- Family revocation on reuse
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_family_id
+    ON refresh_tokens (family_id);
+
+-- Batched purge of expired tokens
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_expires_at
+    ON refresh_tokens (expires_at);
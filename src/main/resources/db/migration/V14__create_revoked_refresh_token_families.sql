@@ -0,0 +1,15 @@
+-- Refresh token families revoked after a reuse. Rotation checks for a row here, so a token of the family
+-- cannot be exchanged or issued once the revocation commits, including one inserted while it was running
+CREATE TABLE IF NOT EXISTS revoked_refresh_token_families (
+    family_id  UUID        NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL,
+    -- Every token of the family has expired by then
+    expires_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT pk_revoked_refresh_token_families
+        PRIMARY KEY (family_id)
+);
+
+-- Purge with the expired tokens
+CREATE INDEX IF NOT EXISTS ix_revoked_refresh_token_families_expires_at
+    ON revoked_refresh_token_families (expires_at);
@@ -0,0 +1,22 @@
+-- Responses of requests sent with an Idempotency-Key (idempotency.store=database)
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    owner_id        UUID         NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    status_code     INTEGER,
+    content_type    VARCHAR(255),
+    body            BYTEA,
+    created_at      TIMESTAMPTZ  NOT NULL,
+    locked_until    TIMESTAMPTZ  NOT NULL,
+    expires_at      TIMESTAMPTZ  NOT NULL,
+
+    CONSTRAINT pk_idempotency_keys
+        PRIMARY KEY (owner_id, idempotency_key),
+    CONSTRAINT fk_idempotency_keys_owner
+        FOREIGN KEY (owner_id) REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+-- Purge of expired keys
+CREATE INDEX IF NOT EXISTS ix_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
@@ -0,0 +1,31 @@
+-- Field-level history of task changes, written in batches by TaskActivityLog. No foreign keys: rows are
+-- inserted after the change commits, and history is kept for soft-deleted tasks.
+CREATE TABLE IF NOT EXISTS task_activity (
+    id          UUID        PRIMARY KEY,
+    task_id     UUID        NOT NULL,
+    actor_id    UUID        NOT NULL,
+    action      VARCHAR(20) NOT NULL,
+    changes     TEXT        NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT ck_task_activity_action
+        CHECK (action IN ('CREATED', 'UPDATED', 'DELETED'))
+);
+
+-- History of one task, newest first
+CREATE INDEX IF NOT EXISTS ix_task_activity_task_occurred
+    ON task_activity (task_id, occurred_at);
+
+-- Entries written in the changing transaction (durable actions) or when the in-memory buffer is full,
+-- waiting to be relayed into task_activity
+CREATE TABLE IF NOT EXISTS task_activity_outbox (
+    id          UUID        PRIMARY KEY,
+    task_id     UUID        NOT NULL,
+    actor_id    UUID        NOT NULL,
+    action      VARCHAR(20) NOT NULL,
+    changes     TEXT        NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_task_activity_outbox_occurred
+    ON task_activity_outbox (occurred_at);
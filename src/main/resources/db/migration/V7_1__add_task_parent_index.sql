@@ -0,0 +1,12 @@
+-- Runs outside a transaction (V7_1__add_task_parent_index.sql.conf), as V11 does: the index is built
+-- CONCURRENTLY, and each statement commits on its own
+
+-- Children of a task: the recursive step of every hierarchy query
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_parent_id;
+CREATE INDEX CONCURRENTLY ix_tasks_parent_id
+    ON tasks (parent_id)
+    WHERE parent_id IS NOT NULL;
+
+-- Checks the rows that existed before V7 under a SHARE UPDATE EXCLUSIVE lock, which lets writes through
+ALTER TABLE tasks VALIDATE CONSTRAINT fk_tasks_parent;
+ALTER TABLE tasks VALIDATE CONSTRAINT ck_tasks_parent_not_self;
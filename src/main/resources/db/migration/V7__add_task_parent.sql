@@ -0,0 +1,15 @@
+-- Subtasks: a task's parent belongs to the same owner (enforced by TaskService)
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS parent_id UUID;
+
+-- NOT VALID: only new and updated rows are checked here, so adding the constraints does not scan tasks
+-- while holding its lock. V7_1 validates the existing rows without blocking writes
+ALTER TABLE tasks
+    ADD CONSTRAINT fk_tasks_parent
+        FOREIGN KEY (parent_id) REFERENCES tasks(id)
+        ON DELETE CASCADE
+        NOT VALID;
+
+ALTER TABLE tasks
+    ADD CONSTRAINT ck_tasks_parent_not_self
+        CHECK (parent_id <> id)
+        NOT VALID;
@@ -0,0 +1,8 @@
+-- Runs outside a transaction (V8_1__add_task_tags_index.sql.conf), as V11 does: a GIN build over every task
+-- takes a while, and CONCURRENTLY lets task writes through meanwhile
+
+-- Serves the tag filters (tags && :tags for ANY, tags @> :tags for ALL); the owner and status conditions
+-- are applied to the matching rows
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_tags;
+CREATE INDEX CONCURRENTLY ix_tasks_tags
+    ON tasks USING GIN (tags);
@@ -0,0 +1,14 @@
+-- Tags: normalized (lower-case, sorted, distinct) by the API. A constant default adds the column without
+-- rewriting tasks; its GIN index is built concurrently in V8_1
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS tags TEXT[] NOT NULL DEFAULT '{}';
+
+-- Per-owner tag dictionary with usage counts, maintained by TagCounts in the task-writing transaction
+CREATE TABLE IF NOT EXISTS owner_tags (
+    owner_id   UUID        NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    tag        VARCHAR(50) NOT NULL,
+    task_count INTEGER     NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (owner_id, tag),
+    CONSTRAINT ck_owner_tags_task_count
+        CHECK (task_count >= 0)
+);
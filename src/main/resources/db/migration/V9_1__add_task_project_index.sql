@@ -0,0 +1,11 @@
+-- Runs outside a transaction (V9_1__add_task_project_index.sql.conf), as V11 does: the index is built
+-- CONCURRENTLY, and each statement commits on its own
+
+-- A project's task list, newest first with id as tiebreaker (TaskSort), whatever the number of projects
+-- its readers belong to
+DROP INDEX CONCURRENTLY IF EXISTS ix_tasks_project_id_created_at_id;
+CREATE INDEX CONCURRENTLY ix_tasks_project_id_created_at_id
+    ON tasks (project_id, created_at, id)
+    WHERE project_id IS NOT NULL AND status <> 'DELETED';
+
+ALTER TABLE tasks VALIDATE CONSTRAINT fk_tasks_project;
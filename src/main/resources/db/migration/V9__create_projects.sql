@@ -0,0 +1,32 @@
+-- Shared projects: members see and edit the project's tasks according to their role
+CREATE TABLE IF NOT EXISTS projects (
+    id         UUID         PRIMARY KEY DEFAULT gen_random_uuid(),
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS project_members (
+    project_id UUID        NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    user_id    UUID        NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    role       VARCHAR(20) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    PRIMARY KEY (project_id, user_id),
+    CONSTRAINT ck_project_members_role
+        CHECK (role IN ('VIEWER', 'EDITOR', 'OWNER'))
+);
+
+-- A user's memberships: the one query behind ProjectMemberships
+CREATE INDEX IF NOT EXISTS ix_project_members_user_id
+    ON project_members (user_id);
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS project_id UUID;
+
+-- NOT VALID, as in V7: the existing rows are checked by V9_1 without blocking task writes
+ALTER TABLE tasks
+    ADD CONSTRAINT fk_tasks_project
+        FOREIGN KEY (project_id) REFERENCES projects(id)
+        ON DELETE CASCADE
+        NOT VALID;
@@ -0,0 +1,158 @@
+package com.taskmanager.api.activity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskActivityLog")
+class TaskActivityLogTest {
+
+    private static final List<FieldChange> CHANGES = List.of(new FieldChange("status", "TODO", "DONE"));
+
+    @Mock
+    private TaskActivityWriter writer;
+
+    private final UUID taskId = UUID.randomUUID();
+    private final UUID actorId = UUID.randomUUID();
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private TaskActivityLog activityLog;
+
+    @BeforeEach
+    void setUp() {
+        activityLog = activityLog(4, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private TaskActivityLog activityLog(int bufferCapacity, int batchSize) {
+        return new TaskActivityLog(writer, new SimpleMeterRegistry(), bufferCapacity, batchSize,
+                Set.of(TaskActivityAction.DELETED), clock);
+    }
+
+    @Test
+    @DisplayName("should write buffered entries in batches on flush")
+    void shouldFlushInBatches() {
+        // Given
+        List<Integer> batchSizes = new ArrayList<>();
+        doAnswer(invocation -> batchSizes.add(invocation.<List<?>>getArgument(0).size()))
+                .when(writer).writeActivity(anyList());
+        for (int i = 0; i < 4; i++) {
+            activityLog.record(taskId, actorId, TaskActivityAction.UPDATED, CHANGES);
+        }
+        verifyNoInteractions(writer);
+
+        // When
+        activityLog.flush();
+
+        // Then
+        assertThat(batchSizes).containsExactly(3, 1);
+    }
+
+    @Test
+    @DisplayName("should buffer an entry only once its transaction commits")
+    void shouldWaitForCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        activityLog.record(taskId, actorId, TaskActivityAction.UPDATED, CHANGES);
+        activityLog.flush();
+        verifyNoInteractions(writer);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        activityLog.flush();
+
+        // Then
+        verify(writer).writeActivity(anyList());
+    }
+
+    @Test
+    @DisplayName("should write durable actions to the outbox in the caller's transaction")
+    void shouldWriteDurableActionsToOutbox() {
+        // When
+        activityLog.record(taskId, actorId, TaskActivityAction.DELETED, CHANGES);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskActivity>> entries = ArgumentCaptor.forClass(List.class);
+        verify(writer).writeOutbox(entries.capture());
+        assertThat(entries.getValue()).singleElement().satisfies(entry -> {
+            assertThat(entry.getTaskId()).isEqualTo(taskId);
+            assertThat(entry.getActorId()).isEqualTo(actorId);
+            assertThat(entry.getChanges()).isEqualTo(CHANGES);
+            assertThat(entry.getOccurredAt()).isEqualTo(clock.instant());
+        });
+        activityLog.flush();
+        verify(writer, never()).writeActivity(anyList());
+    }
+
+    @Test
+    @DisplayName("should send entries that do not fit in the buffer to the outbox")
+    void shouldOverflowToOutbox() {
+        // Given
+        activityLog = activityLog(2, 3);
+        activityLog.record(taskId, actorId, TaskActivityAction.UPDATED, CHANGES);
+        activityLog.record(taskId, actorId, TaskActivityAction.UPDATED, CHANGES);
+
+        // When
+        activityLog.record(taskId, actorId, TaskActivityAction.UPDATED, CHANGES);
+
+        // Then
+        verify(writer).writeOutboxNow(argThat(entries -> entries.size() == 1));
+    }
+
+    @Test
+    @DisplayName("should move a batch that failed to write to the outbox")
+    void shouldMoveFailedBatchToOutbox() {
+        // Given
+        doThrow(new DataAccessResourceFailureException("down")).when(writer).writeActivity(anyList());
+        activityLog.record(taskId, actorId, TaskActivityAction.CREATED, CHANGES);
+        activityLog.record(taskId, actorId, TaskActivityAction.UPDATED, CHANGES);
+
+        // When
+        activityLog.flush();
+
+        // Then
+        verify(writer).writeOutboxNow(argThat(entries -> entries.size() == 2));
+    }
+
+    @Test
+    @DisplayName("should relay the outbox until a batch comes back short")
+    void shouldRelayUntilDrained() {
+        // Given
+        when(writer.relayOutbox(3)).thenReturn(3, 3, 1);
+
+        // When
+        activityLog.relayOutbox();
+
+        // Then
+        verify(writer, times(3)).relayOutbox(3);
+    }
+}
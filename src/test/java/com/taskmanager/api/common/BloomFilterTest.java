@@ -0,0 +1,64 @@
+package com.taskmanager.api.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("should contain every digest that was put")
+    void shouldHaveNoFalseNegatives() throws Exception {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(digest(i));
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(digest(i))).as("digest %d", i).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("should keep false positives near the configured probability at capacity")
+    void shouldBoundFalsePositives() throws Exception {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(digest(i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(digest(i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then: 1% of 100,000 expected, with room for variance
+        assertThat(falsePositives).isBetween(1, 1_500);
+    }
+
+    @Test
+    @DisplayName("should reject a bad size, probability or digest")
+    void shouldValidate() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 0.01).put(new byte[8])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] digest(int value) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(ByteBuffer.allocate(4).putInt(value).array());
+    }
+}
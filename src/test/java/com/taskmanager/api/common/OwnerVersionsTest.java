@@ -0,0 +1,83 @@
+package com.taskmanager.api.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OwnerVersions")
+class OwnerVersionsTest {
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final MutableClock clock = new MutableClock();
+    private final OwnerVersions ownerVersions = new OwnerVersions(16, clock);
+
+    @Test
+    @DisplayName("should bump the owner's version")
+    void shouldBumpVersion() {
+        // Given
+        long before = ownerVersions.current(ownerId);
+
+        // When
+        ownerVersions.bumpAfterCommit(ownerId);
+
+        // Then
+        assertThat(ownerVersions.current(ownerId)).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("should report a bump only within the window")
+    void shouldReportRecentBump() {
+        // Given
+        Duration window = Duration.ofSeconds(5);
+        assertThat(ownerVersions.bumpedWithin(ownerId, window)).isFalse();
+
+        // When
+        ownerVersions.bumpAfterCommit(ownerId);
+
+        // Then
+        assertThat(ownerVersions.bumpedWithin(ownerId, window)).isTrue();
+        assertThat(ownerVersions.bumpedWithin(ownerId, Duration.ZERO)).isFalse();
+        clock.advance(window);
+        assertThat(ownerVersions.bumpedWithin(ownerId, window)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject a stripe count that is not a power of two")
+    void shouldRejectStripes() {
+        assertThatThrownBy(() -> new OwnerVersions(12))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.taskmanager.api.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RingBuffer")
+class RingBufferTest {
+
+    @Test
+    @DisplayName("should hand out elements in FIFO order across laps")
+    void shouldBeFifo() {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        List<Integer> polled = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+            polled.add(buffer.poll());
+        }
+
+        // Then
+        assertThat(polled).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject offers when full instead of blocking")
+    void shouldRejectWhenFull() {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(i);
+        }
+
+        // When / Then
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        buffer.poll();
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should drain at most the requested number of elements")
+    void shouldDrainBounded() {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        // When
+        int count = buffer.drainTo(drained, 3);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should reject a capacity that is not a power of two")
+    void shouldRejectCapacity() {
+        assertThatThrownBy(() -> new RingBuffer<>(100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("power of two");
+    }
+
+    @Test
+    @DisplayName("should neither lose nor duplicate elements under concurrent producers and consumers")
+    void shouldBeSafeUnderContention() throws Exception {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Integer> consumed = new HashSet<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers + 1)) {
+            List<Future<?>> producing = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int offset = p * perProducer;
+                producing.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(offset + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> consuming = executor.submit(() -> {
+                start.await();
+                while (consumed.size() < producers * perProducer) {
+                    Integer element = buffer.poll();
+                    if (element != null) {
+                        assertThat(consumed.add(element)).isTrue();
+                    }
+                }
+                return null;
+            });
+
+            // When
+            start.countDown();
+            for (Future<?> producer : producing) {
+                producer.get(30, TimeUnit.SECONDS);
+            }
+            consuming.get(30, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(consumed).hasSize(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanager.api.config;
+
+import com.taskmanager.api.common.exception.ErrorResponse;
+import com.taskmanager.api.task.Task;
+import com.taskmanager.api.user.User;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NativeHintsConfig")
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeHintsConfig.Hints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("should only name jjwt classes that exist, so an upgrade that moves one fails here")
+    void jjwtClassesExist() throws ClassNotFoundException {
+        for (String className : NativeHintsConfig.JJWT_IMPLEMENTATION_CLASSES) {
+            Class<?> type = Class.forName(className);
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        }
+    }
+
+    @Test
+    @DisplayName("should register entities, the error body and the datasource-proxy JDBC proxies")
+    void registersEntitiesAndProxies() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Task.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(User.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ErrorResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("should include the Flyway migrations")
+    void includesMigrations() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_users.sql")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V4__add_deleted_status_to_tasks.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V11__add_task_sort_indexes.sql.conf"))
+                .accepts(hints);
+    }
+}
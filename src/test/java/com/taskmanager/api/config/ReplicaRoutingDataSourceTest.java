@@ -0,0 +1,159 @@
+package com.taskmanager.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicReference<UUID> currentUser = new AtomicReference<>();
+    private final MutableClock clock = new MutableClock();
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(
+                List.of("replica-1", "replica-2"), currentUser::get, Duration.ofSeconds(5), clock);
+        routing.markHealthy("replica-1");
+        routing.markHealthy("replica-2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Nested
+    @DisplayName("read-only transactions")
+    class ReadOnly {
+
+        @BeforeEach
+        void readOnly() {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        }
+
+        @Test
+        @DisplayName("should round robin across healthy replicas")
+        void shouldRoundRobin() {
+            // When
+            Object first = routing.determineCurrentLookupKey();
+            Object second = routing.determineCurrentLookupKey();
+
+            // Then
+            assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica-1", "replica-2");
+        }
+
+        @Test
+        @DisplayName("should skip unhealthy replicas")
+        void shouldSkipUnhealthyReplicas() {
+            // Given
+            routing.markUnhealthy("replica-1");
+
+            // When/Then
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+        }
+
+        @Test
+        @DisplayName("should fall back to primary when no replica is healthy")
+        void shouldFallBackToPrimary() {
+            // Given
+            routing.markUnhealthy("replica-1");
+            routing.markUnhealthy("replica-2");
+
+            // When/Then
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("should keep a recent writer on the primary until the stickiness window elapses")
+        void shouldStickRecentWriterToPrimary() {
+            // Given
+            currentUser.set(userId);
+            routing.recordWrite(userId);
+
+            // When/Then
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+            clock.advance(Duration.ofSeconds(6));
+            assertThat(routing.determineCurrentLookupKey()).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("should not apply another user's stickiness")
+        void shouldNotApplyOtherUsersStickiness() {
+            // Given
+            routing.recordWrite(UUID.randomUUID());
+            currentUser.set(userId);
+
+            // When/Then
+            assertThat(routing.determineCurrentLookupKey()).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        }
+    }
+
+    @Nested
+    @DisplayName("read-write transactions")
+    class ReadWrite {
+
+        @Test
+        @DisplayName("should always use the primary")
+        void shouldUsePrimary() {
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("should make the writer sticky for subsequent reads")
+        void shouldRecordWrite() {
+            // Given
+            currentUser.set(userId);
+            routing.determineCurrentLookupKey();
+
+            // When
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            // Then
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.taskmanager.api.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryIdempotencyStore")
+class InMemoryIdempotencyStoreTest {
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final IdempotencyKey key = new IdempotencyKey(ownerId, "key-1");
+    private final StoredResponse created =
+            new StoredResponse(201, "application/json", "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+    private final MutableClock clock = new MutableClock();
+
+    private InMemoryIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore(Duration.ofHours(1), 3, 2, clock);
+    }
+
+    @Nested
+    @DisplayName("claim")
+    class Claim {
+
+        @Test
+        @DisplayName("should acquire an unused key")
+        void shouldAcquireUnusedKey() {
+            // When
+            IdempotencyStore.Claim claim = store.claim(key, "fp");
+
+            // Then
+            assertThat(claim.acquired()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should return the running claim, then the stored response")
+        void shouldReturnExistingClaim() {
+            // Given
+            store.claim(key, "fp");
+
+            // When
+            IdempotencyStore.Claim running = store.claim(key, "fp");
+            store.complete(key, created);
+            IdempotencyStore.Claim completed = store.claim(key, "fp");
+
+            // Then
+            assertThat(running.acquired()).isFalse();
+            assertThat(running.response()).isNull();
+            assertThat(completed.acquired()).isFalse();
+            assertThat(completed.response()).isEqualTo(created);
+            assertThat(completed.fingerprint()).isEqualTo("fp");
+        }
+
+        @Test
+        @DisplayName("should scope keys to their owner")
+        void shouldScopeKeysToOwner() {
+            // Given
+            store.claim(key, "fp");
+
+            // When
+            IdempotencyStore.Claim other = store.claim(new IdempotencyKey(UUID.randomUUID(), "key-1"), "fp");
+
+            // Then
+            assertThat(other.acquired()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should acquire a released key again")
+        void shouldAcquireReleasedKey() {
+            // Given
+            store.claim(key, "fp");
+            store.release(key);
+
+            // When / Then
+            assertThat(store.claim(key, "fp").acquired()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("bounds")
+    class Bounds {
+
+        @Test
+        @DisplayName("should forget keys after the TTL")
+        void shouldExpireAfterTtl() {
+            // Given
+            store.claim(key, "fp");
+            store.complete(key, created);
+
+            // When
+            clock.advance(Duration.ofHours(1));
+
+            // Then
+            assertThat(store.claim(key, "fp").acquired()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should refuse new keys when full instead of forgetting live ones")
+        void shouldRefuseWhenFull() {
+            // Given: a key still running and two completed ones
+            store.claim(key, "fp");
+            clock.advance(Duration.ofMinutes(10));
+            for (int i = 0; i < 2; i++) {
+                IdempotencyKey other = new IdempotencyKey(UUID.randomUUID(), "key-1");
+                store.claim(other, "fp");
+                store.complete(other, created);
+            }
+
+            // When / Then
+            assertThatThrownBy(() -> store.claim(new IdempotencyKey(UUID.randomUUID(), "key-1"), "fp"))
+                    .isInstanceOfSatisfying(IdempotencyCapacityException.class, e -> {
+                        assertThat(e.isOwnerLimit()).isFalse();
+                        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofMinutes(50));
+                    });
+            assertThat(store.claim(key, "fp").acquired()).isFalse();
+            store.complete(key, created);
+            assertThat(store.claim(key, "fp").response()).isEqualTo(created);
+        }
+
+        @Test
+        @DisplayName("should refuse an owner holding their share of keys, but not others")
+        void shouldBoundKeysPerOwner() {
+            // Given
+            store.claim(new IdempotencyKey(ownerId, "key-1"), "fp");
+            store.claim(new IdempotencyKey(ownerId, "key-2"), "fp");
+
+            // When / Then
+            assertThatThrownBy(() -> store.claim(new IdempotencyKey(ownerId, "key-3"), "fp"))
+                    .isInstanceOfSatisfying(IdempotencyCapacityException.class,
+                            e -> assertThat(e.isOwnerLimit()).isTrue());
+            assertThat(store.claim(new IdempotencyKey(UUID.randomUUID(), "key-3"), "fp").acquired()).isTrue();
+
+            // A released key frees the owner's slot
+            store.release(new IdempotencyKey(ownerId, "key-2"));
+            assertThat(store.claim(new IdempotencyKey(ownerId, "key-3"), "fp").acquired()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should free slots as keys expire")
+        void shouldFreeSlotsOnExpiry() {
+            // Given
+            store.claim(new IdempotencyKey(ownerId, "key-1"), "fp");
+            store.claim(new IdempotencyKey(ownerId, "key-2"), "fp");
+
+            // When
+            clock.advance(Duration.ofHours(1));
+
+            // Then
+            assertThat(store.claim(new IdempotencyKey(ownerId, "key-3"), "fp").acquired()).isTrue();
+            assertThat(store.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("await")
+    class Await {
+
+        @Test
+        @DisplayName("should wake a waiting duplicate with the response")
+        void shouldWakeWaiterOnComplete() throws Exception {
+            // Given
+            store.claim(key, "fp");
+            CompletableFuture<Optional<StoredResponse>> waiter = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return store.await(key, Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // When
+            store.complete(key, created);
+
+            // Then
+            assertThat(waiter.get(10, TimeUnit.SECONDS)).contains(created);
+        }
+
+        @Test
+        @DisplayName("should return empty when the first attempt releases the key")
+        void shouldReturnEmptyOnRelease() throws Exception {
+            // Given
+            store.claim(key, "fp");
+            CompletableFuture<Optional<StoredResponse>> waiter = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return store.await(key, Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // When
+            store.release(key);
+
+            // Then
+            assertThat(waiter.get(10, TimeUnit.SECONDS)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should give up after the timeout")
+        void shouldTimeOut() throws Exception {
+            // Given
+            store.claim(key, "fp");
+
+            // When / Then
+            assertThat(store.await(key, Duration.ofMillis(10))).isEmpty();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
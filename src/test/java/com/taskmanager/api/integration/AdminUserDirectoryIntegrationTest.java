@@ -0,0 +1,159 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.user.RegisterRequest;
+import com.taskmanager.api.user.Role;
+import com.taskmanager.api.user.User;
+import com.taskmanager.api.user.UserRepository;
+import com.taskmanager.api.user.UserStatus;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Admin User Directory Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AdminUserDirectoryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String adminToken;
+
+    private String userToken;
+
+    // Unique to this run, so other tests' users stay out of the results
+    private String prefix;
+
+    // Registration order, oldest first
+    private final List<String> emails = new ArrayList<>();
+
+    @BeforeAll
+    void setup() throws Exception {
+        String adminEmail = "directory-admin-" + UUID.randomUUID() + "@example.com";
+        adminToken = register(adminEmail);
+        userToken = register("directory-user-" + UUID.randomUUID() + "@example.com");
+        User admin = userRepository.findByEmail(adminEmail).orElseThrow();
+        admin.getRoles().add(Role.ADMIN);
+        userRepository.save(admin);
+
+        prefix = "dir" + UUID.randomUUID().toString().substring(0, 8);
+        for (String local : new String[]{"a_b", "axb", "carol", "dave", "erin"}) {
+            String email = prefix + local + "@example.com";
+            register(email);
+            emails.add(email);
+        }
+        User locked = userRepository.findByEmail(emails.get(2)).orElseThrow();
+        locked.setStatus(UserStatus.LOCKED);
+        userRepository.save(locked);
+    }
+
+    @Test
+    @DisplayName("should reject anonymous and non-admin callers")
+    void shouldRequireAdmin() throws Exception {
+        mockMvc.perform(get("/api/admin/users"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/admin/users").header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("should walk every match newest first with cursors and no COUNT")
+    void shouldPageWithCursors() throws Exception {
+        // Given
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        // When
+        do {
+            String query = "/api/admin/users?size=2&email=" + prefix.toUpperCase() + (cursor == null ? "" : "&cursor=" + cursor);
+            MvcResult result = mockMvc.perform(get(query).header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    // principal, page, roles
+                    .andExpect(queryCount(3))
+                    .andReturn();
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            page.get("content").forEach(user -> seen.add(user.get("email").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(emails.reversed());
+    }
+
+    @Test
+    @DisplayName("should filter by status and creation date")
+    void shouldFilter() throws Exception {
+        mockMvc.perform(get("/api/admin/users?status=LOCKED&email=" + prefix).header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].email").value(emails.get(2)))
+                .andExpect(jsonPath("$.content[0].roles[0]").value("USER"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        // principal and page: no roles to load for an empty page
+        mockMvc.perform(get("/api/admin/users?createdFrom=2999-01-01T00:00:00Z").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)))
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    @DisplayName("should match LIKE wildcards in the prefix literally")
+    void shouldEscapeWildcards() throws Exception {
+        mockMvc.perform(get("/api/admin/users?email=" + prefix + "a_").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].email").value(emails.get(0)));
+    }
+
+    @Test
+    @DisplayName("should reject a malformed cursor or page size")
+    void shouldRejectBadParameters() throws Exception {
+        mockMvc.perform(get("/api/admin/users?cursor=not-a-cursor").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+        mockMvc.perform(get("/api/admin/users?size=101").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String register(String email) throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail(email);
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
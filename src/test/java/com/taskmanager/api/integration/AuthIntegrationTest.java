@@ -15,6 +15,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -52,7 +53,32 @@ class AuthIntegrationTest {
                     .andExpect(jsonPath("$.tokenType").value("Bearer"))
                     .andExpect(jsonPath("$.user.email").value(request.getEmail().toLowerCase()))
                     .andExpect(jsonPath("$.user.id").exists())
-                    .andExpect(jsonPath("$.user.passwordHash").doesNotExist());
+                    .andExpect(jsonPath("$.user.roles[0]").value("USER"))
+                    .andExpect(jsonPath("$.user.createdAt").exists())
+                    .andExpect(jsonPath("$.user.passwordHash").doesNotExist())
+                    // the user insert and the role insert (one statement on PostgreSQL), then the refresh token
+                    .andExpect(queryCount(3));
+        }
+
+        @Test
+        @DisplayName("should reject an email taken in another case with 400")
+        void shouldRejectDuplicateEmail() throws Exception {
+            RegisterRequest request = new RegisterRequest();
+            request.setEmail("duplicate" + System.nanoTime() + "@example.com");
+            request.setPassword("SecurePass123!");
+            mockMvc.perform(post("/api/auth/register")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+
+            request.setEmail(request.getEmail().toUpperCase());
+            mockMvc.perform(post("/api/auth/register")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Email already exists"))
+                    // no existence check first: the conflicting insert is the only statement
+                    .andExpect(queryCount(1));
         }
 
         @Test
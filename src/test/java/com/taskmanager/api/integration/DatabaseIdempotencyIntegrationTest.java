@@ -0,0 +1,15 @@
+package com.taskmanager.api.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "idempotency.store=database")
+@DisplayName("Idempotency Integration Tests (database store)")
+class DatabaseIdempotencyIntegrationTest extends IdempotencyIntegrationTest {
+
+    // Principal, failed insert, failed take-over, read of the stored response
+    @Override
+    int replayStatements() {
+        return 4;
+    }
+}
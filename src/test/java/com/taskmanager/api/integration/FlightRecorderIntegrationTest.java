@@ -0,0 +1,144 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.user.LoginRequest;
+import com.taskmanager.api.user.RegisterRequest;
+import com.taskmanager.api.user.Role;
+import com.taskmanager.api.user.User;
+import com.taskmanager.api.user.UserRepository;
+import jdk.jfr.EventType;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,flightrecorder",
+        "jfr.dump-dir=target/jfr-test"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Flight Recorder Endpoint Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FlightRecorderIntegrationTest {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String adminEmail;
+    private String adminToken;
+    private String userToken;
+
+    @BeforeAll
+    void setup() throws Exception {
+        adminEmail = "jfr-admin-" + System.currentTimeMillis() + "@example.com";
+        adminToken = register(adminEmail);
+        userToken = register("jfr-user-" + System.currentTimeMillis() + "@example.com");
+
+        User admin = userRepository.findByEmail(adminEmail).orElseThrow();
+        admin.getRoles().add(Role.ADMIN);
+        userRepository.save(admin);
+    }
+
+    private String register(String email) throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail(email);
+        req.setPassword(PASSWORD);
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    @Test
+    @DisplayName("should reject anonymous and non-admin callers")
+    void shouldRequireAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/flightrecorder"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/flightrecorder/start")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("should record API hot-path events and write them to disk on stop")
+    void shouldRecordApiEvents() throws Exception {
+        // Given
+        mockMvc.perform(post("/actuator/flightrecorder/start")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"durationSeconds\": 60}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.running").value(true));
+
+        // When
+        LoginRequest login = new LoginRequest();
+        login.setEmail(adminEmail);
+        login.setPassword(PASSWORD);
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(post("/actuator/flightrecorder/stop")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.running").value(false))
+                .andReturn();
+
+        // Then
+        JsonNode status = objectMapper.readTree(result.getResponse().getContentAsString());
+        List<String> eventTypes = RecordingFile.readAllEvents(Path.of(status.get("file").asText())).stream()
+                .map(RecordedEvent::getEventType)
+                .map(EventType::getName)
+                .filter(name -> name.startsWith("com.taskmanager."))
+                .distinct()
+                .toList();
+        assertThat(eventTypes).contains(
+                "com.taskmanager.JwtVerify",
+                "com.taskmanager.PrincipalLoad",
+                "com.taskmanager.RateLimitBucket",
+                "com.taskmanager.RepositoryCall",
+                "com.taskmanager.PasswordVerify");
+    }
+
+    @Test
+    @DisplayName("should return 400 when stopping without a running recording")
+    void shouldRejectStopWhenIdle() throws Exception {
+        mockMvc.perform(post("/actuator/flightrecorder/stop")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("No flight recording is running"));
+    }
+}
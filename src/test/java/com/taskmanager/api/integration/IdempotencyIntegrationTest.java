@@ -0,0 +1,213 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.idempotency.IdempotencyFilter;
+import com.taskmanager.api.user.RegisterRequest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Idempotency-Key handling with the default in-memory store; {@link DatabaseIdempotencyIntegrationTest}
+ * runs the same tests against the database store.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Idempotency Integration Tests (memory store)")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IdempotencyIntegrationTest {
+
+    private static final String CREATE_BODY = """
+            {"title": "Buy milk", "priority": "HIGH"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeAll
+    void setup() throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail("idempotency-" + UUID.randomUUID() + "@example.com");
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        token = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    /**
+     * Statements for a replayed request: the principal load plus the store lookups
+     */
+    int replayStatements() {
+        return 1;
+    }
+
+    @Test
+    @DisplayName("should create once and replay the response to a retry")
+    void shouldReplayRetry() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        long before = countTasks();
+        MvcResult first = create(key, CREATE_BODY)
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn();
+
+        // When
+        MvcResult retry = create(key, CREATE_BODY)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(queryCount(replayStatements()))
+                .andReturn();
+
+        // Then
+        assertThat(taskId(retry)).isEqualTo(taskId(first));
+        assertThat(countTasks()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("should execute concurrent duplicates once")
+    void shouldExecuteConcurrentDuplicatesOnce() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        long before = countTasks();
+        List<Callable<String>> duplicates = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            duplicates.add(() -> taskId(create(key, CREATE_BODY).andExpect(status().isCreated()).andReturn()));
+        }
+
+        // When
+        Set<String> ids = new HashSet<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(duplicates.size())) {
+            for (Future<String> id : executor.invokeAll(duplicates)) {
+                ids.add(id.get());
+            }
+        }
+
+        // Then
+        assertThat(ids).hasSize(1);
+        assertThat(countTasks()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("should reject a key reused for a different body with 422")
+    void shouldRejectKeyReuse() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        create(key, CREATE_BODY).andExpect(status().isCreated());
+
+        // When / Then
+        create(key, """
+                {"title": "Something else"}
+                """)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", containsString("different request")));
+    }
+
+    @Test
+    @DisplayName("should replay an update")
+    void shouldReplayUpdate() throws Exception {
+        // Given
+        String id = taskId(create(UUID.randomUUID().toString(), CREATE_BODY).andReturn());
+        String key = UUID.randomUUID().toString();
+        String update = """
+                {"status": "DONE"}
+                """;
+        mockMvc.perform(put("/api/tasks/" + id)
+                        .header("Authorization", "Bearer " + token)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(update))
+                .andExpect(status().isOk());
+
+        // When / Then
+        mockMvc.perform(put("/api/tasks/" + id)
+                        .header("Authorization", "Bearer " + token)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(update))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    @DisplayName("should reject an over-long key with 400")
+    void shouldRejectLongKey() throws Exception {
+        create("k".repeat(256), CREATE_BODY)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Idempotency-Key")));
+    }
+
+    @Test
+    @DisplayName("should allow the key in cross-origin requests and expose the replay header")
+    void shouldAllowKeyCrossOrigin() throws Exception {
+        mockMvc.perform(options("/api/tasks")
+                        .header("Origin", "http://localhost:3000")
+                        .header("Access-Control-Request-Method", "POST")
+                        .header("Access-Control-Request-Headers", "authorization,content-type,idempotency-key"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Allow-Headers", containsStringIgnoringCase("Idempotency-Key")));
+
+        mockMvc.perform(post("/api/tasks")
+                        .header("Origin", "http://localhost:3000")
+                        .header("Authorization", "Bearer " + token)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Access-Control-Expose-Headers",
+                        containsString(IdempotencyFilter.REPLAYED_HEADER)));
+    }
+
+    private ResultActions create(String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/tasks")
+                .header("Authorization", "Bearer " + token)
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private String taskId(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private long countTasks() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("totalElements").asLong();
+    }
+}
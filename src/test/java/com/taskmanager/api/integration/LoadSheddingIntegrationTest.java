@@ -0,0 +1,150 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.loadshedding.AdaptiveConcurrencyLimit;
+import com.taskmanager.api.loadshedding.RouteClass;
+import com.taskmanager.api.user.LoginRequest;
+import com.taskmanager.api.user.RegisterRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// A fixed limit of 10: health checks are admitted below 5 in flight, reads below 8, writes below 9
+@SpringBootTest(properties = {
+        "concurrency-limit.enabled=true",
+        "concurrency-limit.initial-limit=10",
+        "concurrency-limit.min-limit=10",
+        "concurrency-limit.max-limit=10",
+        "concurrency-limit.retry-after-seconds=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Load Shedding Integration Tests")
+class LoadSheddingIntegrationTest {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdaptiveConcurrencyLimit limit;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String email;
+
+    private String token;
+
+    private int held;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        email = "shedding-" + UUID.randomUUID() + "@example.com";
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail(email);
+        req.setPassword(PASSWORD);
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        token = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release(held);
+    }
+
+    @Test
+    @DisplayName("should shed reads with 503 and Retry-After while auth is still admitted")
+    void shouldShedByPriority() throws Exception {
+        // Given: eight requests in flight
+        hold(8);
+        double shedBefore = shedCount(RouteClass.READ);
+
+        // When / Then
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.error").value("Service unavailable"));
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Admitted\"}"))
+                .andExpect(status().isCreated());
+        login();
+
+        assertThat(shedCount(RouteClass.READ)).isEqualTo(shedBefore + 1);
+        assertThat(limit.getInFlight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("should admit every class again once requests complete")
+    void shouldRecover() throws Exception {
+        // Given
+        hold(9);
+        login();
+
+        // When
+        release(5);
+
+        // Then
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    private void hold(int requests) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(limit.tryAcquire(RouteClass.AUTH)).isTrue();
+            held++;
+        }
+    }
+
+    private void release(int requests) {
+        for (int i = 0; i < requests; i++) {
+            limit.release(System.nanoTime());
+            held--;
+        }
+    }
+
+    private void login() throws Exception {
+        LoginRequest req = new LoginRequest();
+        req.setEmail(email);
+        req.setPassword(PASSWORD);
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk());
+    }
+
+    private double shedCount(RouteClass routeClass) {
+        return meterRegistry.get("concurrency.shed").tag("class", routeClass.tagValue()).counter().count();
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.user.RegisterRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,metrics,prometheus",
+        "management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+        "management.metrics.distribution.percentiles-histogram.auth.jwt.verification=true",
+        "server-timing.enabled=true",
+        "server-timing.sample-rate=1.0"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@DisplayName("Metrics Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String token;
+
+    @BeforeAll
+    void setup() throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail("metrics-" + System.currentTimeMillis() + "@example.com");
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        token = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer invalid"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("should time JWT verification by outcome")
+    void shouldTimeJwtVerification() {
+        assertThat(meterRegistry.get("auth.jwt.verification").tag("outcome", "valid").timer().count())
+                .isPositive();
+        assertThat(meterRegistry.get("auth.jwt.verification").tag("outcome", "invalid").timer().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("should time rate-limit decisions per bucket")
+    void shouldTimeRateLimitDecisions() {
+        assertThat(meterRegistry.get("ratelimit.decision").tags("bucket", "auth", "result", "allowed").timer().count())
+                .isPositive();
+        assertThat(meterRegistry.get("ratelimit.decision").tags("bucket", "api", "result", "allowed").timer().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("should time repository calls by method and response serialization by type")
+    void shouldTimeRepositoryAndSerialization() {
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tags("repository", "TaskRepository", "method", "findAllByOwnerId").timer().count())
+                .isPositive();
+        assertThat(meterRegistry.get("http.response.serialization").tag("type", "PageImpl").timer().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks — should break the request down in a Server-Timing header")
+    void shouldAddServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(
+                        "rl;dur=\\d+\\.\\d{3}, auth;dur=\\d+\\.\\d{3}, db;dur=\\d+\\.\\d{3}, "
+                                + "ser;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}")))
+                .andExpect(content().string(containsString("\"content\"")));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus — should expose histogram buckets and pool metrics")
+    void shouldExposePrometheusScrape() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("auth_jwt_verification_seconds_bucket")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds")));
+    }
+}
@@ -0,0 +1,248 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.user.RegisterRequest;
+import com.taskmanager.api.user.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Project Integration Tests")
+class ProjectIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String ownerToken;
+
+    private String memberToken;
+
+    private String memberId;
+
+    private String strangerToken;
+
+    private String projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ownerToken = register("project-owner-");
+        strangerToken = register("project-stranger-");
+        String memberEmail = "project-member-" + UUID.randomUUID() + "@example.com";
+        memberToken = registerEmail(memberEmail);
+        memberId = userRepository.findByEmail(memberEmail).orElseThrow().getId().toString();
+        projectId = createProject("Launch");
+    }
+
+    @Test
+    @DisplayName("should let an editor read and update the project's tasks")
+    void shouldShareTasksWithEditors() throws Exception {
+        // Given
+        String taskId = createTask(ownerToken, "Write press release");
+        putMember(memberId, "EDITOR").andExpect(status().isOk());
+
+        // When / Then
+        mockMvc.perform(get("/api/tasks/" + taskId).header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectId").value(projectId));
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                        .header("Authorization", "Bearer " + memberToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+
+        // The owner's cached read sees the member's change
+        mockMvc.perform(get("/api/tasks/" + taskId).header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    @DisplayName("should let a viewer read but not change the project's tasks")
+    void shouldKeepViewersReadOnly() throws Exception {
+        // Given
+        String taskId = createTask(ownerToken, "Book venue");
+        putMember(memberId, "VIEWER").andExpect(status().isOk());
+
+        // When / Then
+        mockMvc.perform(get("/api/tasks/" + taskId).header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                        .header("Authorization", "Bearer " + memberToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + memberToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Sneaky\", \"projectId\": \"" + projectId + "\"}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("should hide the project and its tasks from non-members")
+    void shouldHideFromNonMembers() throws Exception {
+        // Given
+        String taskId = createTask(ownerToken, "Secret plan");
+
+        // When / Then
+        mockMvc.perform(get("/api/tasks/" + taskId).header("Authorization", "Bearer " + strangerToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/projects/" + projectId).header("Authorization", "Bearer " + strangerToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/projects/" + projectId + "/tasks").header("Authorization", "Bearer " + strangerToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/api/projects/" + projectId + "/members/" + memberId)
+                        .header("Authorization", "Bearer " + strangerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\": \"OWNER\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("should revoke access as soon as a member is removed")
+    void shouldRevokeAccessOnRemoval() throws Exception {
+        // Given
+        String taskId = createTask(ownerToken, "Budget");
+        putMember(memberId, "EDITOR").andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/" + taskId).header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(delete("/api/projects/" + projectId + "/members/" + memberId)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/tasks/" + taskId).header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("should only let owners manage members and always keep one owner")
+    void shouldProtectMembership() throws Exception {
+        // Given
+        putMember(memberId, "EDITOR").andExpect(status().isOk());
+        String ownerId = userId(ownerToken);
+
+        // When / Then
+        mockMvc.perform(delete("/api/projects/" + projectId + "/members/" + ownerId)
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/projects/" + projectId + "/members/" + ownerId)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A project must keep at least one owner"));
+
+        // A second owner lets the first one leave
+        putMember(memberId, "OWNER").andExpect(status().isOk());
+        mockMvc.perform(delete("/api/projects/" + projectId + "/members/" + ownerId)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/projects/" + projectId + "/members").header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].role").value("OWNER"));
+    }
+
+    @Test
+    @DisplayName("should check membership from memory once it is cached")
+    void shouldCheckMembershipWithoutQueries() throws Exception {
+        // Given
+        String taskId = createTask(ownerToken, "Cached");
+        createTask(memberToken, "Not in the project");
+        putMember(memberId, "VIEWER").andExpect(status().isOk());
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].role").value("VIEWER"));
+
+        // When / Then: principal and task, no membership query or join
+        mockMvc.perform(get("/api/tasks/" + taskId).header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+        // principal and page
+        mockMvc.perform(get("/api/projects/" + projectId + "/tasks").header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(taskId))
+                .andExpect(queryCount(2));
+    }
+
+    private ResultActions putMember(String userId, String role) throws Exception {
+        return mockMvc.perform(put("/api/projects/" + projectId + "/members/" + userId)
+                .header("Authorization", "Bearer " + ownerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\": \"" + role + "\"}"));
+    }
+
+    private String createProject(String name) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/projects")
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.role").value("OWNER"))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String createTask(String token, String title) throws Exception {
+        String project = token.equals(ownerToken) ? ", \"projectId\": \"" + projectId + "\"" : "";
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\"" + project + "}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String userId(String token) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String register(String prefix) throws Exception {
+        return registerEmail(prefix + UUID.randomUUID() + "@example.com");
+    }
+
+    private String registerEmail(String email) throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail(email);
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.user.RegisterRequest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "query-budget.mode=fail",
+        "query-budget.endpoints=GET /api/tasks=1,GET /api/tasks/{id}=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Query Budget Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeAll
+    void setup() throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail("budget-" + System.currentTimeMillis() + "@example.com");
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        token = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    @Test
+    @DisplayName("should reject the statement that exceeds the endpoint budget")
+    void shouldFailOverBudget() throws Exception {
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isInternalServerError())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    @DisplayName("should serve requests within their budget")
+    void shouldPassWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/tasks/00000000-0000-0000-0000-000000000000")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", containsString("Task not found")))
+                .andExpect(queryCount(2));
+    }
+}
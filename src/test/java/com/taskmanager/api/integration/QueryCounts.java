@@ -0,0 +1,29 @@
+package com.taskmanager.api.integration;
+
+import com.taskmanager.api.observability.QueryBudgetFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matchers on the statement count QueryBudgetFilter reports for a request (requires
+ * query-budget.header-enabled, set in the test profile). The count covers the whole request, including
+ * the principal load done by JwtAuthFilter.
+ */
+final class QueryCounts {
+
+    private QueryCounts() {
+    }
+
+    static ResultMatcher queryCount(int expected) {
+        return result -> assertThat(count(result.getResponse().getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER)))
+                .as("JDBC statements executed by %s %s",
+                        result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    private static int count(String header) {
+        assertThat(header).as(QueryBudgetFilter.QUERY_COUNT_HEADER + " header").isNotNull();
+        return Integer.parseInt(header);
+    }
+}
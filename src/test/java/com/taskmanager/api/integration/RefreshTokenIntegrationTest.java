@@ -0,0 +1,213 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.security.JwtUtil;
+import com.taskmanager.api.security.RefreshTokenClaims;
+import com.taskmanager.api.security.RefreshTokenRepository;
+import com.taskmanager.api.security.RefreshTokens;
+import com.taskmanager.api.user.LoginRequest;
+import com.taskmanager.api.user.RefreshTokenRequest;
+import com.taskmanager.api.user.RegisterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Refresh Token Integration Tests")
+class RefreshTokenIntegrationTest {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private RefreshTokens refreshTokens;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private String email;
+
+    private JsonNode registration;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        email = "refresh-" + UUID.randomUUID() + "@example.com";
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail(email);
+        req.setPassword(PASSWORD);
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        registration = objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("should exchange each refresh token for a new pair once")
+    void shouldRotate() throws Exception {
+        // Given
+        String first = registration.get("refreshToken").asText();
+
+        // When
+        MvcResult result = refresh(first)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").exists())
+                // rotation, user, new token
+                .andExpect(queryCount(3))
+                .andReturn();
+        String second = objectMapper.readTree(result.getResponse().getContentAsString()).get("refreshToken").asText();
+
+        // Then
+        assertThat(second).isNotEqualTo(first);
+        refresh(second).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("should revoke the whole family when a used token is presented again")
+    void shouldRevokeFamilyOnReuse() throws Exception {
+        // Given
+        String stolen = registration.get("refreshToken").asText();
+        String current = refreshToken(refresh(stolen).andExpect(status().isOk()));
+        String otherLogin = login();
+
+        // When
+        refresh(stolen)
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid or expired refresh token"));
+
+        // Then: the legitimate holder is logged out too, other logins are not
+        refresh(current).andExpect(status().isUnauthorized());
+        refresh(stolen).andExpect(status().isUnauthorized());
+        refresh(otherLogin).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("should not issue a successor when the family is revoked between its exchange and insert")
+    void shouldNotIssueSuccessorAfterRevocation() throws Exception {
+        // Given: the legitimate holder's rotation has spent its token but not inserted the successor yet
+        String stolen = registration.get("refreshToken").asText();
+        RefreshTokenClaims current = jwtUtil.parseRefreshClaims(refreshToken(refresh(stolen).andExpect(status().isOk())))
+                .orElseThrow();
+        assertThat(refreshTokens.consume(current)).isTrue();
+
+        // When: the stolen token is replayed meanwhile
+        refresh(stolen).andExpect(status().isUnauthorized());
+
+        // Then
+        assertThat(refreshTokens.issue(current.userId(), email, current.familyId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should refuse a token of a revoked family that the revocation did not mark")
+    void shouldRefuseUnmarkedTokenOfRevokedFamily() throws Exception {
+        // Given: a revoked family
+        String stolen = registration.get("refreshToken").asText();
+        RefreshTokenClaims current = jwtUtil.parseRefreshClaims(refreshToken(refresh(stolen).andExpect(status().isOk())))
+                .orElseThrow();
+        refresh(stolen).andExpect(status().isUnauthorized());
+
+        // When: a successor committed after the revoking UPDATE read the family
+        UUID jti = UUID.randomUUID();
+        Instant now = Instant.now();
+        refreshTokenRepository.insert(sha256Hex(jti), current.familyId(), current.userId(), now, now.plus(Duration.ofDays(1)));
+
+        // Then
+        refresh(jwtUtil.generateRefreshToken(current.userId(), email, jti, current.familyId()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("should reject access tokens and refresh tokens that were never stored")
+    void shouldRejectUnknownTokens() throws Exception {
+        UUID userId = UUID.fromString(registration.get("user").get("id").asText());
+
+        refresh(registration.get("accessToken").asText()).andExpect(status().isUnauthorized());
+        // Signed, but issued without a jti
+        refresh(jwtUtil.generateRefreshToken(userId, email)).andExpect(status().isUnauthorized());
+        // Signed with a jti, but not in refresh_tokens
+        refresh(jwtUtil.generateRefreshToken(userId, email, UUID.randomUUID(), UUID.randomUUID()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("should purge expired tokens in batches and keep live ones")
+    void shouldPurgeExpired() {
+        // Given: five expired rows, purged two at a time (test profile)
+        Instant past = Instant.now().minus(Duration.ofDays(30));
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String hash = UUID.randomUUID().toString().replace("-", "").repeat(2);
+            refreshTokenRepository.insert(hash, UUID.randomUUID(), UUID.randomUUID(), past, past.plus(Duration.ofDays(7)));
+            expired.add(hash);
+        }
+        long before = refreshTokenRepository.count();
+
+        // When
+        refreshTokens.purgeExpired();
+
+        // Then
+        assertThat(refreshTokenRepository.findAllById(expired)).isEmpty();
+        assertThat(refreshTokenRepository.count()).isEqualTo(before - 5);
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        RefreshTokenRequest req = new RefreshTokenRequest();
+        req.setRefreshToken(refreshToken);
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(req)));
+    }
+
+    private String login() throws Exception {
+        LoginRequest req = new LoginRequest();
+        req.setEmail(email);
+        req.setPassword(PASSWORD);
+        return refreshToken(mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk()));
+    }
+
+    private static String sha256Hex(UUID jti) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(jti.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String refreshToken(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString()).get("refreshToken").asText();
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskmanager.api.integration;
+
+import com.taskmanager.api.user.Role;
+import com.taskmanager.api.user.UserRegistrations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parallel signups racing for the same addresses. Goes through UserRegistrations rather than the API so
+ * the run measures the insert path, not thousands of bcrypt hashes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Registration Concurrency Integration Tests")
+class RegistrationConcurrencyIntegrationTest {
+
+    private static final int THREADS = 32;
+    private static final int EMAILS = 100;
+    private static final int ATTEMPTS = 2000;
+
+    @Autowired
+    private UserRegistrations registrations;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should let exactly one of many concurrent signups per email win, without errors")
+    void shouldRegisterEachEmailOnce() throws Exception {
+        // Given
+        String prefix = "race-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>(ATTEMPTS);
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < ATTEMPTS; i++) {
+                // Registrations arrive normalized, whatever case the client sent
+                String email = (prefix + (i % EMAILS) + "@example.com").toLowerCase(Locale.ROOT);
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    return registrations.insert(UUID.randomUUID(), email, "$2a$10$hash", Role.USER, now);
+                }));
+            }
+            start.countDown();
+            int won = 0;
+            for (Future<Boolean> attempt : attempts) {
+                // get() rethrows anything a signup failed with
+                if (attempt.get()) {
+                    won++;
+                }
+            }
+
+            // Then
+            assertThat(won).isEqualTo(EMAILS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, prefix + "%"))
+                .isEqualTo(EMAILS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_roles r JOIN users u ON u.id = r.user_id"
+                + " WHERE u.email LIKE ? AND r.role = 'USER'", Integer.class, prefix + "%"))
+                .isEqualTo(EMAILS);
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.security.TokenEpochs;
+import com.taskmanager.api.user.LoginRequest;
+import com.taskmanager.api.user.RegisterRequest;
+import com.taskmanager.api.user.Role;
+import com.taskmanager.api.user.User;
+import com.taskmanager.api.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "jwt.principal-mode=claims")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Stateless Principal Integration Tests")
+class StatelessPrincipalIntegrationTest {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenEpochs tokenEpochs;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String email;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        email = "stateless-" + UUID.randomUUID() + "@example.com";
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail(email);
+        req.setPassword(PASSWORD);
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        token = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    @Test
+    @DisplayName("should authenticate from the token without reading the user")
+    void shouldSkipPrincipalLoad() throws Exception {
+        // Given
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Stateless\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        // When / Then: the task query only
+        mockMvc.perform(get("/api/tasks/" + taskId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+        // The profile is not in the token, so /me reads it
+        mockMvc.perform(get("/api/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.createdAt").exists())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    @DisplayName("should reject the token as soon as the account is deleted")
+    void shouldRevokeOnSoftDelete() throws Exception {
+        mockMvc.perform(delete("/api/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("should reject tokens revoked on another node after the next refresh")
+    void shouldRevokeOnRefresh() throws Exception {
+        // Given: a lock applied elsewhere, as another node would
+        jdbcTemplate.update("UPDATE users SET status = 'LOCKED', token_epoch = token_epoch + 1, updated_at = CURRENT_TIMESTAMP"
+                + " WHERE email = ?", email);
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // When
+        tokenEpochs.refresh();
+
+        // Then
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("should take roles from the token and revoke it when they change")
+    void shouldCarryRoles() throws Exception {
+        // Given
+        User user = userRepository.findByEmail(email).orElseThrow();
+        user.setRoles(Set.of(Role.USER, Role.ADMIN));
+        userRepository.save(user);
+        tokenEpochs.refresh();
+
+        // When / Then
+        mockMvc.perform(get("/api/admin/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        String adminToken = login();
+        mockMvc.perform(get("/api/admin/users?email=" + email).header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].roles.length()").value(2));
+    }
+
+    private String login() throws Exception {
+        LoginRequest req = new LoginRequest();
+        req.setEmail(email);
+        req.setPassword(PASSWORD);
+
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.activity.TaskActivityLog;
+import com.taskmanager.api.user.RegisterRequest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Task Activity Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskActivityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskActivityLog activityLog;
+
+    private String token;
+
+    private String otherToken;
+
+    @BeforeAll
+    void setup() throws Exception {
+        token = register();
+        otherToken = register();
+    }
+
+    @Test
+    @DisplayName("should return field-level history newest first, including after delete")
+    void shouldReturnHistory() throws Exception {
+        // Given
+        String id = createTask("Write report");
+        mockMvc.perform(put("/api/tasks/" + id)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_PROGRESS\", \"priority\": \"MEDIUM\"}"))
+                .andExpect(status().isOk())
+                // principal, task, update: the history entry is not written on the request path
+                .andExpect(queryCount(3));
+        mockMvc.perform(delete("/api/tasks/" + id).header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // When
+        activityLog.flush();
+        activityLog.relayOutbox();
+
+        // Then
+        mockMvc.perform(get("/api/tasks/" + id + "/history").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].action").value("DELETED"))
+                .andExpect(jsonPath("$.content[0].changes[0].from").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.content[0].changes[0].to").value("DELETED"))
+                .andExpect(jsonPath("$.content[1].action").value("UPDATED"))
+                // priority was already MEDIUM, so only the status changed
+                .andExpect(jsonPath("$.content[1].changes", hasSize(1)))
+                .andExpect(jsonPath("$.content[1].changes[0].field").value("status"))
+                .andExpect(jsonPath("$.content[1].changes[0].from").value("TODO"))
+                .andExpect(jsonPath("$.content[2].action").value("CREATED"));
+    }
+
+    @Test
+    @DisplayName("should paginate history")
+    void shouldPaginateHistory() throws Exception {
+        // Given
+        String id = createTask("Paged");
+        for (String title : new String[]{"One", "Two", "Three"}) {
+            mockMvc.perform(put("/api/tasks/" + id)
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"" + title + "\"}"))
+                    .andExpect(status().isOk());
+        }
+        activityLog.flush();
+
+        // When / Then
+        mockMvc.perform(get("/api/tasks/" + id + "/history?size=2&page=1").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(4))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].changes[0].to").value("One"))
+                .andExpect(jsonPath("$.content[1].action").value("CREATED"));
+    }
+
+    @Test
+    @DisplayName("should return 404 for another user's task history")
+    void shouldHideOtherUsersHistory() throws Exception {
+        // Given
+        String id = createTask("Private");
+
+        // When / Then
+        mockMvc.perform(get("/api/tasks/" + id + "/history").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+    }
+
+    private String createTask(String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String register() throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail("activity-" + UUID.randomUUID() + "@example.com");
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
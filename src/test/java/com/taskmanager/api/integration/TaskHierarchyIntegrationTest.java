@@ -0,0 +1,300 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.task.Task;
+import com.taskmanager.api.task.TaskRepository;
+import com.taskmanager.api.task.TaskStatus;
+import com.taskmanager.api.user.RegisterRequest;
+import com.taskmanager.api.user.User;
+import com.taskmanager.api.user.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntUnaryOperator;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Subtasks over the API, and the single-statement guarantee of the hierarchy reads on 1,000-node trees
+ * (test profile: task.hierarchy.max-depth=1000).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Task Hierarchy Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskHierarchyIntegrationTest {
+
+    private static final int TREE_SIZE = 1000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String token;
+
+    private String otherToken;
+
+    private User owner;
+
+    private List<UUID> chain;
+
+    private List<UUID> wideTree;
+
+    @BeforeAll
+    void setup() throws Exception {
+        String email = "hierarchy-" + UUID.randomUUID() + "@example.com";
+        token = register(email);
+        otherToken = register("hierarchy-other-" + UUID.randomUUID() + "@example.com");
+        owner = userRepository.findByEmail(email).orElseThrow();
+
+        // Each task the child of the previous one: depth 999 at the end
+        chain = seed(i -> i - 1);
+        // Each task the child of task (i - 1) / 3: a complete ternary tree, about 7 levels deep
+        wideTree = seed(i -> (i - 1) / 3);
+    }
+
+    private List<UUID> seed(IntUnaryOperator parentIndex) {
+        return transactionTemplate.execute(tx -> {
+            List<UUID> ids = new ArrayList<>(TREE_SIZE);
+            for (int i = 0; i < TREE_SIZE; i++) {
+                Task task = new Task();
+                task.setOwner(owner);
+                task.setTitle("Node " + i);
+                task.setStatus(i % 4 == 0 ? TaskStatus.DONE : TaskStatus.TODO);
+                if (i > 0) {
+                    task.setParentId(ids.get(parentIndex.applyAsInt(i)));
+                }
+                ids.add(taskRepository.save(task).getId());
+            }
+            return ids;
+        });
+    }
+
+    @Nested
+    @DisplayName("1,000-node trees")
+    class DeepTrees {
+
+        @Test
+        @DisplayName("should read a 1,000-level subtree in one statement")
+        void shouldReadDeepSubtree() throws Exception {
+            // principal, subtree
+            mockMvc.perform(get("/api/tasks/" + chain.get(0) + "/subtree").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(TREE_SIZE)))
+                    .andExpect(jsonPath("$[0].id").value(chain.get(0).toString()))
+                    .andExpect(jsonPath("$[999].id").value(chain.get(999).toString()))
+                    .andExpect(jsonPath("$[999].parentId").value(chain.get(998).toString()))
+                    .andExpect(queryCount(2));
+        }
+
+        @Test
+        @DisplayName("should read a 1,000-node wide subtree in one statement")
+        void shouldReadWideSubtree() throws Exception {
+            mockMvc.perform(get("/api/tasks/" + wideTree.get(0) + "/subtree").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(TREE_SIZE)))
+                    .andExpect(queryCount(2));
+        }
+
+        @Test
+        @DisplayName("should read the 1,000-task ancestor path root first in one statement")
+        void shouldReadDeepAncestors() throws Exception {
+            mockMvc.perform(get("/api/tasks/" + chain.get(999) + "/ancestors").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(TREE_SIZE)))
+                    .andExpect(jsonPath("$[0].id").value(chain.get(0).toString()))
+                    .andExpect(jsonPath("$[999].id").value(chain.get(999).toString()))
+                    .andExpect(queryCount(2));
+        }
+
+        @Test
+        @DisplayName("should roll up completion of a 1,000-task subtree in one statement")
+        void shouldRollUpDeepProgress() throws Exception {
+            mockMvc.perform(get("/api/tasks/" + chain.get(0) + "/progress").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(TREE_SIZE))
+                    .andExpect(jsonPath("$.done").value(250))
+                    .andExpect(jsonPath("$.percentComplete").value(25))
+                    .andExpect(queryCount(2));
+        }
+
+        @Test
+        @DisplayName("should reject a subtask below the maximum depth")
+        void shouldEnforceMaxDepth() throws Exception {
+            // The chain's last task is at depth 999, so one more level fits and the next does not
+            String atLimit = createTask("At limit", chain.get(999).toString());
+
+            mockMvc.perform(post("/api/tasks")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Too deep\", \"parentId\": \"" + atLimit + "\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Subtasks cannot be nested more than 1000 levels deep"));
+
+            // Keep the shared chain at 1,000 tasks for the other tests
+            mockMvc.perform(delete("/api/tasks/" + atLimit).header("Authorization", "Bearer " + token))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    @Test
+    @DisplayName("should roll up completion as subtasks are done")
+    void shouldRollUpProgress() throws Exception {
+        // Given
+        String parent = createTask("Plan trip", null);
+        String child = createTask("Book flights", parent);
+        createTask("Book hotel", parent);
+
+        // When
+        mockMvc.perform(put("/api/tasks/" + child)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/api/tasks/" + parent + "/progress").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.done").value(1))
+                .andExpect(jsonPath("$.percentComplete").value(33));
+    }
+
+    @Test
+    @DisplayName("should leave deleted subtasks out of the subtree but keep live tasks below them")
+    void shouldSkipDeletedSubtasks() throws Exception {
+        // Given
+        String parent = createTask("Parent", null);
+        String child = createTask("Child", parent);
+        String grandchild = createTask("Grandchild", child);
+
+        // When
+        mockMvc.perform(delete("/api/tasks/" + child).header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/tasks/" + parent + "/subtree").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].id").value(grandchild));
+        mockMvc.perform(get("/api/tasks/" + parent + "/progress").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2));
+        mockMvc.perform(get("/api/tasks/" + grandchild + "/ancestors").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(parent));
+    }
+
+    @Test
+    @DisplayName("should reject a move that closes a cycle through a deleted task")
+    void shouldRejectCycleThroughDeletedTask() throws Exception {
+        // Given: top -> deleted -> bottom
+        String top = createTask("Top", null);
+        String deleted = createTask("Deleted", top);
+        String bottom = createTask("Bottom", deleted);
+        mockMvc.perform(delete("/api/tasks/" + deleted).header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // When / Then
+        move(top, bottom)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A task cannot be moved under itself or one of its subtasks"));
+    }
+
+    @Test
+    @DisplayName("should move a task and reject moves that create a cycle")
+    void shouldMoveTask() throws Exception {
+        // Given
+        String first = createTask("First", null);
+        String second = createTask("Second", null);
+        String child = createTask("Child", first);
+
+        // When / Then
+        move(first, child).andExpect(status().isBadRequest());
+        move(first, first).andExpect(status().isBadRequest());
+        move(child, second)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parentId").value(second));
+        move(child, null)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parentId").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("should not expose or accept another user's tasks in the hierarchy")
+    void shouldEnforceOwnership() throws Exception {
+        // Given
+        String mine = createTask("Mine", null);
+
+        // When / Then
+        mockMvc.perform(get("/api/tasks/" + mine + "/subtree").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks/" + mine + "/ancestors").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks/" + mine + "/progress").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + otherToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Sneaky\", \"parentId\": \"" + mine + "\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions move(String id, String parentId) throws Exception {
+        return mockMvc.perform(put("/api/tasks/" + id + "/parent")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(parentId == null ? "{\"parentId\": null}" : "{\"parentId\": \"" + parentId + "\"}"));
+    }
+
+    private String createTask(String title, String parentId) throws Exception {
+        String parent = parentId == null ? "" : ", \"parentId\": \"" + parentId + "\"";
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\"" + parent + "}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String register(String email) throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail(email);
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
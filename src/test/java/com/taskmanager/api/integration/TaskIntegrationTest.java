@@ -12,6 +12,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -75,6 +76,8 @@ class TaskIntegrationTest {
                 .andExpect(jsonPath("$.title").value("Integration test task"))
                 .andExpect(jsonPath("$.status").value("TODO"))
                 .andExpect(jsonPath("$.priority").value("HIGH"))
+                // principal, owner lookup, insert
+                .andExpect(queryCount(3))
                 .andReturn();
 
         taskId = objectMapper.readTree(result.getResponse().getContentAsString())
@@ -113,7 +116,9 @@ class TaskIntegrationTest {
                         .header("Authorization", "Bearer " + tokenA))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1))))
-                .andExpect(jsonPath("$.content[0].title").value("Integration test task"));
+                .andExpect(jsonPath("$.content[0].title").value("Integration test task"))
+                // principal, page; no count query for a partial first page
+                .andExpect(queryCount(2));
     }
 
     @Test
@@ -123,7 +128,8 @@ class TaskIntegrationTest {
         mockMvc.perform(get("/api/tasks/" + taskId)
                         .header("Authorization", "Bearer " + tokenA))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(taskId));
+                .andExpect(jsonPath("$.id").value(taskId))
+                .andExpect(queryCount(2));
     }
 
     @Test
@@ -132,7 +138,8 @@ class TaskIntegrationTest {
     void otherUserGets404() throws Exception {
         mockMvc.perform(get("/api/tasks/" + taskId)
                         .header("Authorization", "Bearer " + tokenB))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(queryCount(2));
     }
 
     @Test
@@ -146,7 +153,9 @@ class TaskIntegrationTest {
                                 {"status": "IN_PROGRESS"}
                                 """))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                // principal, load, update
+                .andExpect(queryCount(3));
     }
 
     @Test
@@ -175,9 +184,11 @@ class TaskIntegrationTest {
     @Order(10)
     @DisplayName("DELETE /api/tasks/{id} — should soft-delete own task")
     void shouldSoftDeleteOwnTask() throws Exception {
+        // principal, task, history outbox entry, update
         mockMvc.perform(delete("/api/tasks/" + taskId)
                         .header("Authorization", "Bearer " + tokenA))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(queryCount(4));
 
         mockMvc.perform(get("/api/tasks/" + taskId)
                         .header("Authorization", "Bearer " + tokenA))
@@ -203,7 +214,8 @@ class TaskIntegrationTest {
                         .content("""
                                 {"title": "No auth task"}
                                 """))
-                .andExpect(status().isUnauthorized());
+                .andExpect(status().isUnauthorized())
+                .andExpect(queryCount(0));
     }
 
     @Test
@@ -250,4 +262,30 @@ class TaskIntegrationTest {
                         .header("Authorization", "Bearer " + tokenA))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @Order(16)
+    @DisplayName("GET /api/tasks — statement count does not grow with the number of rows")
+    void listQueryCountIsIndependentOfRows() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/tasks")
+                            .header("Authorization", "Bearer " + tokenA)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Row " + i + "\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        // principal, page, count
+        mockMvc.perform(get("/api/tasks?size=3")
+                        .header("Authorization", "Bearer " + tokenA))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(queryCount(3));
+
+        mockMvc.perform(get("/api/tasks?size=50")
+                        .header("Authorization", "Bearer " + tokenA))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(5))))
+                .andExpect(queryCount(2));
+    }
 }
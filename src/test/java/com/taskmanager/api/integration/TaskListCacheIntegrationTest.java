@@ -0,0 +1,128 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.task.TaskListCacheFilter;
+import com.taskmanager.api.user.RegisterRequest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "task.list-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Task List Cache Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskListCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    private String otherToken;
+
+    @BeforeAll
+    void setup() throws Exception {
+        token = register();
+        otherToken = register();
+        createTask(token, "Cached task");
+    }
+
+    @Test
+    @DisplayName("should serve a repeated list from the cache")
+    void shouldServeRepeatedList() throws Exception {
+        // Given
+        MvcResult first = list(token, "?size=7&page=0")
+                .andExpect(header().string(TaskListCacheFilter.CACHE_HEADER, "MISS"))
+                .andReturn();
+
+        // When / Then - same parameters in another order, only the principal is loaded
+        list(token, "?page=0&size=7")
+                .andExpect(header().string(TaskListCacheFilter.CACHE_HEADER, "HIT"))
+                .andExpect(queryCount(1))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(first.getResponse().getContentAsString(), JsonCompareMode.STRICT));
+    }
+
+    @Test
+    @DisplayName("should show the owner's write on the next list")
+    void shouldInvalidateOnWrite() throws Exception {
+        // Given
+        list(token, "?size=8");
+        list(token, "?size=8").andExpect(header().string(TaskListCacheFilter.CACHE_HEADER, "HIT"));
+
+        // When
+        createTask(token, "Fresh task");
+
+        // Then
+        list(token, "?size=8")
+                .andExpect(header().string(TaskListCacheFilter.CACHE_HEADER, "MISS"))
+                .andExpect(jsonPath("$.content[?(@.title == 'Fresh task')]").exists());
+    }
+
+    @Test
+    @DisplayName("should cache different filters and owners separately")
+    void shouldKeyByFiltersAndOwner() throws Exception {
+        // Given
+        list(token, "?size=9");
+
+        // When / Then
+        list(token, "?size=9&status=DONE")
+                .andExpect(header().string(TaskListCacheFilter.CACHE_HEADER, "MISS"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+        list(otherToken, "?size=9")
+                .andExpect(header().string(TaskListCacheFilter.CACHE_HEADER, "MISS"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("should not cache error responses")
+    void shouldNotCacheErrors() throws Exception {
+        list(token, "?status=NOPE").andExpect(status().isBadRequest());
+
+        list(token, "?status=NOPE")
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string(TaskListCacheFilter.CACHE_HEADER, "MISS"));
+    }
+
+    private ResultActions list(String bearer, String query) throws Exception {
+        return mockMvc.perform(get("/api/tasks" + query).header("Authorization", "Bearer " + bearer));
+    }
+
+    private void createTask(String bearer, String title) throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private String register() throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail("list-cache-" + UUID.randomUUID() + "@example.com");
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
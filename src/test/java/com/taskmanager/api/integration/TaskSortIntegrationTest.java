@@ -0,0 +1,102 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.user.RegisterRequest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Task Sort Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskSortIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeAll
+    void setup() throws Exception {
+        token = register();
+        createTask("Medium", "MEDIUM");
+        createTask("High", "HIGH");
+        createTask("Low", "LOW");
+    }
+
+    @Test
+    @DisplayName("should sort by priority rank rather than by name")
+    void shouldSortByPriorityRank() throws Exception {
+        mockMvc.perform(get("/api/tasks?sort=priority,desc").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].priority").value(contains("HIGH", "MEDIUM", "LOW")));
+        mockMvc.perform(get("/api/tasks?sort=priority,asc").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].priority").value(contains("LOW", "MEDIUM", "HIGH")));
+    }
+
+    @Test
+    @DisplayName("should default to newest first")
+    void shouldDefaultToNewestFirst() throws Exception {
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title").value(contains("Low", "High", "Medium")));
+    }
+
+    @Test
+    @DisplayName("should reject sorts without a supporting index")
+    void shouldRejectUnsupportedSort() throws Exception {
+        mockMvc.perform(get("/api/tasks?sort=description").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Unsupported sort property: description")));
+        mockMvc.perform(get("/api/tasks?sort=title,asc").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("should cap the page size")
+    void shouldCapPageSize() throws Exception {
+        mockMvc.perform(get("/api/tasks?size=5000").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(100));
+    }
+
+    private void createTask(String title, String priority) throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\", \"priority\": \"" + priority + "\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private String register() throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail("sort-" + UUID.randomUUID() + "@example.com");
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
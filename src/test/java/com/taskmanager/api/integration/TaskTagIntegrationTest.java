@@ -0,0 +1,175 @@
+package com.taskmanager.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.api.user.RegisterRequest;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static com.taskmanager.api.integration.QueryCounts.queryCount;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Task Tag Integration Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskTagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    private String otherToken;
+
+    private String reportId;
+
+    @BeforeAll
+    void setup() throws Exception {
+        token = register();
+        otherToken = register();
+
+        reportId = createTask(token, "Write report", "TODO", "[\"Work\", \"urgent \", \"work\"]");
+        createTask(token, "Review report", "DONE", "[\"work\"]");
+        createTask(token, "Buy milk", "TODO", "[\"home\", \"urgent\"]");
+        createTask(token, "Untagged", "TODO", null);
+        createTask(otherToken, "Someone else's", "TODO", "[\"work\", \"urgent\"]");
+    }
+
+    @Test
+    @DisplayName("should store tags trimmed, lower-cased, distinct and sorted")
+    void shouldNormalizeTags() throws Exception {
+        mockMvc.perform(get("/api/tasks/" + reportId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags", hasSize(2)))
+                .andExpect(jsonPath("$.tags[0]").value("urgent"))
+                .andExpect(jsonPath("$.tags[1]").value("work"));
+    }
+
+    @Nested
+    @DisplayName("GET /api/tasks?tags=")
+    class Filter {
+
+        @Test
+        @DisplayName("should match tasks with all of the tags by default")
+        void shouldMatchAll() throws Exception {
+            mockMvc.perform(get("/api/tasks?tags=work,URGENT").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].title").value("Write report"))
+                    // principal, filtered page
+                    .andExpect(queryCount(2));
+        }
+
+        @Test
+        @DisplayName("should match tasks with any of the tags")
+        void shouldMatchAny() throws Exception {
+            mockMvc.perform(get("/api/tasks?tags=home,work&tagMatch=ANY").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[*].title",
+                            containsInAnyOrder("Write report", "Review report", "Buy milk")))
+                    .andExpect(queryCount(2));
+        }
+
+        @Test
+        @DisplayName("should combine tags with the status and priority filters in one query")
+        void shouldCombineWithStatusAndPriority() throws Exception {
+            mockMvc.perform(get("/api/tasks?tags=work&tagMatch=ANY&status=DONE&priority=MEDIUM")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].title").value("Review report"))
+                    .andExpect(queryCount(2));
+        }
+
+        @Test
+        @DisplayName("should reject an invalid tag")
+        void shouldRejectInvalidTag() throws Exception {
+            mockMvc.perform(get("/api/tasks?tags=no spaces").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    @DisplayName("should keep per-owner tag counts in step with creates, updates and deletes")
+    void shouldMaintainTagCounts() throws Exception {
+        // Given
+        String token = register();
+        String first = createTask(token, "First", "TODO", "[\"a\", \"b\"]");
+        createTask(token, "Second", "TODO", "[\"b\", \"c\"]");
+
+        // When
+        mockMvc.perform(put("/api/tasks/" + first)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tags\": [\"b\", \"d\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags[1]").value("d"))
+                // principal, task, insert missing tags, adjust counts, update task
+                .andExpect(queryCount(5));
+        mockMvc.perform(delete("/api/tasks/" + first).header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/tags").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].tag", containsInAnyOrder("b", "c")))
+                .andExpect(jsonPath("$[0].taskCount").value(1))
+                .andExpect(jsonPath("$[1].taskCount").value(1))
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    @DisplayName("should list most used tags first and only the caller's")
+    void shouldListOwnTagUsage() throws Exception {
+        mockMvc.perform(get("/api/tags").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                // Ties in alphabetical order
+                .andExpect(jsonPath("$[0].tag").value("urgent"))
+                .andExpect(jsonPath("$[0].taskCount").value(2))
+                .andExpect(jsonPath("$[1].tag").value("work"))
+                .andExpect(jsonPath("$[1].taskCount").value(2))
+                .andExpect(jsonPath("$[2].tag").value("home"))
+                .andExpect(jsonPath("$[2].taskCount").value(1));
+    }
+
+    private String createTask(String token, String title, String status, String tags) throws Exception {
+        String tagsField = tags == null ? "" : ", \"tags\": " + tags;
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"" + title + "\", \"status\": \"" + status + "\"" + tagsField + "}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String register() throws Exception {
+        RegisterRequest req = new RegisterRequest();
+        req.setEmail("tags-" + UUID.randomUUID() + "@example.com");
+        req.setPassword("SecurePass123!");
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
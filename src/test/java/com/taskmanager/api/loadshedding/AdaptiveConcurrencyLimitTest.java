@@ -0,0 +1,120 @@
+package com.taskmanager.api.loadshedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimit")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("should shed health checks first and auth last as requests approach the limit")
+    void shouldShedByPriority() {
+        // Given: a fixed limit of 10
+        AdaptiveConcurrencyLimit limit = limit(10, 10, 10);
+
+        // When / Then
+        assertThat(acquireAll(limit, RouteClass.HEALTH)).isEqualTo(5);
+        assertThat(acquireAll(limit, RouteClass.READ)).isEqualTo(3);
+        assertThat(acquireAll(limit, RouteClass.WRITE)).isEqualTo(1);
+        assertThat(acquireAll(limit, RouteClass.AUTH)).isEqualTo(1);
+        assertThat(limit.getInFlight()).isEqualTo(10);
+
+        limit.release(clock.get());
+        assertThat(limit.tryAcquire(RouteClass.READ)).isFalse();
+        assertThat(limit.tryAcquire(RouteClass.AUTH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should raise the limit while latency stays flat under load")
+    void shouldGrowWhenLatencyIsFlat() {
+        // Given
+        AdaptiveConcurrencyLimit limit = limit(100, 10, 1000);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            window(limit, (int) limit.getLimit(), 10);
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isGreaterThan(130);
+    }
+
+    @Test
+    @DisplayName("should lower the limit when latency rises beyond the tolerance")
+    void shouldBackOffWhenLatencyRises() {
+        // Given
+        AdaptiveConcurrencyLimit limit = limit(100, 10, 1000);
+        for (int i = 0; i < 20; i++) {
+            window(limit, 100, 10);
+        }
+        double before = limit.getLimit();
+
+        // When: requests now queue and take five times as long
+        for (int i = 0; i < 10; i++) {
+            window(limit, 100, 50);
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isLessThan(before / 2);
+    }
+
+    @Test
+    @DisplayName("should not raise the limit when traffic stays well below it")
+    void shouldNotGrowWhenUnused() {
+        // Given
+        AdaptiveConcurrencyLimit limit = limit(100, 10, 1000);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            window(limit, 20, 10);
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("should reject limits out of order")
+    void shouldValidate() {
+        assertThatThrownBy(() -> limit(5, 10, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limit(50, 10, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limit(10, 0, 20)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveConcurrencyLimit limit(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimit(initial, min, max, 1.5, WINDOW_NANOS, clock::get);
+    }
+
+    private static int acquireAll(AdaptiveConcurrencyLimit limit, RouteClass routeClass) {
+        int acquired = 0;
+        while (limit.tryAcquire(routeClass)) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    /**
+     * Up to {@code requests} concurrent requests, each taking {@code latencyMs}.
+     */
+    private void window(AdaptiveConcurrencyLimit limit, int requests, long latencyMs) {
+        long start = clock.get();
+        int admitted = 0;
+        while (admitted < requests && limit.tryAcquire(RouteClass.AUTH)) {
+            admitted++;
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+        for (int i = 0; i < admitted; i++) {
+            limit.release(start);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.taskmanager.api.security;
 
+import com.taskmanager.api.user.Role;
+import com.taskmanager.api.user.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -133,6 +137,105 @@ class JwtUtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("parseAccessToken")
+    class ParseAccessToken {
+
+        @Test
+        @DisplayName("should return user ID for valid access token")
+        void shouldReturnUserId() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            String token = jwtUtil.generateAccessToken(userId, "test@example.com");
+
+            // When/Then
+            assertThat(jwtUtil.parseAccessToken(token)).contains(userId);
+        }
+
+        @Test
+        @DisplayName("should return empty for refresh, tampered or malformed token")
+        void shouldRejectNonAccessTokens() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            String refreshToken = jwtUtil.generateRefreshToken(userId, "test@example.com");
+            String accessToken = jwtUtil.generateAccessToken(userId, "test@example.com");
+            String tampered = accessToken.substring(0, accessToken.length() - 5) + "XXXXX";
+
+            // When/Then
+            assertThat(jwtUtil.parseAccessToken(refreshToken)).isEmpty();
+            assertThat(jwtUtil.parseAccessToken(tampered)).isEmpty();
+            assertThat(jwtUtil.parseAccessToken("not.a.token")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("parseAccessClaims")
+    class ParseAccessClaims {
+
+        @Test
+        @DisplayName("should return the roles and epoch embedded for the user")
+        void shouldReturnPrincipalClaims() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            User user = User.fromToken(userId, "test@example.com", Set.of(Role.USER, Role.ADMIN));
+            user.revokeTokens();
+
+            // When
+            Optional<AccessTokenClaims> claims = jwtUtil.parseAccessClaims(jwtUtil.generateAccessToken(user));
+
+            // Then
+            assertThat(claims).hasValueSatisfying(parsed -> {
+                assertThat(parsed.userId()).isEqualTo(userId);
+                assertThat(parsed.email()).isEqualTo("test@example.com");
+                assertThat(parsed.roles()).containsExactlyInAnyOrder(Role.USER, Role.ADMIN);
+                assertThat(parsed.epoch()).isEqualTo(1);
+                assertThat(parsed.carriesPrincipal()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("should leave roles and epoch unset for tokens issued without them")
+        void shouldFlagTokensWithoutPrincipalClaims() {
+            // Given
+            String token = jwtUtil.generateAccessToken(UUID.randomUUID(), "test@example.com");
+
+            // When/Then
+            assertThat(jwtUtil.parseAccessClaims(token)).hasValueSatisfying(parsed -> {
+                assertThat(parsed.roles()).isNull();
+                assertThat(parsed.carriesPrincipal()).isFalse();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("parseRefreshClaims")
+    class ParseRefreshClaims {
+
+        @Test
+        @DisplayName("should return the jti and family of a rotatable refresh token")
+        void shouldReturnRefreshClaims() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            UUID jti = UUID.randomUUID();
+            UUID familyId = UUID.randomUUID();
+
+            // When
+            String token = jwtUtil.generateRefreshToken(userId, "test@example.com", jti, familyId);
+
+            // Then
+            assertThat(jwtUtil.parseRefreshClaims(token)).contains(new RefreshTokenClaims(userId, jti, familyId));
+        }
+
+        @Test
+        @DisplayName("should return empty for access tokens and refresh tokens without a jti")
+        void shouldRejectOtherTokens() {
+            UUID userId = UUID.randomUUID();
+
+            assertThat(jwtUtil.parseRefreshClaims(jwtUtil.generateAccessToken(userId, "test@example.com"))).isEmpty();
+            assertThat(jwtUtil.parseRefreshClaims(jwtUtil.generateRefreshToken(userId, "test@example.com"))).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("token expiration")
     class TokenExpiration {
@@ -0,0 +1,53 @@
+package com.taskmanager.api.tag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tags")
+class TagsTest {
+
+    @Test
+    @DisplayName("should trim, lower-case, deduplicate and sort tags")
+    void shouldNormalize() {
+        assertThat(Tags.normalize(List.of(" Work", "urgent", "WORK", "a_b-c")))
+                .containsExactly("a_b-c", "urgent", "work");
+        assertThat(Tags.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject blank, too long or punctuated tags")
+    void shouldRejectInvalidTags() {
+        assertThatThrownBy(() -> Tags.normalize(List.of(" ")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Tags.normalize(List.of("a".repeat(Tags.MAX_LENGTH + 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Tags.normalize(List.of("no,commas")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Tags.normalize(Collections.singletonList(null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should reject more tags than a task can have")
+    void shouldRejectTooManyTags() {
+        List<String> tags = IntStream.rangeClosed(0, Tags.MAX_PER_TASK).mapToObj(i -> "tag" + i).toList();
+
+        assertThatThrownBy(() -> Tags.normalize(tags))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at most " + Tags.MAX_PER_TASK);
+    }
+
+    @Test
+    @DisplayName("should treat a filter without tags as no filter")
+    void shouldTreatEmptyFilterAsNone() {
+        assertThat(TagFilter.of(null, TagMatch.ANY)).isSameAs(TagFilter.NONE);
+        assertThat(TagFilter.of(List.of("B", "a"), null)).isEqualTo(new TagFilter(List.of("a", "b"), TagMatch.ALL));
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskmanager.api.task;
+
+import com.taskmanager.api.common.OwnerVersions;
+import com.taskmanager.api.common.exception.ResourceNotFoundException;
+import com.taskmanager.api.tag.TagFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TaskReadCoalescer")
+class TaskReadCoalescerTest {
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final Pageable pageable = PageRequest.of(0, 20);
+    private final Page<Task> page = new PageImpl<>(List.of(new Task()));
+    private final OwnerVersions ownerVersions = new OwnerVersions(16);
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch firstQueryStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstQuery = new CountDownLatch(1);
+
+    private TaskReadCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new TaskReadCoalescer(
+                ownerVersions, TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstQuery.countDown();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    // The first execution blocks until released, so later callers arrive while it is in flight
+    private Supplier<Page<Task>> query() {
+        return () -> {
+            if (executions.incrementAndGet() == 1) {
+                firstQueryStarted.countDown();
+                await(releaseFirstQuery);
+            }
+            return page;
+        };
+    }
+
+    private Thread startList(List<Page<Task>> results) {
+        Thread thread = new Thread(() -> results.add(coalescer.list(ownerId, TaskStatus.TODO, null, TagFilter.NONE, pageable, query())));
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    @DisplayName("should run identical concurrent reads once and share the result")
+    void shouldShareInFlightRead() throws Exception {
+        // Given
+        List<Page<Task>> results = Collections.synchronizedList(new ArrayList<>());
+        Thread leader = startList(results);
+        await(firstQueryStarted);
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            followers.add(startList(results));
+        }
+        for (Thread follower : followers) {
+            waitUntilBlocked(follower);
+        }
+
+        // When
+        releaseFirstQuery.countDown();
+        leader.join(5000);
+        for (Thread follower : followers) {
+            follower.join(5000);
+        }
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(results).hasSize(5).allSatisfy(result -> assertThat(result).isSameAs(page));
+    }
+
+    @Test
+    @DisplayName("should not let a read after the owner's write join an earlier read")
+    void shouldNotShareAcrossWrites() throws Exception {
+        // Given
+        List<Page<Task>> results = Collections.synchronizedList(new ArrayList<>());
+        startList(results);
+        await(firstQueryStarted);
+
+        // When
+        ownerVersions.bumpAfterCommit(ownerId);
+        coalescer.list(ownerId, TaskStatus.TODO, null, TagFilter.NONE, pageable, query());
+
+        // Then
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not coalesce inside a read-write transaction")
+    void shouldBypassReadWriteTransaction() throws Exception {
+        // Given
+        List<Page<Task>> results = Collections.synchronizedList(new ArrayList<>());
+        startList(results);
+        await(firstQueryStarted);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        // When
+        coalescer.list(ownerId, TaskStatus.TODO, null, TagFilter.NONE, pageable, query());
+
+        // Then
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not share reads with different filters")
+    void shouldKeyByQuery() throws Exception {
+        // Given
+        List<Page<Task>> results = Collections.synchronizedList(new ArrayList<>());
+        startList(results);
+        await(firstQueryStarted);
+
+        // When
+        coalescer.list(ownerId, TaskStatus.DONE, null, TagFilter.NONE, pageable, query());
+        coalescer.list(ownerId, TaskStatus.TODO, null, TagFilter.NONE, PageRequest.of(1, 20), query());
+
+        // Then
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should pass the shared read's exception to every caller")
+    void shouldShareException() throws Exception {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        CompletableFuture<Task> leader = CompletableFuture.supplyAsync(() -> coalescer.get(taskId, ownerId, () -> {
+            firstQueryStarted.countDown();
+            await(releaseFirstQuery);
+            throw new ResourceNotFoundException("Task not found");
+        }));
+        await(firstQueryStarted);
+        AtomicInteger followerExecutions = new AtomicInteger();
+        AtomicReference<Throwable> followerFailure = new AtomicReference<>();
+        Thread follower = new Thread(() -> {
+            try {
+                coalescer.get(taskId, ownerId, () -> {
+                    followerExecutions.incrementAndGet();
+                    return new Task();
+                });
+            } catch (RuntimeException e) {
+                followerFailure.set(e);
+            }
+        });
+        follower.start();
+        waitUntilBlocked(follower);
+
+        // When
+        releaseFirstQuery.countDown();
+        follower.join(5000);
+
+        // Then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThat(followerFailure.get()).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(followerExecutions).hasValue(0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntilBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -1,25 +1,38 @@
 package com.taskmanager.api.task;
 
+import com.taskmanager.api.activity.FieldChange;
+import com.taskmanager.api.activity.TaskActivityAction;
+import com.taskmanager.api.activity.TaskActivityLog;
+import com.taskmanager.api.activity.TaskActivityRepository;
+import com.taskmanager.api.common.OwnerVersions;
 import com.taskmanager.api.common.exception.ResourceNotFoundException;
+import com.taskmanager.api.project.ProjectMemberships;
+import com.taskmanager.api.project.ProjectRole;
+import com.taskmanager.api.tag.TagCounts;
+import com.taskmanager.api.tag.TagFilter;
 import com.taskmanager.api.user.User;
 import com.taskmanager.api.user.UserRepository;
 import com.taskmanager.api.user.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,7 +51,18 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private TaskActivityLog activityLog;
+
+    @Mock
+    private TaskActivityRepository activityRepository;
+
+    @Mock
+    private TagCounts tagCounts;
+
+    @Mock
+    private ProjectMemberships memberships;
+
     private TaskService taskService;
 
     private User testUser;
@@ -48,7 +72,14 @@ class TaskServiceTest {
 
     @BeforeEach
     void setUp() {
+        OwnerVersions ownerVersions = new OwnerVersions(16);
+        TaskReadCoalescer readCoalescer = new TaskReadCoalescer(
+                ownerVersions, TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), true);
+        taskService = new TaskService(taskRepository, userRepository, readCoalescer, ownerVersions,
+                activityLog, activityRepository, tagCounts, memberships, 3);
+
         testUser = new User();
+        ReflectionTestUtils.setField(testUser, "id", userId);
         testUser.setEmail("test@example.com");
         testUser.setStatus(UserStatus.ACTIVE);
 
@@ -58,6 +89,9 @@ class TaskServiceTest {
         testTask.setDescription("Test Description");
         testTask.setStatus(TaskStatus.TODO);
         testTask.setPriority(TaskPriority.MEDIUM);
+
+        // The user's project roles are cached and they belong to no project
+        lenient().when(memberships.cachedProjectIds(any(), any())).thenReturn(Optional.of(Set.of()));
     }
 
     @Nested
@@ -136,7 +170,7 @@ class TaskServiceTest {
             when(taskRepository.findAllByOwnerId(userId, pageable)).thenReturn(taskPage);
 
             // When
-            Page<Task> result = taskService.getTasks(userId, null, null, pageable);
+            Page<Task> result = taskService.getTasks(userId, null, null, TagFilter.NONE, pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(1);
@@ -152,7 +186,7 @@ class TaskServiceTest {
                     .thenReturn(taskPage);
 
             // When
-            Page<Task> result = taskService.getTasks(userId, TaskStatus.TODO, null, pageable);
+            Page<Task> result = taskService.getTasks(userId, TaskStatus.TODO, null, TagFilter.NONE, pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(1);
@@ -168,7 +202,7 @@ class TaskServiceTest {
                     .thenReturn(taskPage);
 
             // When
-            Page<Task> result = taskService.getTasks(userId, null, TaskPriority.HIGH, pageable);
+            Page<Task> result = taskService.getTasks(userId, null, TaskPriority.HIGH, TagFilter.NONE, pageable);
 
             // Then
             verify(taskRepository).findAllByOwnerIdAndPriority(userId, TaskPriority.HIGH, pageable);
@@ -184,7 +218,7 @@ class TaskServiceTest {
                     .thenReturn(taskPage);
 
             // When
-            Page<Task> result = taskService.getTasks(userId, TaskStatus.TODO, TaskPriority.HIGH, pageable);
+            Page<Task> result = taskService.getTasks(userId, TaskStatus.TODO, TaskPriority.HIGH, TagFilter.NONE, pageable);
 
             // Then
             verify(taskRepository).findAllByOwnerIdAndStatusAndPriority(
@@ -220,6 +254,37 @@ class TaskServiceTest {
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Task not found");
         }
+
+        @Test
+        @DisplayName("should look up shared tasks with the cached project ids")
+        void shouldUseCachedProjectIds() {
+            // Given
+            Set<UUID> projectIds = Set.of(UUID.randomUUID());
+            when(memberships.cachedProjectIds(userId, ProjectRole.VIEWER)).thenReturn(Optional.of(projectIds));
+            when(taskRepository.findVisibleById(taskId, userId, projectIds)).thenReturn(Optional.of(testTask));
+
+            // When
+            Task result = taskService.getTaskById(taskId, userId);
+
+            // Then
+            assertThat(result).isEqualTo(testTask);
+        }
+
+        @Test
+        @DisplayName("should check membership in the lookup when project roles are not cached")
+        void shouldCheckMembershipWhenNotCached() {
+            // Given
+            when(memberships.cachedProjectIds(userId, ProjectRole.VIEWER)).thenReturn(Optional.empty());
+            when(taskRepository.findAccessibleById(taskId, userId, ProjectRole.VIEWER.andAbove()))
+                    .thenReturn(Optional.of(testTask));
+
+            // When
+            Task result = taskService.getTaskById(taskId, userId);
+
+            // Then
+            assertThat(result).isEqualTo(testTask);
+            verify(taskRepository, never()).findByIdAndOwnerId(any(), any());
+        }
     }
 
     @Nested
@@ -263,6 +328,65 @@ class TaskServiceTest {
             assertThat(result.getTitle()).isEqualTo("Test Task"); // unchanged
             assertThat(result.getStatus()).isEqualTo(TaskStatus.DONE); // updated
         }
+
+        @Test
+        @DisplayName("should record only the fields whose value changed")
+        void shouldRecordFieldDiff() {
+            // Given
+            UpdateTaskRequest request = new UpdateTaskRequest();
+            request.setTitle("Test Task"); // same as before
+            request.setStatus(TaskStatus.DONE);
+            request.setPriority(TaskPriority.HIGH);
+
+            when(taskRepository.findByIdAndOwnerId(taskId, userId)).thenReturn(Optional.of(testTask));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            taskService.updateTask(taskId, userId, request);
+
+            // Then
+            verify(activityLog).record(taskId, userId, TaskActivityAction.UPDATED, List.of(
+                    new FieldChange("status", "TODO", "DONE"),
+                    new FieldChange("priority", "MEDIUM", "HIGH")));
+        }
+
+        @Test
+        @DisplayName("should record nothing when no field changed")
+        void shouldNotRecordNoOpUpdate() {
+            // Given
+            UpdateTaskRequest request = new UpdateTaskRequest();
+            request.setStatus(TaskStatus.TODO);
+
+            when(taskRepository.findByIdAndOwnerId(taskId, userId)).thenReturn(Optional.of(testTask));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            taskService.updateTask(taskId, userId, request);
+
+            // Then
+            verifyNoInteractions(activityLog);
+        }
+
+        @Test
+        @DisplayName("should normalize tags and adjust counts by the tags added and removed")
+        void shouldAdjustTagCounts() {
+            // Given
+            testTask.setTags(List.of("home", "urgent"));
+            UpdateTaskRequest request = new UpdateTaskRequest();
+            request.setTags(List.of("Work", "urgent", "work "));
+
+            when(taskRepository.findByIdAndOwnerId(taskId, userId)).thenReturn(Optional.of(testTask));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            Task result = taskService.updateTask(taskId, userId, request);
+
+            // Then
+            assertThat(result.getTags()).containsExactly("urgent", "work");
+            verify(tagCounts).adjust(userId, List.of("work"), List.of("home"));
+            verify(activityLog).record(taskId, userId, TaskActivityAction.UPDATED, List.of(
+                    new FieldChange("tags", "home,urgent", "urgent,work")));
+        }
     }
 
     @Nested
@@ -282,7 +406,9 @@ class TaskServiceTest {
             // Then
             verify(taskRepository).save(testTask);
             assertThat(testTask.getStatus()).isEqualTo(TaskStatus.DELETED);
-            verify(taskRepository, never()).delete(any());
+            verify(taskRepository, never()).delete(any(Task.class));
+            verify(activityLog).record(taskId, userId, TaskActivityAction.DELETED,
+                    List.of(new FieldChange("status", "TODO", "DELETED")));
         }
 
         @Test
@@ -295,7 +421,140 @@ class TaskServiceTest {
             assertThatThrownBy(() -> taskService.deleteTask(taskId, userId))
                     .isInstanceOf(ResourceNotFoundException.class);
 
-            verify(taskRepository, never()).delete(any());
+            verify(taskRepository, never()).delete(any(Task.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getTaskHistory")
+    class GetTaskHistory {
+
+        @Test
+        @DisplayName("should throw exception when task not owned by user")
+        void shouldThrowWhenNotOwned() {
+            // Given
+            when(taskRepository.existsByIdAndOwnerId(taskId, userId)).thenReturn(false);
+
+            // When/Then
+            assertThatThrownBy(() -> taskService.getTaskHistory(taskId, userId, PageRequest.of(0, 20)))
+                    .isInstanceOf(ResourceNotFoundException.class);
+
+            verifyNoInteractions(activityRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("hierarchy")
+    class Hierarchy {
+
+        private final UUID parentId = UUID.randomUUID();
+
+        private List<String> ids(UUID... ids) {
+            return Arrays.stream(ids).map(UUID::toString).toList();
+        }
+
+        @Test
+        @DisplayName("should create a subtask under an owned parent")
+        void shouldCreateSubtask() {
+            // Given
+            CreateTaskRequest request = new CreateTaskRequest();
+            request.setTitle("Subtask");
+            request.setParentId(parentId);
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findAncestorIds(parentId, userId, 3)).thenReturn(ids(UUID.randomUUID(), parentId));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            Task result = taskService.createTask(userId, request);
+
+            // Then
+            assertThat(result.getParentId()).isEqualTo(parentId);
+        }
+
+        @Test
+        @DisplayName("should reject a subtask deeper than the maximum depth")
+        void shouldRejectTooDeep() {
+            // Given - the parent is at depth 3, the maximum
+            CreateTaskRequest request = new CreateTaskRequest();
+            request.setTitle("Too deep");
+            request.setParentId(parentId);
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findAncestorIds(parentId, userId, 3))
+                    .thenReturn(ids(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), parentId));
+
+            // When/Then
+            assertThatThrownBy(() -> taskService.createTask(userId, request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("3 levels");
+            verify(taskRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should throw exception when parent not found or not owned")
+        void shouldThrowWhenParentNotFound() {
+            // Given
+            CreateTaskRequest request = new CreateTaskRequest();
+            request.setTitle("Orphan");
+            request.setParentId(parentId);
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findAncestorIds(parentId, userId, 3)).thenReturn(List.of());
+
+            // When/Then
+            assertThatThrownBy(() -> taskService.createTask(userId, request))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Parent task not found");
+        }
+
+        @Test
+        @DisplayName("should reject moving a task under its own subtask")
+        void shouldRejectCycle() {
+            // Given - parentId is a child of taskId
+            when(userRepository.lockById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findByIdAndOwnerId(taskId, userId)).thenReturn(Optional.of(testTask));
+            when(taskRepository.findSubtreeHeight(taskId, userId, 3)).thenReturn(1);
+            when(taskRepository.findAncestorIds(parentId, userId, 3)).thenReturn(ids(taskId, parentId));
+
+            // When/Then
+            assertThatThrownBy(() -> taskService.moveTask(taskId, userId, parentId))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cannot be moved under itself");
+            assertThat(testTask.getParentId()).isNull();
+        }
+
+        @Test
+        @DisplayName("should count the moved subtask's own depth against the limit")
+        void shouldRejectMoveTooDeep() {
+            // Given - parent at depth 1, moved task has two levels below it: deepest would land at depth 4
+            when(userRepository.lockById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findByIdAndOwnerId(taskId, userId)).thenReturn(Optional.of(testTask));
+            when(taskRepository.findSubtreeHeight(taskId, userId, 3)).thenReturn(2);
+            when(taskRepository.findAncestorIds(parentId, userId, 3)).thenReturn(ids(UUID.randomUUID(), parentId));
+
+            // When/Then
+            assertThatThrownBy(() -> taskService.moveTask(taskId, userId, parentId))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("should make a task top-level without hierarchy checks")
+        void shouldMoveToTopLevel() {
+            // Given
+            testTask.setParentId(parentId);
+            when(userRepository.lockById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findByIdAndOwnerId(taskId, userId)).thenReturn(Optional.of(testTask));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            Task result = taskService.moveTask(taskId, userId, null);
+
+            // Then
+            assertThat(result.getParentId()).isNull();
+            verify(taskRepository, never()).findAncestorIds(any(), any(), anyInt());
+            verify(activityLog).record(taskId, userId, TaskActivityAction.UPDATED,
+                    List.of(new FieldChange("parentId", parentId.toString(), null)));
         }
     }
 }
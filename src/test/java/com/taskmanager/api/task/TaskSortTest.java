@@ -0,0 +1,51 @@
+package com.taskmanager.api.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TaskSort")
+class TaskSortTest {
+
+    @Test
+    @DisplayName("should translate a supported sort and add the id tiebreaker in the same direction")
+    void shouldAddTiebreaker() {
+        Pageable page = TaskSort.pageRequest(PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "priority")));
+
+        assertThat(page.getPageNumber()).isEqualTo(2);
+        assertThat(page.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "priorityRank", "id"));
+    }
+
+    @Test
+    @DisplayName("should default to newest first and cap the page size")
+    void shouldDefaultAndCap() {
+        Pageable page = TaskSort.pageRequest(PageRequest.of(0, 2000));
+
+        assertThat(page.getPageSize()).isEqualTo(TaskSort.MAX_PAGE_SIZE);
+        assertThat(page.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+    }
+
+    @Test
+    @DisplayName("should reject unsupported or multiple sort properties")
+    void shouldRejectUnsupportedSorts() {
+        assertThatThrownBy(() -> TaskSort.pageRequest(PageRequest.of(0, 20, Sort.by("description"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported sort property: description; supported: createdAt, updatedAt, dueDate, priority");
+        assertThatThrownBy(() -> TaskSort.pageRequest(PageRequest.of(0, 20, Sort.by("createdAt", "dueDate"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        // Entity property names are not accepted in place of the parameter names
+        assertThatThrownBy(() -> TaskSort.pageRequest(PageRequest.of(0, 20, Sort.by("priorityRank"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskSort.pageRequest(PageRequest.of(0, 20, Sort.by("dueDate")),
+                EnumSet.of(TaskSort.CREATED_AT)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageEndingWith("supported: createdAt");
+    }
+}
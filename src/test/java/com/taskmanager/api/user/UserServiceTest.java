@@ -1,5 +1,6 @@
 package com.taskmanager.api.user;
 
+import com.taskmanager.api.security.TokenEpochs;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Optional;
@@ -26,9 +28,15 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserRegistrations registrations;
+
     @Mock
     private BCryptPasswordEncoder encoder;
 
+    @Mock
+    private ObjectProvider<TokenEpochs> tokenEpochs;
+
     @InjectMocks
     private UserService userService;
 
@@ -55,25 +63,22 @@ class UserServiceTest {
         @DisplayName("should register new user successfully")
         void shouldRegisterNewUser() {
             // Given
-            when(userRepository.existsByEmail(anyString())).thenReturn(false);
             when(encoder.encode(testPassword)).thenReturn(hashedPassword);
-            when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
-                User user = invocation.getArgument(0);
-                return user;
-            });
+            when(registrations.insert(any(), anyString(), anyString(), any(), any())).thenReturn(true);
 
             // When
             User result = userService.register(testEmail, testPassword);
 
             // Then
+            assertThat(result.getId()).isNotNull();
             assertThat(result.getEmail()).isEqualTo(testEmail.toLowerCase());
             assertThat(result.getPasswordHash()).isEqualTo(hashedPassword);
             assertThat(result.getStatus()).isEqualTo(UserStatus.ACTIVE);
-            assertThat(result.getRoles()).contains(Role.USER);
+            assertThat(result.getRoles()).containsExactly(Role.USER);
+            assertThat(result.getCreatedAt()).isNotNull().isEqualTo(result.getUpdatedAt());
 
-            verify(userRepository).existsByEmail(testEmail.toLowerCase());
-            verify(encoder).encode(testPassword);
-            verify(userRepository).save(any(User.class));
+            verify(registrations).insert(result.getId(), testEmail, hashedPassword, Role.USER, result.getCreatedAt());
+            verifyNoInteractions(userRepository);
         }
 
         @Test
@@ -81,29 +86,28 @@ class UserServiceTest {
         void shouldNormalizeEmail() {
             // Given
             String upperCaseEmail = "TEST@EXAMPLE.COM";
-            when(userRepository.existsByEmail(anyString())).thenReturn(false);
             when(encoder.encode(anyString())).thenReturn(hashedPassword);
-            when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
+            when(registrations.insert(any(), anyString(), anyString(), any(), any())).thenReturn(true);
 
             // When
             User result = userService.register(upperCaseEmail, testPassword);
 
             // Then
             assertThat(result.getEmail()).isEqualTo(upperCaseEmail.toLowerCase());
+            verify(registrations).insert(any(), eq(upperCaseEmail.toLowerCase()), anyString(), any(), any());
         }
 
         @Test
         @DisplayName("should throw exception when email already exists")
         void shouldThrowWhenEmailExists() {
             // Given
-            when(userRepository.existsByEmail(anyString())).thenReturn(true);
+            when(encoder.encode(anyString())).thenReturn(hashedPassword);
+            when(registrations.insert(any(), anyString(), anyString(), any(), any())).thenReturn(false);
 
             // When/Then
             assertThatThrownBy(() -> userService.register(testEmail, testPassword))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("Email already exists");
-
-            verify(userRepository, never()).save(any());
         }
     }
 
@@ -0,0 +1,3 @@
+-- Run by Hibernate after it creates the test schema: what the Flyway migrations add beyond the entities
+-- Emails are stored lower-cased, so a plain unique index stands in for ux_users_email_lower (H2 has no expression indexes)
+CREATE UNIQUE INDEX ux_users_email_lower ON users (email);